@@ -31,6 +31,7 @@ import javax.annotation.Nullable;
 import java.util.Collection;
 import java.util.Set;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.collect.Collections2.transform;
 import static com.google.common.collect.Sets.newHashSet;
@@ -101,6 +102,14 @@ public final class QueryBuilder {
     @Nullable
     private Set<String> fieldMask;
 
+    @Nullable
+    private OrderBy orderBy;
+
+    private int limit;
+
+    @Nullable
+    private String continuationToken;
+
     QueryBuilder(Class<? extends Message> targetType, QueryFactory queryFactory) {
         this.targetType = checkNotNull(targetType);
         this.queryFactory = checkNotNull(queryFactory);
@@ -301,6 +310,59 @@ public final class QueryBuilder {
         return this;
     }
 
+    /**
+     * Sets the entity column to order the query results by.
+     *
+     * <p>The results with no value of the column go after all the others regardless
+     * the direction.
+     *
+     * @param column    the name of the entity column
+     * @param direction the direction of the ordering
+     * @return self for method chaining
+     */
+    public QueryBuilder orderBy(String column, OrderBy.Direction direction) {
+        checkNotNull(column);
+        checkNotNull(direction);
+        checkArgument(!column.isEmpty(), "The column name must not be empty.");
+        this.orderBy = OrderBy.newBuilder()
+                              .setColumn(column)
+                              .setDirection(direction)
+                              .build();
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of the results returned in a single {@link QueryResponse}.
+     *
+     * <p>If there are more results, the response contains a
+     * {@linkplain QueryResponse#getContinuationToken() continuation token} to fetch
+     * the next portion of them.
+     *
+     * @param limit the maximum number of the results, zero meaning no limit
+     * @return self for method chaining
+     */
+    public QueryBuilder limit(int limit) {
+        checkArgument(limit >= 0, "The limit must not be negative.");
+        this.limit = limit;
+        return this;
+    }
+
+    /**
+     * Sets the continuation token returned by the previous {@link QueryResponse}.
+     *
+     * <p>The query must have the same target, ordering and limit as the one which
+     * returned the token.
+     *
+     * @param continuationToken the continuation token
+     * @return self for method chaining
+     * @see QueryFactory#nextPage(Query, QueryResponse)
+     */
+    public QueryBuilder continueFrom(String continuationToken) {
+        checkNotNull(continuationToken);
+        this.continuationToken = continuationToken;
+        return this;
+    }
+
     /**
      * Generates a new instance of {@link Query} regarding all the set parameters.
      *
@@ -311,10 +373,26 @@ public final class QueryBuilder {
         // Implying AnyPacker.pack to be idempotent
         final Set<Any> entityIds = composeIdPredicate();
 
-        final Query result = queryFactory.composeQuery(targetType, entityIds, columns, mask);
+        final Query query = queryFactory.composeQuery(targetType, entityIds, columns, mask);
+        final Query result = withPaging(query);
         return result;
     }
 
+    private Query withPaging(Query query) {
+        if (orderBy == null && limit == 0 && continuationToken == null) {
+            return query;
+        }
+        final Query.Builder builder = query.toBuilder()
+                                           .setLimit(limit);
+        if (orderBy != null) {
+            builder.setOrderBy(orderBy);
+        }
+        if (continuationToken != null) {
+            builder.setContinuationToken(continuationToken);
+        }
+        return builder.build();
+    }
+
     @Nullable
     private FieldMask composeMask() {
         if (fieldMask == null || fieldMask.isEmpty()) {
@@ -370,7 +448,22 @@ public final class QueryBuilder {
             sb.append("AND columns: ")
               .append(columns);
         }
-        sb.append(");");
+        sb.append(')');
+        if (orderBy != null) {
+            sb.append(" ORDER BY ")
+              .append(orderBy.getColumn())
+              .append(' ')
+              .append(orderBy.getDirection());
+        }
+        if (limit > 0) {
+            sb.append(" LIMIT ")
+              .append(limit);
+        }
+        if (continuationToken != null) {
+            sb.append(" CONTINUE FROM ")
+              .append(continuationToken);
+        }
+        sb.append(';');
         return sb.toString();
     }
 }
@@ -173,6 +173,32 @@ public final class QueryFactory {
         return composeQuery(entityClass, null, null, null);
     }
 
+    /**
+     * Creates a {@link Query} to fetch the next portion of the results of the given query.
+     *
+     * <p>The created query has the same target, field mask, ordering and limit as
+     * the {@code previous} one.
+     *
+     * @param previous the query which returned the {@code response}
+     * @param response the response containing the continuation token
+     * @return an instance of {@code Query} fetching the next portion of the results
+     * @throws IllegalArgumentException if the {@code response} has no continuation token,
+     *                                  i.e. there are no more results
+     */
+    public Query nextPage(Query previous, QueryResponse response) {
+        checkNotNull(previous);
+        checkNotNull(response);
+        final String token = response.getContinuationToken();
+        checkArgument(!token.isEmpty(), "The query response has no continuation token.");
+
+        final Query result = previous.toBuilder()
+                                     .setId(newQueryId())
+                                     .setContext(actorContext)
+                                     .setContinuationToken(token)
+                                     .build();
+        return result;
+    }
+
     Query composeQuery(Class<? extends Message> entityClass,
                        @Nullable Set<? extends Message> ids,
                        @Nullable Set<CompositeColumnFilter> columnFilters,
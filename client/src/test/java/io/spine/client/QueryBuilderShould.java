@@ -369,6 +369,43 @@ public class QueryBuilderShould extends ActorRequestFactoryShould {
         assertThat(maskFields, contains(arrayFields));
     }
 
+    @Test
+    public void create_queries_with_order_and_limit() {
+        final String column = "firstField";
+        final int limit = 10;
+        final Query query = factory().query()
+                                     .select(TestEntity.class)
+                                     .orderBy(column, OrderBy.Direction.DESCENDING)
+                                     .limit(limit)
+                                     .build();
+        assertNotNull(query);
+
+        final OrderBy orderBy = query.getOrderBy();
+        assertEquals(column, orderBy.getColumn());
+        assertEquals(OrderBy.Direction.DESCENDING, orderBy.getDirection());
+        assertEquals(limit, query.getLimit());
+        assertTrue(query.getContinuationToken()
+                        .isEmpty());
+    }
+
+    @Test
+    public void create_queries_continuing_from_token() {
+        final String token = "42";
+        final Query query = factory().query()
+                                     .select(TestEntity.class)
+                                     .limit(5)
+                                     .continueFrom(token)
+                                     .build();
+        assertEquals(token, query.getContinuationToken());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void not_accept_negative_limit() {
+        factory().query()
+                 .select(TestEntity.class)
+                 .limit(-1);
+    }
+
     @Test
     public void support_toString() {
         final Class<? extends Message> testEntityClass = TestEntity.class;
@@ -196,6 +196,33 @@ public class QueryFactoryShould extends ActorRequestFactoryShould {
         checkIdQueriesEqual(fromFactory, fromBuilder);
     }
 
+    @Test
+    public void compose_query_for_next_page() {
+        final Query firstPage = factory().query()
+                                         .select(TARGET_ENTITY_CLASS)
+                                         .limit(10)
+                                         .build();
+        final String token = "10";
+        final QueryResponse response = QueryResponse.newBuilder()
+                                                    .setContinuationToken(token)
+                                                    .build();
+        final Query nextPage = factory().query()
+                                        .nextPage(firstPage, response);
+
+        assertNotEquals(firstPage.getId(), nextPage.getId());
+        assertEquals(firstPage.getTarget(), nextPage.getTarget());
+        assertEquals(firstPage.getLimit(), nextPage.getLimit());
+        assertEquals(token, nextPage.getContinuationToken());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void not_compose_next_page_query_if_no_more_results() {
+        final Query query = factory().query()
+                                     .all(TARGET_ENTITY_CLASS);
+        factory().query()
+                 .nextPage(query, QueryResponse.getDefaultInstance());
+    }
+
     private static void checkIdQueriesEqual(Query query1, Query query2) {
         assertNotEquals(query1.getId(), query2.getId());
 
@@ -21,6 +21,8 @@ package io.spine.core;
 
 import com.google.protobuf.Message;
 
+import javax.annotation.Nullable;
+
 import static com.google.common.base.Preconditions.checkNotNull;
 
 /**
@@ -38,8 +40,16 @@ public class RejectionEnvelope
     /** The class of the rejection. */
     private final RejectionClass rejectionClass;
 
-    /** The message of a {@link Command}, processing of which triggered the rejection. */
-    private final Message commandMessage;
+    /**
+     * The message of a {@link Command}, processing of which triggered the rejection.
+     *
+     * <p>Is unpacked on the first {@linkplain #getCommandMessage() request}, as only some of
+     * the rejection handlers need it. The field is {@code volatile}, so that the message is
+     * safely published to other threads. Concurrent first requests may unpack the message more
+     * than once, which is harmless, as the unpacked messages are equal.
+     */
+    @Nullable
+    private volatile Message commandMessage;
 
     /** The context of a {@link Command}, which processing triggered the rejection. */
     private final CommandContext commandContext;
@@ -49,9 +59,8 @@ public class RejectionEnvelope
         this.rejectionMessage = Rejections.getMessage(rejection);
         this.rejectionClass = RejectionClass.of(rejectionMessage);
         final RejectionContext context = rejection.getContext();
-        final Command command = context.getCommand();
-        this.commandMessage = Commands.getMessage(command);
-        this.commandContext = command.getContext();
+        this.commandContext = context.getCommand()
+                                     .getContext();
     }
 
     /**
@@ -109,8 +118,19 @@ public class RejectionEnvelope
         builder.setRejectionContext(getOuterObject().getContext());
     }
 
+    /**
+     * Obtains the message of the command which triggered the rejection.
+     *
+     * <p>The message is unpacked once per envelope.
+     */
     public Message getCommandMessage() {
-        return commandMessage;
+        Message result = commandMessage;
+        if (result == null) {
+            final Command command = getRejectionContext().getCommand();
+            result = Commands.getMessage(command);
+            commandMessage = result;
+        }
+        return result;
     }
 
     public CommandContext getCommandContext() {
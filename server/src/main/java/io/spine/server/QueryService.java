@@ -35,6 +35,8 @@ import org.slf4j.LoggerFactory;
 import java.util.Map;
 import java.util.Set;
 
+import static com.google.common.base.Preconditions.checkArgument;
+
 /**
  * The {@code QueryService} provides a synchronous way to fetch read-side state from the server.
  *
@@ -44,11 +46,18 @@ import java.util.Set;
  */
 public class QueryService extends QueryServiceGrpc.QueryServiceImplBase {
 
+    /**
+     * The default maximum number of the results sent in a single streamed response.
+     */
+    private static final int DEFAULT_STREAM_CHUNK_SIZE = 100;
+
     private final ImmutableMap<TypeUrl, BoundedContext> typeToContextMap;
+    private final int streamChunkSize;
 
-    private QueryService(Map<TypeUrl, BoundedContext> map) {
+    private QueryService(Map<TypeUrl, BoundedContext> map, int streamChunkSize) {
         super();
         this.typeToContextMap = ImmutableMap.copyOf(map);
+        this.streamChunkSize = streamChunkSize;
     }
 
     public static Builder newBuilder() {
@@ -72,8 +81,33 @@ public class QueryService extends QueryServiceGrpc.QueryServiceImplBase {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The results are read from the storage as the client consumes them, respecting
+     * the gRPC flow control. Each response contains up to the
+     * {@linkplain Builder#setStreamChunkSize(int) configured} number of the results.
+     */
+    @SuppressWarnings("MethodDoesntCallSuperMethod")
+        // as we override default implementation with `unimplemented` status.
+    @Override
+    public void readStream(Query query, StreamObserver<QueryResponse> responseObserver) {
+        log().debug("Incoming streaming query: {}", query);
+
+        final TypeUrl type = Queries.typeOf(query);
+        final BoundedContext boundedContext = typeToContextMap.get(type);
+        final Stand stand = boundedContext.getStand();
+        try {
+            stand.stream(query, streamChunkSize, responseObserver);
+        } catch (@SuppressWarnings("OverlyBroadCatchBlock") Exception e) {
+            log().error("Error processing streaming query", e);
+            responseObserver.onError(e);
+        }
+    }
+
     public static class Builder {
         private final Set<BoundedContext> boundedContexts = Sets.newHashSet();
+        private int streamChunkSize = DEFAULT_STREAM_CHUNK_SIZE;
 
         public Builder add(BoundedContext boundedContext) {
             // Save it to a temporary set so that it is easy to remove it if needed.
@@ -90,6 +124,22 @@ public class QueryService extends QueryServiceGrpc.QueryServiceImplBase {
             return boundedContexts.contains(boundedContext);
         }
 
+        /**
+         * Sets the maximum number of the results sent in a single response of
+         * a {@linkplain QueryService#readStream(Query, StreamObserver) streaming read}.
+         *
+         * <p>If not set, up to 100 results are sent in a single response.
+         */
+        public Builder setStreamChunkSize(int streamChunkSize) {
+            checkArgument(streamChunkSize > 0, "The chunk size must be positive.");
+            this.streamChunkSize = streamChunkSize;
+            return this;
+        }
+
+        public int getStreamChunkSize() {
+            return streamChunkSize;
+        }
+
         /**
          * Builds the {@link QueryService}.
          *
@@ -101,7 +151,7 @@ public class QueryService extends QueryServiceGrpc.QueryServiceImplBase {
                 throw new IllegalStateException(message);
             }
             final ImmutableMap<TypeUrl, BoundedContext> map = createMap();
-            final QueryService result = new QueryService(map);
+            final QueryService result = new QueryService(map, streamChunkSize);
             return result;
         }
 
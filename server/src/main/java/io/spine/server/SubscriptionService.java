@@ -26,6 +26,7 @@ import com.google.common.collect.Sets;
 import io.grpc.stub.StreamObserver;
 import io.spine.client.EntityStateUpdate;
 import io.spine.client.Subscription;
+import io.spine.client.SubscriptionId;
 import io.spine.client.SubscriptionUpdate;
 import io.spine.client.Target;
 import io.spine.client.Topic;
@@ -33,15 +34,24 @@ import io.spine.client.grpc.SubscriptionServiceGrpc;
 import io.spine.core.Response;
 import io.spine.core.Responses;
 import io.spine.grpc.StreamObservers;
+import io.spine.server.stand.CoalescingUpdateCallback;
 import io.spine.server.stand.Stand;
 import io.spine.type.TypeUrl;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.Maps.newConcurrentMap;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 
 /**
  * The {@code SubscriptionService} provides an asynchronous way to fetch read-side state
@@ -56,9 +66,25 @@ import static com.google.common.base.Preconditions.checkNotNull;
 public class SubscriptionService extends SubscriptionServiceGrpc.SubscriptionServiceImplBase {
     private final ImmutableMap<TypeUrl, BoundedContext> typeToContextMap;
 
-    private SubscriptionService(Map<TypeUrl, BoundedContext> map) {
+    /**
+     * The executor to schedule the flushes of the coalesced updates or {@code null} if
+     * the updates are sent one by one.
+     */
+    @Nullable
+    private final ScheduledExecutorService updateScheduler;
+    private final long updateWindowNanos;
+
+    /** The callbacks coalescing the updates by the IDs of the active subscriptions. */
+    private final ConcurrentMap<SubscriptionId, CoalescingUpdateCallback> coalescingCallbacks =
+            newConcurrentMap();
+
+    private SubscriptionService(Map<TypeUrl, BoundedContext> map, Builder builder) {
         super();
         this.typeToContextMap = ImmutableMap.copyOf(map);
+        this.updateWindowNanos = builder.updateWindowNanos;
+        this.updateScheduler = updateWindowNanos > 0
+                               ? builder.updateScheduler
+                               : null;
     }
 
     public static Builder newBuilder() {
@@ -89,19 +115,8 @@ public class SubscriptionService extends SubscriptionServiceGrpc.SubscriptionSer
         try {
             final BoundedContext boundedContext = selectBoundedContext(subscription);
 
-            final Stand.EntityUpdateCallback updateCallback = new Stand.EntityUpdateCallback() {
-                @Override
-                public void onStateChanged(EntityStateUpdate stateUpdate) {
-                    checkNotNull(subscription);
-                    final SubscriptionUpdate update =
-                            SubscriptionUpdate.newBuilder()
-                                              .setSubscription(subscription)
-                                              .setResponse(Responses.ok())
-                                              .addEntityStateUpdates(stateUpdate)
-                                              .build();
-                    responseObserver.onNext(update);
-                }
-            };
+            final Stand.EntityUpdateCallback updateCallback =
+                    updateCallback(subscription, responseObserver);
             final Stand targetStand = boundedContext.getStand();
             targetStand.activate(subscription,
                                  updateCallback,
@@ -112,10 +127,56 @@ public class SubscriptionService extends SubscriptionServiceGrpc.SubscriptionSer
         }
     }
 
+    private Stand.EntityUpdateCallback updateCallback(
+            final Subscription subscription,
+            final StreamObserver<SubscriptionUpdate> responseObserver) {
+        checkNotNull(subscription);
+        if (updateScheduler == null) {
+            return new Stand.EntityUpdateCallback() {
+                @Override
+                public void onStateChanged(EntityStateUpdate stateUpdate) {
+                    sendUpdate(subscription, ImmutableList.of(stateUpdate), responseObserver);
+                }
+            };
+        }
+        final CoalescingUpdateCallback.BatchCallback batchCallback =
+                new CoalescingUpdateCallback.BatchCallback() {
+                    @Override
+                    public void onStatesChanged(List<EntityStateUpdate> updates) {
+                        sendUpdate(subscription, updates, responseObserver);
+                    }
+                };
+        final CoalescingUpdateCallback result =
+                CoalescingUpdateCallback.newInstance(batchCallback, updateScheduler,
+                                                     updateWindowNanos, NANOSECONDS);
+        final CoalescingUpdateCallback previous =
+                coalescingCallbacks.put(subscription.getId(), result);
+        if (previous != null) {
+            previous.cancel();
+        }
+        return result;
+    }
+
+    private static void sendUpdate(Subscription subscription,
+                                   Iterable<EntityStateUpdate> stateUpdates,
+                                   StreamObserver<SubscriptionUpdate> responseObserver) {
+        final SubscriptionUpdate update = SubscriptionUpdate.newBuilder()
+                                                            .setSubscription(subscription)
+                                                            .setResponse(Responses.ok())
+                                                            .addAllEntityStateUpdates(stateUpdates)
+                                                            .build();
+        responseObserver.onNext(update);
+    }
+
     @Override
     public void cancel(Subscription subscription, StreamObserver<Response> responseObserver) {
         log().debug("Incoming cancel request for the subscription topic: {}", subscription);
 
+        final CoalescingUpdateCallback callback =
+                coalescingCallbacks.remove(subscription.getId());
+        if (callback != null) {
+            callback.cancel();
+        }
         final BoundedContext boundedContext = selectBoundedContext(subscription);
         try {
             final Stand stand = boundedContext.getStand();
@@ -140,6 +201,9 @@ public class SubscriptionService extends SubscriptionServiceGrpc.SubscriptionSer
 
     public static class Builder {
         private final Set<BoundedContext> boundedContexts = Sets.newHashSet();
+        private long updateWindowNanos;
+        @Nullable
+        private ScheduledExecutorService updateScheduler;
 
         public Builder add(BoundedContext boundedContext) {
             // Save it to a temporary set so that it is easy to remove it if needed.
@@ -157,18 +221,62 @@ public class SubscriptionService extends SubscriptionServiceGrpc.SubscriptionSer
             return ImmutableList.copyOf(boundedContexts);
         }
 
+        /**
+         * Enables the coalescing of the subscription updates.
+         *
+         * <p>If set, the entity updates matching a subscription are collected during
+         * the given window and sent as a single {@code SubscriptionUpdate}. If an entity is
+         * updated several times within the window, only its latest state is sent.
+         *
+         * <p>If not set, each entity update is sent in a separate {@code SubscriptionUpdate}.
+         *
+         * <p>The {@linkplain #setUpdateScheduler(ScheduledExecutorService) update scheduler}
+         * must be set along with the window.
+         *
+         * @param window the length of the window to collect the updates during
+         * @param unit   the time unit of the {@code window}
+         * @return this instance of {@code Builder}
+         * @see CoalescingUpdateCallback
+         */
+        public Builder setUpdateWindow(long window, TimeUnit unit) {
+            checkArgument(window >= 0, "The window must not be negative.");
+            checkNotNull(unit);
+            this.updateWindowNanos = unit.toNanos(window);
+            return this;
+        }
+
+        /**
+         * Sets the executor to schedule the sending of the coalesced updates.
+         *
+         * <p>The executor must be set if the {@linkplain #setUpdateWindow(long, TimeUnit)
+         * update window} is set. The caller owns the executor and is responsible for
+         * shutting it down.
+         *
+         * @param scheduler the executor to schedule the updates with
+         * @return this instance of {@code Builder}
+         */
+        public Builder setUpdateScheduler(ScheduledExecutorService scheduler) {
+            this.updateScheduler = checkNotNull(scheduler);
+            return this;
+        }
+
         /**
          * Builds the {@link SubscriptionService}.
          *
-         * @throws IllegalStateException if no bounded contexts were added.
+         * @throws IllegalStateException if no bounded contexts were added, or if the update
+         *                               window is set without the update scheduler
          */
         public SubscriptionService build() throws IllegalStateException {
             if (boundedContexts.isEmpty()) {
                 throw new IllegalStateException(
                         "Subscription service must have at least one bounded context.");
             }
+            if (updateWindowNanos > 0 && updateScheduler == null) {
+                throw new IllegalStateException(
+                        "The update scheduler must be set along with the update window.");
+            }
             final ImmutableMap<TypeUrl, BoundedContext> map = createMap();
-            final SubscriptionService result = new SubscriptionService(map);
+            final SubscriptionService result = new SubscriptionService(map, this);
             return result;
         }
 
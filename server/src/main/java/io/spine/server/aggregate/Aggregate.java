@@ -370,6 +370,18 @@ public abstract class Aggregate<I,
         return uncommittedEvents.size();
     }
 
+    /**
+     * Drops the uncommitted events added after the given number of events.
+     *
+     * <p>Used to discard the events of a command whose transaction failed.
+     *
+     * @param countToKeep the number of the earliest uncommitted events to keep
+     */
+    void discardUncommittedEvents(int countToKeep) {
+        uncommittedEvents.subList(countToKeep, uncommittedEvents.size())
+                         .clear();
+    }
+
     /**
      * Returns and clears all the events that were uncommitted before the call of this method.
      *
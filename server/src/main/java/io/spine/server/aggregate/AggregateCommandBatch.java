@@ -0,0 +1,205 @@
+/*
+ * Copyright 2018, TeamDev Ltd. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.aggregate;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.protobuf.Message;
+import io.spine.core.CommandEnvelope;
+import io.spine.core.CommandId;
+import io.spine.core.TenantId;
+import io.spine.server.entity.LifecycleFlags;
+import io.spine.server.tenant.TenantAwareOperation;
+import io.spine.string.Stringifiers;
+
+import java.util.List;
+import java.util.Map;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static com.google.common.collect.Maps.newLinkedHashMap;
+import static io.spine.util.Exceptions.newIllegalStateException;
+
+/**
+ * Dispatches a batch of commands to aggregates of the associated {@code AggregateRepository}.
+ *
+ * <p>The commands are grouped by the tenant and by the target aggregate ID. Each aggregate
+ * is loaded once, handles its commands in the order of the batch, and is stored once.
+ *
+ * <p>Every command is applied in its own {@linkplain AggregateTransaction transaction}, so that
+ * the next command is handled against the state produced by the previous one, and a failure of
+ * one command does not affect the others. The events of a failed command are discarded.
+ *
+ * @param <I> the type of the aggregate IDs
+ * @param <A> the type of the aggregates managed by the parent repository
+ * @author Dmytry Dyachenko
+ */
+final class AggregateCommandBatch<I, A extends Aggregate<I, ?, ?>> {
+
+    private final AggregateRepository<I, A> repository;
+    private final List<CommandEnvelope> commands;
+    private final Map<CommandId, RuntimeException> errors = newLinkedHashMap();
+
+    private AggregateCommandBatch(AggregateRepository<I, A> repository,
+                                  List<CommandEnvelope> commands) {
+        this.repository = repository;
+        this.commands = commands;
+    }
+
+    /**
+     * Dispatches the passed commands to the aggregates of the repository.
+     *
+     * @return the errors mapped to the IDs of the commands which caused them
+     */
+    static <I, A extends Aggregate<I, ?, ?>>
+    Map<CommandId, RuntimeException> handle(AggregateRepository<I, A> repository,
+                                            List<CommandEnvelope> commands) {
+        final AggregateCommandBatch<I, A> batch = new AggregateCommandBatch<>(repository,
+                                                                             commands);
+        return batch.dispatch();
+    }
+
+    private Map<CommandId, RuntimeException> dispatch() {
+        final Map<TenantId, Map<I, List<CommandEnvelope>>> byTenant = group();
+        for (Map.Entry<TenantId, Map<I, List<CommandEnvelope>>> entry : byTenant.entrySet()) {
+            final TenantId tenantId = entry.getKey();
+            final Map<I, List<CommandEnvelope>> byTarget = entry.getValue();
+            final TenantAwareOperation operation = new TenantAwareOperation(tenantId) {
+                @Override
+                public void run() {
+                    for (Map.Entry<I, List<CommandEnvelope>> target : byTarget.entrySet()) {
+                        deliverTo(tenantId, target.getKey(), target.getValue());
+                    }
+                }
+            };
+            operation.run();
+        }
+        return ImmutableMap.copyOf(errors);
+    }
+
+    /**
+     * Groups the commands by the tenant and by the target aggregate ID preserving the order
+     * of the commands.
+     */
+    private Map<TenantId, Map<I, List<CommandEnvelope>>> group() {
+        final Map<TenantId, Map<I, List<CommandEnvelope>>> result = newLinkedHashMap();
+        for (CommandEnvelope command : commands) {
+            final I id;
+            try {
+                id = repository.getCommandRouting()
+                               .apply(command.getMessage(), command.getCommandContext());
+            } catch (RuntimeException e) {
+                errors.put(command.getId(), e);
+                continue;
+            }
+            final TenantId tenantId = command.getTenantId();
+            Map<I, List<CommandEnvelope>> byTarget = result.get(tenantId);
+            if (byTarget == null) {
+                byTarget = newLinkedHashMap();
+                result.put(tenantId, byTarget);
+            }
+            List<CommandEnvelope> targetCommands = byTarget.get(id);
+            if (targetCommands == null) {
+                targetCommands = newArrayList();
+                byTarget.put(id, targetCommands);
+            }
+            targetCommands.add(command);
+        }
+        return result;
+    }
+
+    /**
+     * Loads the aggregate with the passed ID, dispatches the commands to it, and stores
+     * the aggregate if it was modified.
+     */
+    private void deliverTo(TenantId tenantId, I aggregateId, List<CommandEnvelope> targetCommands) {
+        final AggregateEndpointDelivery<I, A, CommandEnvelope> delivery =
+                repository.getCommandEndpointDelivery();
+        final List<CommandEnvelope> toDeliver = newArrayList();
+        for (CommandEnvelope command : targetCommands) {
+            if (!delivery.shouldPostpone(aggregateId, command)) {
+                toDeliver.add(command);
+            }
+        }
+        if (toDeliver.isEmpty()) {
+            return;
+        }
+
+        final A aggregate;
+        try {
+            aggregate = repository.loadOrCreate(aggregateId);
+        } catch (RuntimeException e) {
+            for (CommandEnvelope command : toDeliver) {
+                onError(command, e);
+            }
+            return;
+        }
+        final LifecycleFlags flagsBefore = aggregate.getLifecycleFlags();
+        for (CommandEnvelope command : toDeliver) {
+            final int eventsBefore = aggregate.uncommittedEventsCount();
+            try {
+                dispatchTo(aggregate, command);
+            } catch (RuntimeException e) {
+                // Events of the failed command must be neither stored nor posted.
+                aggregate.discardUncommittedEvents(eventsBefore);
+                onError(command, e);
+            }
+        }
+
+        final LifecycleFlags flagsAfter = aggregate.getLifecycleFlags();
+        if (flagsAfter != null && !flagsBefore.equals(flagsAfter)) {
+            repository.aggregateStorage()
+                      .writeLifecycleFlags(aggregateId, flagsAfter);
+        }
+        if (!aggregate.getUncommittedEvents()
+                      .isEmpty()) {
+            repository.onModifiedAggregate(tenantId, aggregate);
+        }
+    }
+
+    private void dispatchTo(A aggregate, CommandEnvelope command) {
+        final List<? extends Message> eventMessages = aggregate.dispatchCommand(command);
+        if (eventMessages.isEmpty()) {
+            throw newIllegalStateException(
+                    "The aggregate (class: %s, id: %s) produced empty response for " +
+                    "the command (class: %s, id: %s).",
+                    aggregate.getClass()
+                             .getName(),
+                    Stringifiers.toString(aggregate.getId()),
+                    command.getMessageClass(),
+                    Stringifiers.toString(command.getId()));
+        }
+        final AggregateTransaction tx = AggregateTransaction.start(aggregate);
+        aggregate.apply(eventMessages, command);
+        tx.commit();
+    }
+
+    /**
+     * Passes the error to the repository and remembers it if the repository rethrows it.
+     *
+     * <p>Errors caused by rejections are handled by the repository and are not remembered.
+     */
+    private void onError(CommandEnvelope command, RuntimeException exception) {
+        try {
+            repository.onError(command, exception);
+        } catch (RuntimeException e) {
+            errors.put(command.getId(), e);
+        }
+    }
+}
@@ -25,8 +25,15 @@ import io.spine.core.ActorMessageEnvelope;
 import io.spine.core.Event;
 import io.spine.server.entity.EntityMessageEndpoint;
 import io.spine.server.entity.LifecycleFlags;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.google.common.collect.Sets.newHashSet;
 
 /**
  * Abstract base for endpoints handling messages sent to aggregates.
@@ -50,6 +57,57 @@ abstract class AggregateMessageEndpoint<I,
     @Override
     protected void deliverNowTo(I aggregateId) {
         final A aggregate = repository().loadOrCreate(aggregateId);
+        dispatchTo(aggregate);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Loads the aggregates of the partition {@linkplain AggregateRepository#loadAll(Iterable)
+     * in bulk} before the delivery. Thus, the aggregates are held in memory by one partition at
+     * a time rather than all at once.
+     *
+     * <p>If the bulk loading fails, the aggregates are loaded one by one, so that an aggregate,
+     * which cannot be loaded, does not prevent the delivery to others.
+     */
+    @Override
+    protected Set<I> deliverNowToPartition(List<I> aggregateIds) {
+        final Map<I, A> loaded = loadAll(aggregateIds);
+        if (loaded == null) {
+            return super.deliverNowToPartition(aggregateIds);
+        }
+        final Set<I> result = newHashSet();
+        for (I id : aggregateIds) {
+            try {
+                dispatchTo(loaded.get(id));
+                result.add(id);
+            } catch (RuntimeException exception) {
+                onError(envelope(), exception);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Loads or creates the aggregates with the passed IDs.
+     *
+     * @return the aggregates by their IDs or {@code null} if the bulk loading failed
+     */
+    @Nullable
+    private Map<I, A> loadAll(List<I> aggregateIds) {
+        try {
+            return repository().loadOrCreateAll(aggregateIds);
+        } catch (RuntimeException e) {
+            log().warn("Unable to load aggregates in bulk. Loading them one by one.", e);
+            return null;
+        }
+    }
+
+    /**
+     * Dispatches the message to the passed aggregate and stores the aggregate.
+     */
+    private void dispatchTo(A aggregate) {
+        final I aggregateId = aggregate.getId();
         final LifecycleFlags flagsBefore = aggregate.getLifecycleFlags();
 
         final List<? extends Message> eventMessages = doDispatch(aggregate, envelope());
@@ -89,4 +147,14 @@ abstract class AggregateMessageEndpoint<I,
     private AggregateStorage<I> storage() {
         return repository().aggregateStorage();
     }
+
+    private static Logger log() {
+        return LogSingleton.INSTANCE.value;
+    }
+
+    private enum LogSingleton {
+        INSTANCE;
+        @SuppressWarnings("NonSerializableFieldInSerializableClass")
+        private final Logger value = LoggerFactory.getLogger(AggregateMessageEndpoint.class);
+    }
 }
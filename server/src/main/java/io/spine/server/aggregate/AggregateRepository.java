@@ -21,9 +21,11 @@ package io.spine.server.aggregate;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Optional;
+import com.google.common.util.concurrent.MoreExecutors;
 import io.spine.annotation.SPI;
 import io.spine.core.CommandClass;
 import io.spine.core.CommandEnvelope;
+import io.spine.core.CommandId;
 import io.spine.core.Event;
 import io.spine.core.EventClass;
 import io.spine.core.EventEnvelope;
@@ -31,7 +33,7 @@ import io.spine.core.RejectionClass;
 import io.spine.core.RejectionEnvelope;
 import io.spine.core.TenantId;
 import io.spine.server.BoundedContext;
-import io.spine.server.commandbus.CommandDispatcher;
+import io.spine.server.commandbus.BatchCommandDispatcher;
 import io.spine.server.commandbus.CommandErrorHandler;
 import io.spine.server.entity.LifecycleFlags;
 import io.spine.server.entity.Repository;
@@ -53,11 +55,19 @@ import io.spine.server.storage.Storage;
 import io.spine.server.storage.StorageFactory;
 
 import javax.annotation.CheckReturnValue;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.Maps.newLinkedHashMap;
+import static io.spine.server.tenant.TenantAwareTasks.await;
+import static io.spine.server.tenant.TenantAwareTasks.submit;
 import static io.spine.util.Exceptions.newIllegalStateException;
 
 /**
@@ -84,7 +94,7 @@ import static io.spine.util.Exceptions.newIllegalStateException;
  */
 public abstract class AggregateRepository<I, A extends Aggregate<I, ?, ?>>
         extends Repository<I, A>
-        implements CommandDispatcher<I>,
+        implements BatchCommandDispatcher<I>,
                    EventDispatcherDelegate<I>,
                    RejectionDispatcherDelegate<I> {
 
@@ -283,6 +293,21 @@ public abstract class AggregateRepository<I, A extends Aggregate<I, ?, ?>>
         return AggregateCommandEndpoint.handle(this, envelope);
     }
 
+    /**
+     * Dispatches the passed commands to aggregates.
+     *
+     * <p>The commands are grouped by the target aggregate ID. Each aggregate is loaded once,
+     * handles all its commands in the order of the batch, and is stored once.
+     *
+     * @param envelopes the envelopes of the commands to dispatch
+     * @return the errors mapped to the IDs of the commands which caused them
+     */
+    @Override
+    public Map<CommandId, RuntimeException> dispatchAll(List<CommandEnvelope> envelopes) {
+        checkNotNull(envelopes);
+        return AggregateCommandBatch.handle(this, envelopes);
+    }
+
     /**
      * Logs the passed exception in the log associated with the class of the repository.
      *
@@ -451,6 +476,64 @@ public abstract class AggregateRepository<I, A extends Aggregate<I, ?, ?>>
         return Optional.absent();
     }
 
+    /**
+     * Loads or creates the aggregates with the passed IDs.
+     *
+     * @param  ids the IDs of the aggregates
+     * @return the aggregates by their IDs in the order of the passed IDs
+     * @see #loadAll(Iterable)
+     */
+    Map<I, A> loadOrCreateAll(Iterable<I> ids) {
+        final Map<I, A> loaded = loadMultiple(ids);
+        final Map<I, A> result = newLinkedHashMap();
+        for (I id : ids) {
+            final A aggregate = loaded.get(id);
+            result.put(id, aggregate != null
+                           ? aggregate
+                           : create(id));
+        }
+        return result;
+    }
+
+    /**
+     * Loads the aggregates with the passed IDs.
+     *
+     * <p>The histories of the aggregates are {@linkplain #fetchHistories fetched} first.
+     * Then each {@code Aggregate} is {@linkplain #play restored} by
+     * the {@linkplain #getReplayExecutor() replay executor}.
+     *
+     * @param  ids the IDs of the aggregates
+     * @return the loaded aggregates by their IDs in the order of the passed IDs; the IDs of
+     *         the aggregates which have no history are omitted
+     */
+    private Map<I, A> loadMultiple(Iterable<I> ids) {
+        checkNotNull(ids);
+        final Map<I, AggregateStateRecord> histories = fetchHistories(ids);
+        final Executor executor = getReplayExecutor();
+        final Map<I, Future<A>> replays = newLinkedHashMap();
+        for (Map.Entry<I, AggregateStateRecord> history : histories.entrySet()) {
+            final I id = history.getKey();
+            replays.put(id, submit(executor, replayTask(id, history.getValue())));
+        }
+        final Map<I, A> result = newLinkedHashMap();
+        for (Map.Entry<I, Future<A>> replay : replays.entrySet()) {
+            result.put(replay.getKey(), await(replay.getValue()));
+        }
+        return result;
+    }
+
+    /**
+     * Creates a task which {@linkplain #play plays} the given history of the {@code Aggregate}.
+     */
+    private Callable<A> replayTask(final I id, final AggregateStateRecord history) {
+        return new Callable<A>() {
+            @Override
+            public A call() {
+                return play(id, history);
+            }
+        };
+    }
+
     /**
      * Fetches the history of the {@code Aggregate} with the given ID.
      *
@@ -468,6 +551,49 @@ public abstract class AggregateRepository<I, A extends Aggregate<I, ?, ?>>
         return eventsFromStorage;
     }
 
+    /**
+     * Fetches the histories of the aggregates with the given IDs.
+     *
+     * <p>By default, {@linkplain #fetchHistory(Object) fetches} the history of each
+     * {@code Aggregate} separately, so that a custom {@code fetchHistory()} applies to
+     * the aggregates loaded in bulk as well.
+     *
+     * <p>Descendants may override this method to fetch the histories in a single
+     * {@linkplain AggregateStorage#readMultiple(Iterable, int) storage read}. In this case,
+     * the method must be consistent with {@link #fetchHistory(Object)}.
+     *
+     * @param ids the IDs of the aggregates to fetch
+     * @return the {@link AggregateStateRecord}s by the aggregate IDs; the IDs of
+     *         the aggregates which have no history are omitted
+     */
+    protected Map<I, AggregateStateRecord> fetchHistories(Iterable<I> ids) {
+        final Map<I, AggregateStateRecord> result = newLinkedHashMap();
+        for (I id : ids) {
+            final Optional<AggregateStateRecord> history = fetchHistory(id);
+            if (history.isPresent()) {
+                result.put(id, history.get());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Obtains the executor which {@linkplain #play restores} the aggregates
+     * {@linkplain #loadAll(Iterable) loaded} in bulk.
+     *
+     * <p>By default, the aggregates are restored one by one in the calling thread.
+     *
+     * <p>Descendants may override this method to restore the aggregates in parallel, e.g. by
+     * a thread pool of a bounded size. In this case, the {@linkplain #play playing} of
+     * the aggregate history must be safe to execute concurrently.
+     *
+     * @return the executor for restoring the aggregates
+     */
+    @SPI
+    protected Executor getReplayExecutor() {
+        return MoreExecutors.directExecutor();
+    }
+
     /**
      * Plays the given {@linkplain AggregateStateRecord Aggregate history} for an instance
      * of {@link Aggregate} with the given ID.
@@ -478,7 +604,7 @@ public abstract class AggregateRepository<I, A extends Aggregate<I, ?, ?>>
      */
     protected A play(I id, AggregateStateRecord history) {
         final A result = create(id);
-        final AggregateTransaction tx = AggregateTransaction.start(result);
+        final AggregateTransaction tx = AggregateTransaction.startReplay(result);
         result.play(history);
         tx.commit();
         return result;
@@ -519,6 +645,28 @@ public abstract class AggregateRepository<I, A extends Aggregate<I, ?, ?>>
         return result;
     }
 
+    /**
+     * Loads the aggregates with the passed IDs.
+     *
+     * <p>Acts in the same way as {@link #find(Object)} for each of the IDs. Though, the histories
+     * of all the aggregates are {@linkplain #fetchHistories(Iterable) fetched} first and
+     * the aggregates are restored by the {@linkplain #getReplayExecutor() replay executor}.
+     *
+     * @param  ids the IDs of the aggregates to load
+     * @return the loaded aggregates in the order of the passed IDs; no aggregate is returned
+     *         for an ID for which there are no events
+     * @throws IllegalStateException
+     *         if the storage of the repository is not {@linkplain #initStorage(StorageFactory)
+     *         initialized} prior to this call
+     */
+    @CheckReturnValue
+    public Iterator<A> loadAll(Iterable<I> ids) throws IllegalStateException {
+        final Map<I, A> loaded = loadMultiple(ids);
+        final Iterator<A> result = loaded.values()
+                                         .iterator();
+        return result;
+    }
+
     /** The EventBus to which we post events produced by aggregates. */
     private EventBus getEventBus() {
         return getBoundedContext().getEventBus();
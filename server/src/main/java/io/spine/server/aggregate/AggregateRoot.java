@@ -23,13 +23,24 @@ package io.spine.server.aggregate;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
 import com.google.protobuf.Message;
 import io.spine.server.BoundedContext;
 
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 
 import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.Lists.newArrayListWithCapacity;
+import static com.google.common.collect.Sets.newLinkedHashSet;
 import static io.spine.server.aggregate.AggregatePartRepositoryLookup.createLookup;
+import static io.spine.server.tenant.TenantAwareTasks.await;
+import static io.spine.server.tenant.TenantAwareTasks.submit;
 import static io.spine.util.Exceptions.illegalStateWithCauseOf;
 
 /**
@@ -96,6 +107,64 @@ public class AggregateRoot<I> {
         return partState;
     }
 
+    /**
+     * Obtains the states of several parts at once.
+     *
+     * <p>The parts are loaded concurrently by the given executor, one task per part. The number
+     * of the parts loaded simultaneously is thus bounded by the executor. The calling thread
+     * waits until all the parts are loaded.
+     *
+     * <p>If the current thread works in a tenant context, the parts are loaded in
+     * the context of the same tenant.
+     *
+     * @param partStateClasses the classes of the states of the parts
+     * @param executor         the executor to load the parts
+     * @return the part states by their classes, in the order of the passed classes;
+     *         a default state for a part which was not found
+     * @throws IllegalStateException if a repository was not found,
+     *                               or the ID type of a part state does not match
+     *                               the ID type of this {@code AggregateRoot},
+     *                               or the loading was interrupted
+     */
+    protected ImmutableMap<Class<? extends Message>, Message>
+    getPartStates(Iterable<Class<? extends Message>> partStateClasses, Executor executor) {
+        checkNotNull(partStateClasses);
+        checkNotNull(executor);
+        final Set<Class<? extends Message>> stateClasses = newLinkedHashSet(partStateClasses);
+        final List<ListenableFuture<Message>> loads =
+                newArrayListWithCapacity(stateClasses.size());
+        for (Class<? extends Message> stateClass : stateClasses) {
+            loads.add(submit(executor, partStateLoader(stateClass)));
+        }
+        final List<Message> partStates = await(Futures.allAsList(loads));
+
+        final ImmutableMap.Builder<Class<? extends Message>, Message> result =
+                ImmutableMap.builder();
+        int index = 0;
+        for (Class<? extends Message> stateClass : stateClasses) {
+            result.put(stateClass, partStates.get(index));
+            index++;
+        }
+        return result.build();
+    }
+
+    /**
+     * Creates a task which loads the state of the part with the passed state class.
+     *
+     * <p>The part repository is obtained in the calling thread.
+     */
+    private <S extends Message, A extends AggregatePart<I, S, ?, ?>>
+    Callable<Message> partStateLoader(Class<S> partStateClass) {
+        final AggregatePartRepository<I, A, ?> repo = getRepository(partStateClass);
+        return new Callable<Message>() {
+            @Override
+            public Message call() {
+                return repo.loadOrCreate(getId())
+                           .getState();
+            }
+        };
+    }
+
     /**
      * Obtains a repository for the passed state class.
      *
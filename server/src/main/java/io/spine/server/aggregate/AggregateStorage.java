@@ -21,6 +21,7 @@
 package io.spine.server.aggregate;
 
 import com.google.common.base.Optional;
+import com.google.common.collect.ImmutableMap;
 import com.google.protobuf.Timestamp;
 import io.spine.Identifier;
 import io.spine.annotation.SPI;
@@ -32,10 +33,13 @@ import io.spine.server.storage.StorageWithLifecycleFlags;
 import java.util.Deque;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.Lists.newArrayList;
 import static com.google.common.collect.Lists.newLinkedList;
+import static com.google.common.collect.Maps.newLinkedHashMap;
 import static com.google.protobuf.TextFormat.shortDebugString;
 import static com.google.protobuf.util.Timestamps.checkValid;
 import static io.spine.core.Events.clearEnrichments;
@@ -71,11 +75,53 @@ public abstract class AggregateStorage<I>
         checkNotClosed();
         checkNotNull(request);
 
+        final Iterator<AggregateEventRecord> historyBackward = historyBackward(request);
+        return toStateRecord(historyBackward);
+    }
+
+    /**
+     * Reads the {@link AggregateStateRecord}s of the aggregates with the passed IDs.
+     *
+     * <p>The histories of all the aggregates are obtained in a single
+     * {@linkplain #historiesBackward(Iterable) call} to the storage.
+     *
+     * @param ids       the IDs of the aggregates to read
+     * @param batchSize the {@linkplain AggregateReadRequest#getBatchSize() batch size}
+     *                  of each read
+     * @return the records by the aggregate IDs in the order of the passed IDs; the aggregates
+     *         which have no history are omitted
+     * @throws IllegalStateException if the storage was closed before
+     */
+    public ImmutableMap<I, AggregateStateRecord> readMultiple(Iterable<I> ids, int batchSize) {
+        checkNotClosed();
+        checkNotNull(ids);
+
+        final List<AggregateReadRequest<I>> requests = newArrayList();
+        for (I id : ids) {
+            requests.add(new AggregateReadRequest<>(id, batchSize));
+        }
+        final Map<I, Iterator<AggregateEventRecord>> histories = historiesBackward(requests);
+        final ImmutableMap.Builder<I, AggregateStateRecord> result = ImmutableMap.builder();
+        for (Map.Entry<I, Iterator<AggregateEventRecord>> history : histories.entrySet()) {
+            final Optional<AggregateStateRecord> record = toStateRecord(history.getValue());
+            if (record.isPresent()) {
+                result.put(history.getKey(), record.get());
+            }
+        }
+        return result.build();
+    }
+
+    /**
+     * Forms an {@link AggregateStateRecord} from the passed aggregate history.
+     *
+     * @param historyBackward the history of the aggregate from newer to older records
+     * @return the record instance or {@code Optional.absent()} if the history is empty
+     */
+    private static Optional<AggregateStateRecord>
+    toStateRecord(Iterator<AggregateEventRecord> historyBackward) {
         final Deque<Event> history = newLinkedList();
         Snapshot snapshot = null;
 
-        final Iterator<AggregateEventRecord> historyBackward = historyBackward(request);
-
         if (!historyBackward.hasNext()) {
             return Optional.absent();
         }
@@ -257,4 +303,23 @@ public abstract class AggregateStorage<I>
      */
     protected abstract Iterator<AggregateEventRecord> historyBackward(
             AggregateReadRequest<I> request);
+
+    /**
+     * Creates iterators of the event histories of several aggregates with the reverse traversal.
+     *
+     * <p>By default, {@linkplain #historyBackward(AggregateReadRequest) reads} each history
+     * separately. Storage implementations may override this method in order to fetch all
+     * the histories in a single call to the underlying storage.
+     *
+     * @param requests the read requests
+     * @return the history iterators by the aggregate IDs, in the order of the requests
+     */
+    protected Map<I, Iterator<AggregateEventRecord>> historiesBackward(
+            Iterable<AggregateReadRequest<I>> requests) {
+        final Map<I, Iterator<AggregateEventRecord>> result = newLinkedHashMap();
+        for (AggregateReadRequest<I> request : requests) {
+            result.put(request.getRecordId(), historyBackward(request));
+        }
+        return result;
+    }
 }
@@ -91,6 +91,20 @@ class AggregateTransaction<I,
         return tx;
     }
 
+    /**
+     * Creates a new transaction for replaying the history of the given {@code aggregate}.
+     *
+     * <p>The events applied in this transaction are not {@linkplain Transaction.Phase recorded}.
+     *
+     * @param aggregate the {@code Aggregate} instance to start the transaction for.
+     * @return the new transaction instance
+     */
+    static AggregateTransaction startReplay(Aggregate aggregate) {
+        final AggregateTransaction tx = start(aggregate);
+        tx.startReplay();
+        return tx;
+    }
+
     /**
      * Creates a new transaction for a given {@code aggregate} and sets the given {@code state}
      * and {@code version} as a starting point for the transaction.
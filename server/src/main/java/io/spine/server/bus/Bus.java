@@ -307,11 +307,15 @@ public abstract class Bus<T extends Message,
     /**
      * Posts each of the given envelopes into the bus and notifies the given observer.
      *
+     * <p>The observer receives the results in the order of the passed envelopes.
+     *
+     * <p>Descendants may override this method to post the envelopes in batches.
+     *
      * @param envelopes the envelopes to post
      * @param observer  the observer to be notified of the operation result
      * @see #doPost(MessageEnvelope)
      */
-    private void doPost(Iterable<E> envelopes, StreamObserver<Ack> observer) {
+    protected void doPost(Iterable<E> envelopes, StreamObserver<Ack> observer) {
         for (E message : envelopes) {
             final Ack result = doPost(message);
             observer.onNext(result);
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2018, TeamDev Ltd. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.bus;
+
+import com.google.common.collect.Sets;
+import com.google.protobuf.DescriptorProtos.FieldOptions;
+import com.google.protobuf.DescriptorProtos.MessageOptions;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.Message;
+import io.spine.annotation.Internal;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.Maps.newConcurrentMap;
+import static com.google.protobuf.Descriptors.FieldDescriptor.JavaType.MESSAGE;
+
+/**
+ * A cache of the knowledge on whether a message type declares any validation constraints.
+ *
+ * <p>A message type is considered constrained if it or any of its fields has an option set.
+ * The fields of message types are inspected recursively.
+ *
+ * <p>The first field of a command message is implicitly required whatever its name. Thus,
+ * a {@linkplain #declaredForCommand(Message) command message} type having at least one field
+ * is always considered constrained.
+ *
+ * <p>The check is performed once per message type. The validators may skip the validation of
+ * the messages of unconstrained types, since such messages cannot violate any constraint.
+ *
+ * @author Dmytry Dyachenko
+ */
+@Internal
+public final class MessageConstraints {
+
+    private static final ConcurrentMap<Descriptor, Boolean> constrainedTypes = newConcurrentMap();
+
+    /** Prevents instantiation of this utility class. */
+    private MessageConstraints() {
+    }
+
+    /**
+     * Checks if the type of the passed message declares any validation constraints.
+     *
+     * @param message the message to check
+     * @return {@code true} if the message type may have constraints, {@code false} if it
+     *         certainly has none
+     */
+    public static boolean declaredFor(Message message) {
+        checkNotNull(message);
+        return declaredFor(message.getDescriptorForType());
+    }
+
+    /**
+     * Checks if the passed message type declares any validation constraints.
+     *
+     * @param type the descriptor of the message type to check
+     * @return {@code true} if the message type may have constraints, {@code false} if it
+     *         certainly has none
+     */
+    public static boolean declaredFor(Descriptor type) {
+        checkNotNull(type);
+        final Boolean cached = constrainedTypes.get(type);
+        if (cached != null) {
+            return cached;
+        }
+        final boolean result = inspect(type, Sets.<Descriptor>newHashSet());
+        constrainedTypes.put(type, result);
+        return result;
+    }
+
+    /**
+     * Checks if the type of the passed command message declares any validation constraints.
+     *
+     * <p>Unlike {@link #declaredFor(Message)}, treats the first field of the message as
+     * constrained, since it is implicitly required in a command message.
+     *
+     * @param commandMessage the command message to check
+     * @return {@code true} if the message type may have constraints, {@code false} if it
+     *         certainly has none
+     */
+    public static boolean declaredForCommand(Message commandMessage) {
+        checkNotNull(commandMessage);
+        final Descriptor type = commandMessage.getDescriptorForType();
+        return !type.getFields()
+                    .isEmpty()
+               || declaredFor(type);
+    }
+
+    private static boolean inspect(Descriptor type, Set<Descriptor> visited) {
+        if (!visited.add(type)) {
+            return false;
+        }
+        if (!MessageOptions.getDefaultInstance()
+                           .equals(type.getOptions())) {
+            return true;
+        }
+        for (FieldDescriptor field : type.getFields()) {
+            if (!FieldOptions.getDefaultInstance()
+                             .equals(field.getOptions())) {
+                return true;
+            }
+            if (field.getJavaType() == MESSAGE && inspect(field.getMessageType(), visited)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
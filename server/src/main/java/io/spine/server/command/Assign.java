@@ -48,6 +48,12 @@ import java.lang.annotation.Target;
  * <p>A command handler method <strong>may</strong> accept a {@link io.spine.core.CommandContext
  * CommandContext} as the second parameter if handling of the command requires its context.
  *
+ * <p>Instead of throwing a rejection, a command handler method <strong>may</strong> return
+ * a rejection message. Such a method should be declared as returning
+ * {@link com.google.protobuf.Message Message}. A returned rejection is handled the same way as
+ * a thrown one, but avoids the capturing of the stack trace. This is preferable for domains in
+ * which rejections are frequent business outcomes.
+ *
  * <p><strong>IMPORTANT:</strong> an application must have one and only one handler per command
  * message class. Declaring two methods that handle the same command class will result in run-time
  * error.
@@ -29,12 +29,14 @@ import io.spine.annotation.Internal;
 import io.spine.base.ThrowableMessage;
 import io.spine.core.CommandClass;
 import io.spine.core.CommandContext;
+import io.spine.core.Rejections;
 import io.spine.server.entity.Entity;
 import io.spine.server.model.HandlerMethod;
 import io.spine.server.model.HandlerMethodFailedException;
 import io.spine.server.model.HandlerMethodPredicate;
 import io.spine.server.model.MethodPredicate;
 
+import javax.annotation.Nullable;
 import java.lang.reflect.Method;
 import java.util.List;
 
@@ -85,10 +87,44 @@ public final class CommandHandlerMethod extends HandlerMethod<CommandContext> {
     @Override
     public List<? extends Message> invoke(Object target, Message message, CommandContext context) {
         final Object handlingResult = super.invoke(target, message, context);
+        if (isRejection(handlingResult)) {
+            throw rejectionReturned(target, message, context, (Message) handlingResult);
+        }
         final List<? extends Message> events = toList(handlingResult);
         return events;
     }
 
+    /**
+     * Checks if the passed handling result is a rejection message.
+     */
+    private static boolean isRejection(@Nullable Object handlingResult) {
+        if (!(handlingResult instanceof Message)) {
+            return false;
+        }
+        final Message message = (Message) handlingResult;
+        final boolean result = Rejections.isRejection(message.getClass());
+        return result;
+    }
+
+    /**
+     * Creates an exception for the rejection message returned by the handler method.
+     *
+     * <p>Neither the created exception nor its rejection cause capture the stack trace.
+     * The producer ID of the rejection is initialized the same way as for
+     * a {@linkplain #whyFailed(Object, Message, CommandContext, Exception) thrown} rejection.
+     */
+    private static HandlerMethodFailedException rejectionReturned(Object target,
+                                                                  Message message,
+                                                                  CommandContext context,
+                                                                  Message rejectionMessage) {
+        final ThrowableMessage rejection = new StacklessRejection(rejectionMessage);
+        final Optional<Any> producerId = idOf(target);
+        if (producerId.isPresent()) {
+            rejection.initProducer(producerId.get());
+        }
+        return new HandlerMethodFailedException(target, message, context, rejection, false);
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2018, TeamDev Ltd. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.command;
+
+import com.google.protobuf.GeneratedMessageV3;
+import com.google.protobuf.Message;
+import io.spine.base.ThrowableMessage;
+
+/**
+ * A {@link ThrowableMessage} wrapping a rejection message returned by a command handler.
+ *
+ * <p>Does not capture the stack trace, since a returned rejection is an expected outcome
+ * of the command handling rather than an error.
+ *
+ * @author Dmytry Dyachenko
+ */
+final class StacklessRejection extends ThrowableMessage {
+
+    private static final long serialVersionUID = 0L;
+
+    StacklessRejection(Message rejectionMessage) {
+        // All the rejection messages are generated, so the cast is safe.
+        super((GeneratedMessageV3) rejectionMessage);
+    }
+
+    /**
+     * Does not fill in the stack trace.
+     *
+     * @return this instance
+     */
+    @SuppressWarnings("NonSynchronizedMethodOverridesSynchronizedMethod")
+        // Nothing to synchronize since no state is modified.
+    @Override
+    public Throwable fillInStackTrace() {
+        return this;
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2018, TeamDev Ltd. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.commandbus;
+
+import io.spine.core.CommandEnvelope;
+import io.spine.core.CommandId;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@link CommandDispatcher} which is able to handle several commands in one go.
+ *
+ * <p>When a batch of commands is {@linkplain io.spine.server.bus.Bus#post(Iterable,
+ * io.grpc.stub.StreamObserver) posted} to the {@link CommandBus}, the commands which are
+ * dispatched by the same {@code BatchCommandDispatcher} are passed to it at once. This allows
+ * the dispatcher to group the commands by their targets and to load and store each target
+ * only once per batch.
+ *
+ * @param <I> the type of the IDs of the command targets
+ * @author Dmytry Dyachenko
+ */
+public interface BatchCommandDispatcher<I> extends CommandDispatcher<I> {
+
+    /**
+     * Dispatches the passed commands.
+     *
+     * <p>The commands targeting the same entity must be handled in the order, in which they
+     * appear in the passed list.
+     *
+     * <p>A failure to dispatch one command must not prevent dispatching of the other commands
+     * of the batch.
+     *
+     * @param envelopes the commands to dispatch
+     * @return the errors which occurred during the dispatching mapped to the IDs of the commands
+     *         which caused them; the commands not present in the map were dispatched successfully
+     */
+    Map<CommandId, RuntimeException> dispatchAll(List<CommandEnvelope> envelopes);
+}
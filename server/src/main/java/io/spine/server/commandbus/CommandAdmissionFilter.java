@@ -0,0 +1,286 @@
+/*
+ * Copyright 2018, TeamDev Ltd. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.commandbus;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Optional;
+import com.google.common.base.Ticker;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.collect.ImmutableMap;
+import io.spine.base.Error;
+import io.spine.core.Ack;
+import io.spine.core.CommandClass;
+import io.spine.core.CommandEnvelope;
+import io.spine.core.TenantId;
+import io.spine.server.bus.AbstractBusFilter;
+
+import javax.annotation.Nullable;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.Maps.newHashMap;
+import static io.spine.server.bus.Buses.reject;
+import static io.spine.server.commandbus.CommandRateLimitException.rateLimitExceeded;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * A {@linkplain io.spine.server.bus.BusFilter bus filter} limiting the rate of commands
+ * admitted to the {@link CommandBus}.
+ *
+ * <p>The filter maintains a token bucket per {@linkplain TenantId tenant} and a token bucket
+ * per configured {@linkplain CommandClass command class}. A command is admitted if both
+ * its tenant and its class have a token available.
+ *
+ * <p>If a token is not available, the command is rejected right away with the
+ * {@link io.spine.core.CommandValidationError#RATE_LIMIT_EXCEEDED RATE_LIMIT_EXCEEDED} error.
+ * The filter never blocks the posting thread. Instead, the error tells in how many milliseconds
+ * the command may be posted again in the
+ * {@linkplain CommandRateLimitException#ATTR_RETRY_AFTER_MILLIS retryAfterMillis} attribute.
+ *
+ * <p>The bucket of a tenant is dropped once the tenant stays idle long enough for the bucket
+ * to refill completely, since such a bucket does not differ from a new one.
+ *
+ * <p>The filter should be {@linkplain CommandBus.Builder#appendFilter(
+ * io.spine.server.bus.BusFilter) appended} to the {@code CommandBus} when building it:
+ * <pre>
+ * {@code
+ * final CommandAdmissionFilter admission = CommandAdmissionFilter.newBuilder()
+ *                                                                .setTenantLimit(100, 200)
+ *                                                                .build();
+ * CommandBus.newBuilder()
+ *           .appendFilter(admission)
+ *           ...
+ * }
+ * </pre>
+ *
+ * @author Dmytry Dyachenko
+ */
+public final class CommandAdmissionFilter extends AbstractBusFilter<CommandEnvelope> {
+
+    @Nullable
+    private final LoadingCache<TenantId, TokenBucket> tenantBuckets;
+    private final Map<CommandClass, TokenBucket> commandBuckets;
+
+    private final AtomicLong admitted = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+
+    private CommandAdmissionFilter(Builder builder) {
+        super();
+        final Ticker ticker = builder.ticker;
+        this.tenantBuckets = builder.tenantLimit == null
+                             ? null
+                             : tenantBuckets(builder.tenantLimit, ticker);
+        final ImmutableMap.Builder<CommandClass, TokenBucket> buckets = ImmutableMap.builder();
+        for (Map.Entry<CommandClass, Limit> entry : builder.commandLimits.entrySet()) {
+            buckets.put(entry.getKey(), entry.getValue()
+                                             .newBucket(ticker));
+        }
+        this.commandBuckets = buckets.build();
+    }
+
+    /**
+     * Creates a new {@link Builder} for the {@code CommandAdmissionFilter}.
+     */
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    /**
+     * Creates the cache of tenant buckets which drops a bucket once it refills completely.
+     */
+    private static LoadingCache<TenantId, TokenBucket> tenantBuckets(final Limit limit,
+                                                                     final Ticker ticker) {
+        final CacheLoader<TenantId, TokenBucket> loader = new CacheLoader<TenantId, TokenBucket>() {
+            @Override
+            public TokenBucket load(TenantId key) {
+                return limit.newBucket(ticker);
+            }
+        };
+        final LoadingCache<TenantId, TokenBucket> result =
+                CacheBuilder.newBuilder()
+                            .expireAfterAccess(limit.refillNanos(), NANOSECONDS)
+                            .ticker(ticker)
+                            .build(loader);
+        return result;
+    }
+
+    @Override
+    public Optional<Ack> accept(CommandEnvelope envelope) {
+        checkNotNull(envelope);
+        final TokenBucket tenantBucket = tenantBucket(envelope.getTenantId());
+        final long tenantWait = tryAcquire(tenantBucket);
+        if (tenantWait > 0) {
+            return rejectCommand(envelope, tenantWait);
+        }
+        final long commandWait = tryAcquire(commandBuckets.get(envelope.getMessageClass()));
+        if (commandWait > 0) {
+            // The command is not admitted, so it should not consume the tenant token.
+            if (tenantBucket != null) {
+                tenantBucket.refund();
+            }
+            return rejectCommand(envelope, commandWait);
+        }
+        admitted.incrementAndGet();
+        return Optional.absent();
+    }
+
+    /**
+     * Obtains the number of commands admitted by this filter.
+     */
+    public long getAdmittedCount() {
+        return admitted.get();
+    }
+
+    /**
+     * Obtains the number of commands rejected by this filter.
+     */
+    public long getRejectedCount() {
+        return rejected.get();
+    }
+
+    /**
+     * Obtains the number of tenants whose token buckets are kept by this filter.
+     */
+    @VisibleForTesting
+    long getTenantBucketCount() {
+        if (tenantBuckets == null) {
+            return 0;
+        }
+        tenantBuckets.cleanUp();
+        return tenantBuckets.size();
+    }
+
+    private static long tryAcquire(@Nullable TokenBucket bucket) {
+        if (bucket == null) {
+            return 0;
+        }
+        return bucket.tryAcquire();
+    }
+
+    @Nullable
+    private TokenBucket tenantBucket(TenantId tenantId) {
+        if (tenantBuckets == null) {
+            return null;
+        }
+        return tenantBuckets.getUnchecked(tenantId);
+    }
+
+    private Optional<Ack> rejectCommand(CommandEnvelope envelope, long retryAfterNanos) {
+        rejected.incrementAndGet();
+        final long retryAfterMillis = NANOSECONDS.toMillis(retryAfterNanos - 1) + 1;
+        final Error error = rateLimitExceeded(envelope.getCommand(), retryAfterMillis);
+        final Ack result = reject(envelope.getId(), error);
+        return Optional.of(result);
+    }
+
+    /**
+     * The rate and the burst capacity of a token bucket.
+     */
+    private static final class Limit {
+
+        private static final long NANOS_PER_SECOND = SECONDS.toNanos(1);
+
+        private final double permitsPerSecond;
+        private final int burst;
+
+        private Limit(double permitsPerSecond, int burst) {
+            checkArgument(permitsPerSecond > 0, "The rate must be positive.");
+            checkArgument(burst > 0, "The burst must be positive.");
+            this.permitsPerSecond = permitsPerSecond;
+            this.burst = burst;
+        }
+
+        private TokenBucket newBucket(Ticker ticker) {
+            return new TokenBucket(permitsPerSecond, burst, ticker);
+        }
+
+        /**
+         * Obtains the time in nanoseconds in which an empty bucket of this limit
+         * becomes full.
+         */
+        private long refillNanos() {
+            return (long) Math.ceil(burst * NANOS_PER_SECOND / permitsPerSecond);
+        }
+    }
+
+    /**
+     * The builder for {@code CommandAdmissionFilter}.
+     */
+    public static final class Builder {
+
+        @Nullable
+        private Limit tenantLimit;
+        private final Map<CommandClass, Limit> commandLimits = newHashMap();
+        private Ticker ticker = Ticker.systemTicker();
+
+        /** Prevents direct instantiation. */
+        private Builder() {
+        }
+
+        /**
+         * Limits the rate of commands for each tenant.
+         *
+         * <p>Each tenant has its own limit of the given value.
+         *
+         * @param permitsPerSecond the number of commands per second allowed for a tenant
+         * @param burst            the number of commands a tenant may post at once
+         */
+        public Builder setTenantLimit(double permitsPerSecond, int burst) {
+            this.tenantLimit = new Limit(permitsPerSecond, burst);
+            return this;
+        }
+
+        /**
+         * Limits the rate of commands of the given class.
+         *
+         * <p>The limit is shared by all the tenants.
+         *
+         * @param commandClass     the class of the commands to limit
+         * @param permitsPerSecond the number of commands per second allowed for the class
+         * @param burst            the number of commands of the class which may be posted at once
+         */
+        public Builder setCommandLimit(CommandClass commandClass,
+                                       double permitsPerSecond,
+                                       int burst) {
+            checkNotNull(commandClass);
+            commandLimits.put(commandClass, new Limit(permitsPerSecond, burst));
+            return this;
+        }
+
+        @VisibleForTesting
+        Builder setTicker(Ticker ticker) {
+            this.ticker = checkNotNull(ticker);
+            return this;
+        }
+
+        /**
+         * Creates a new instance of {@code CommandAdmissionFilter}.
+         */
+        public CommandAdmissionFilter build() {
+            return new CommandAdmissionFilter(this);
+        }
+    }
+}
@@ -21,6 +21,8 @@ package io.spine.server.commandbus;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Optional;
+import com.google.common.collect.ImmutableMap;
+import io.grpc.stub.StreamObserver;
 import io.spine.Identifier;
 import io.spine.annotation.Internal;
 import io.spine.base.Error;
@@ -29,8 +31,8 @@ import io.spine.core.Ack;
 import io.spine.core.Command;
 import io.spine.core.CommandClass;
 import io.spine.core.CommandEnvelope;
+import io.spine.core.CommandId;
 import io.spine.core.Rejection;
-import io.spine.protobuf.AnyPacker;
 import io.spine.server.ServerEnvironment;
 import io.spine.server.bus.Bus;
 import io.spine.server.bus.BusFilter;
@@ -41,11 +43,16 @@ import io.spine.server.rejection.RejectionBus;
 
 import javax.annotation.Nullable;
 import java.util.Deque;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Preconditions.checkState;
 import static com.google.common.base.Throwables.getRootCause;
+import static com.google.common.collect.Lists.newArrayList;
+import static com.google.common.collect.Lists.newArrayListWithCapacity;
+import static com.google.common.collect.Maps.newLinkedHashMap;
 import static io.spine.core.Rejections.causedByRejection;
 import static io.spine.core.Rejections.toRejection;
 import static io.spine.server.bus.Buses.acknowledge;
@@ -198,24 +205,121 @@ public class CommandBus extends Bus<Command,
         Ack result;
         try {
             dispatcher.dispatch(envelope);
-            commandStore.setCommandStatusOk(envelope);
-            result = acknowledge(envelope.getId());
+            result = onDispatched(envelope);
         } catch (RuntimeException e) {
-            final Throwable cause = getRootCause(e);
-            commandStore.updateCommandStatus(envelope, cause, log);
-
-            if (causedByRejection(e)) {
-                final ThrowableMessage throwableMessage = (ThrowableMessage) cause;
-                final Rejection rejection = toRejection(throwableMessage, envelope.getCommand());
-                final Class<?> rejectionClass = AnyPacker.unpack(rejection.getMessage())
-                                                         .getClass();
-                Log.log().trace("Posting rejection {} to RejectionBus.", rejectionClass.getName());
-                rejectionBus().post(rejection);
-                result = reject(envelope.getId(), rejection);
+            result = onDispatchingError(envelope, e);
+        }
+        return result;
+    }
+
+    /**
+     * Posts the given envelopes grouping them by their dispatchers.
+     *
+     * <p>The commands handled by a {@link BatchCommandDispatcher} are passed to it at once,
+     * so that the dispatcher could load and store each target only once per batch.
+     * The commands handled by other dispatchers are {@linkplain #doPost(CommandEnvelope) posted}
+     * one by one.
+     *
+     * <p>The observer receives the acknowledgements in the order of the passed envelopes.
+     */
+    @Override
+    protected void doPost(Iterable<CommandEnvelope> envelopes, StreamObserver<Ack> observer) {
+        final List<CommandEnvelope> commands = newArrayList(envelopes);
+        if (commands.size() < 2) {
+            super.doPost(commands, observer);
+            return;
+        }
+
+        final Map<CommandDispatcher<?>, List<Integer>> groups = newLinkedHashMap();
+        for (int i = 0; i < commands.size(); i++) {
+            final CommandDispatcher<?> dispatcher = getDispatcher(commands.get(i));
+            List<Integer> group = groups.get(dispatcher);
+            if (group == null) {
+                group = newArrayList();
+                groups.put(dispatcher, group);
+            }
+            group.add(i);
+        }
+
+        final Ack[] acks = new Ack[commands.size()];
+        for (Map.Entry<CommandDispatcher<?>, List<Integer>> group : groups.entrySet()) {
+            final CommandDispatcher<?> dispatcher = group.getKey();
+            final List<Integer> indexes = group.getValue();
+            if (dispatcher instanceof BatchCommandDispatcher && indexes.size() > 1) {
+                postBatch((BatchCommandDispatcher<?>) dispatcher, commands, indexes, acks);
             } else {
-                final Error error = toError(cause);
-                result = reject(envelope.getId(), error);
+                for (int index : indexes) {
+                    acks[index] = doPost(commands.get(index));
+                }
+            }
+        }
+        for (Ack ack : acks) {
+            observer.onNext(ack);
+        }
+    }
+
+    /**
+     * Dispatches the commands with the given indexes to the batch dispatcher and puts
+     * the acknowledgements to the respective positions of the {@code acks} array.
+     */
+    private void postBatch(BatchCommandDispatcher<?> dispatcher,
+                           List<CommandEnvelope> commands,
+                           List<Integer> indexes,
+                           Ack[] acks) {
+        final List<CommandEnvelope> batch = newArrayListWithCapacity(indexes.size());
+        for (int index : indexes) {
+            batch.add(commands.get(index));
+        }
+        Map<CommandId, RuntimeException> errors;
+        RuntimeException batchError = null;
+        try {
+            errors = dispatcher.dispatchAll(batch);
+        } catch (RuntimeException e) {
+            errors = ImmutableMap.of();
+            batchError = e;
+        }
+        for (int index : indexes) {
+            final CommandEnvelope envelope = commands.get(index);
+            final RuntimeException error = batchError != null
+                                           ? batchError
+                                           : errors.get(envelope.getId());
+            acks[index] = error == null
+                          ? onDispatched(envelope)
+                          : onDispatchingError(envelope, error);
+        }
+    }
+
+    /**
+     * Marks the command as successfully dispatched.
+     */
+    private Ack onDispatched(CommandEnvelope envelope) {
+        commandStore.setCommandStatusOk(envelope);
+        return acknowledge(envelope.getId());
+    }
+
+    /**
+     * Updates the command status according to the dispatching error and posts a rejection
+     * to the {@link RejectionBus} if the error was caused by a rejection.
+     */
+    private Ack onDispatchingError(CommandEnvelope envelope, RuntimeException exception) {
+        final Throwable cause = getRootCause(exception);
+        commandStore.updateCommandStatus(envelope, cause, log);
+
+        final Ack result;
+        if (causedByRejection(exception)) {
+            final ThrowableMessage throwableMessage = (ThrowableMessage) cause;
+            final Rejection rejection = toRejection(throwableMessage, envelope.getCommand());
+            if (Log.log().isTraceEnabled()) {
+                final Class<?> rejectionClass = throwableMessage.getMessageThrown()
+                                                                .getClass();
+                Log.log().trace("Posting rejection {} to RejectionBus.",
+                                rejectionClass.getName());
             }
+            rejectionBus().post(rejection);
+            result = reject(envelope.getId(), rejection);
+        } else {
+            final Error error = toError(cause);
+            result = reject(envelope.getId(), error);
         }
         return result;
     }
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2018, TeamDev Ltd. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.commandbus;
+
+import com.google.protobuf.Value;
+import io.spine.base.Error;
+import io.spine.core.Command;
+import io.spine.core.CommandValidationError;
+
+/**
+ * Exception that is thrown when a command is not admitted to the {@code CommandBus} because
+ * the rate limit for its tenant or its type was exceeded.
+ *
+ * @author Dmytry Dyachenko
+ * @see CommandAdmissionFilter
+ */
+public class CommandRateLimitException extends CommandException {
+
+    /**
+     * The name of the attribute telling in how many milliseconds the rejected command
+     * may be posted again.
+     *
+     * @see io.spine.base.Error
+     */
+    public static final String ATTR_RETRY_AFTER_MILLIS = "retryAfterMillis";
+
+    private static final long serialVersionUID = 0L;
+
+    public CommandRateLimitException(Command command) {
+        super(messageFormat(
+                "The rate limit exceeded. Command class: `%s`; Protobuf type: `%s`.", command),
+              command,
+              rateLimitExceeded(command));
+    }
+
+    /** Creates an instance of the rate limit exceeded error. */
+    static Error rateLimitExceeded(Command command) {
+        final String format = "The rate limit for the command of type `%s` exceeded.";
+        final CommandValidationError errorCode = CommandValidationError.RATE_LIMIT_EXCEEDED;
+        return createError(format, command, errorCode);
+    }
+
+    /**
+     * Creates an instance of the rate limit exceeded error telling when the command
+     * may be retried.
+     */
+    static Error rateLimitExceeded(Command command, long retryAfterMillis) {
+        final Value retryAfter = Value.newBuilder()
+                                      .setNumberValue(retryAfterMillis)
+                                      .build();
+        final Error result = rateLimitExceeded(command).toBuilder()
+                                                       .putAttributes(ATTR_RETRY_AFTER_MILLIS,
+                                                                      retryAfter)
+                                                       .build();
+        return result;
+    }
+}
@@ -30,6 +30,7 @@ import io.spine.core.CommandEnvelope;
 import io.spine.core.MessageInvalid;
 import io.spine.core.TenantId;
 import io.spine.server.bus.EnvelopeValidator;
+import io.spine.server.bus.MessageConstraints;
 import io.spine.server.route.DefaultCommandRoute;
 import io.spine.validate.ConstraintViolation;
 import io.spine.validate.MessageValidator;
@@ -52,7 +53,8 @@ import static io.spine.validate.Validate.isDefault;
  *     <li>The command has a valid tenant ID set in a multi-tenant context, or no tenant in a
  *     single-tenant context.
  *     <li>The command message {@linkplain CommandValidator#inspect(CommandEnvelope) conforms} to
- *     the options specified in the proto declaration of the message.
+ *     the options specified in the proto declaration of the message. The messages of types
+ *     which {@linkplain MessageConstraints declare no constraints} are not inspected.
  *     <li>The command ID is populated.
  *     <li>The command context is not blank.
  * </ol>
@@ -165,6 +167,9 @@ final class CommandValidator implements EnvelopeValidator<CommandEnvelope> {
             if (isDefault(message)) {
                 addViolation("Non-default command message must be set.");
             }
+            if (!MessageConstraints.declaredForCommand(message)) {
+                return;
+            }
             final List<ConstraintViolation> messageViolations = MessageValidator.newInstance()
                                                                                 .validate(message);
             result.addAll(messageViolations);
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2018, TeamDev Ltd. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.commandbus;
+
+import com.google.common.base.Ticker;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * A token bucket limiting the rate of admitted commands.
+ *
+ * <p>The bucket holds up to {@code capacity} tokens and is refilled with the given rate.
+ * Each admitted command takes one token.
+ *
+ * <p>If there are no tokens left, the command is not admitted. In this case the bucket tells
+ * when the next token becomes available.
+ *
+ * @author Dmytry Dyachenko
+ */
+final class TokenBucket {
+
+    private static final long NANOS_PER_SECOND = SECONDS.toNanos(1);
+
+    private final double capacity;
+    private final double tokensPerNano;
+    private final Ticker ticker;
+
+    private double tokens;
+    private long lastRefill;
+
+    TokenBucket(double permitsPerSecond, int capacity, Ticker ticker) {
+        checkArgument(permitsPerSecond > 0, "The rate must be positive.");
+        checkArgument(capacity > 0, "The capacity must be positive.");
+        this.capacity = capacity;
+        this.tokensPerNano = permitsPerSecond / NANOS_PER_SECOND;
+        this.ticker = checkNotNull(ticker);
+        this.tokens = capacity;
+        this.lastRefill = ticker.read();
+    }
+
+    /**
+     * Takes a token from the bucket if there is one.
+     *
+     * @return zero if the token is taken, or the time in nanoseconds after which the next
+     *         token becomes available otherwise
+     */
+    synchronized long tryAcquire() {
+        refill();
+        if (tokens >= 1) {
+            tokens -= 1;
+            return 0;
+        }
+        final long waitNanos = (long) Math.ceil((1 - tokens) / tokensPerNano);
+        return waitNanos;
+    }
+
+    /**
+     * Returns a token {@linkplain #tryAcquire() taken} by a command which was not admitted.
+     */
+    synchronized void refund() {
+        tokens = Math.min(capacity, tokens + 1);
+    }
+
+    private void refill() {
+        final long now = ticker.read();
+        final long elapsed = now - lastRefill;
+        if (elapsed > 0) {
+            tokens = Math.min(capacity, tokens + elapsed * tokensPerNano);
+            lastRefill = now;
+        }
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2018, TeamDev Ltd. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.delivery;
+
+import io.spine.annotation.Internal;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.util.concurrent.Uninterruptibles.tryAcquireUninterruptibly;
+import static io.spine.util.Exceptions.newIllegalStateException;
+
+/**
+ * A queue of items delivered one by one by a single task at a time.
+ *
+ * <p>The drain task is run by the given {@link Executor}. Thus, the items of a lane are
+ * delivered in the order they were {@linkplain #enqueue(Object) enqueued}, while different
+ * lanes may be drained concurrently.
+ *
+ * <p>Each enqueued item holds a permit of the given {@link Semaphore} until it is delivered.
+ * The semaphore may be shared by several lanes to bound the total number of pending items.
+ * If no permit becomes available within the given time, the item is rejected with
+ * an {@link IllegalStateException}. An item is never delivered past the queue, as this would
+ * break the order of the delivery and let the item be delivered concurrently with
+ * the drain task.
+ *
+ * <p>The errors of the delivery are passed to {@link #onError(Object, RuntimeException)
+ * onError()} instead of being propagated.
+ *
+ * @param <T> the type of the delivered items
+ * @author Dmytry Dyachenko
+ */
+@Internal
+public abstract class SerialLane<T> implements Runnable {
+
+    private final Executor executor;
+    private final Semaphore capacity;
+    private final long maxOfferWaitNanos;
+    private final Queue<T> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean(false);
+
+    /**
+     * Creates a new instance.
+     *
+     * @param executor     the executor to run the drain task
+     * @param capacity     the permits for the pending items
+     * @param maxOfferWait the time to wait for a permit before rejecting an item
+     * @param unit         the unit of the waiting time
+     */
+    protected SerialLane(Executor executor, Semaphore capacity, long maxOfferWait, TimeUnit unit) {
+        checkArgument(maxOfferWait >= 0, "The waiting time must not be negative.");
+        this.executor = checkNotNull(executor);
+        this.capacity = checkNotNull(capacity);
+        this.maxOfferWaitNanos = unit.toNanos(maxOfferWait);
+    }
+
+    /**
+     * Delivers the given item.
+     */
+    protected abstract void deliver(T item);
+
+    /**
+     * Handles an error thrown while delivering the given item.
+     *
+     * <p>The errors thrown by this method are logged.
+     */
+    protected abstract void onError(T item, RuntimeException exception);
+
+    /**
+     * Puts the item to the queue of this lane and schedules the drain task if needed.
+     *
+     * @throws IllegalStateException if the permit for the item cannot be obtained in time
+     */
+    public final void enqueue(T item) {
+        checkNotNull(item);
+        if (!tryAcquireUninterruptibly(capacity, maxOfferWaitNanos, TimeUnit.NANOSECONDS)) {
+            throw newIllegalStateException("The lane is full. Cannot enqueue %s.", item);
+        }
+        queue.add(item);
+        schedule();
+    }
+
+    /**
+     * Obtains the number of items which are not yet delivered.
+     */
+    public final int size() {
+        return queue.size();
+    }
+
+    /**
+     * Obtains the oldest item which is not yet delivered.
+     *
+     * @return the item or {@code null} if the lane is empty
+     */
+    @Nullable
+    public final T peek() {
+        return queue.peek();
+    }
+
+    /**
+     * Delivers all the queued items.
+     *
+     * <p>An item is removed from the queue only after its delivery.
+     */
+    @Override
+    public final void run() {
+        try {
+            T item = queue.peek();
+            while (item != null) {
+                try {
+                    deliverSafely(item);
+                } finally {
+                    queue.poll();
+                    capacity.release();
+                }
+                item = queue.peek();
+            }
+        } finally {
+            scheduled.set(false);
+            // An item might have been enqueued after the last check.
+            if (!queue.isEmpty()) {
+                schedule();
+            }
+        }
+    }
+
+    private void schedule() {
+        if (scheduled.compareAndSet(false, true)) {
+            try {
+                executor.execute(this);
+            } catch (RuntimeException e) {
+                scheduled.set(false);
+                throw e;
+            }
+        }
+    }
+
+    private void deliverSafely(T item) {
+        try {
+            deliver(item);
+        } catch (RuntimeException e) {
+            try {
+                onError(item, e);
+            } catch (RuntimeException onErrorFailure) {
+                log().error("Error handling the failed delivery of " + item, onErrorFailure);
+            }
+        }
+    }
+
+    private enum LogSingleton {
+        INSTANCE;
+        @SuppressWarnings("NonSerializableFieldInSerializableClass")
+        private final Logger value = LoggerFactory.getLogger(SerialLane.class);
+    }
+
+    private static Logger log() {
+        return LogSingleton.INSTANCE.value;
+    }
+}
@@ -20,7 +20,11 @@
 
 package io.spine.server.entity;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
 import com.google.protobuf.Message;
 import io.spine.annotation.Internal;
 import io.spine.core.ActorMessageEnvelope;
@@ -33,7 +37,17 @@ import io.spine.string.Stringifiers;
 
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
 
+import static com.google.common.collect.Lists.newArrayList;
+import static com.google.common.collect.Sets.newHashSet;
+import static com.google.common.collect.Sets.newLinkedHashSet;
+import static com.google.common.util.concurrent.Uninterruptibles.getUninterruptibly;
+import static io.spine.server.tenant.TenantAwareTasks.await;
+import static io.spine.server.tenant.TenantAwareTasks.submit;
 import static io.spine.util.Exceptions.newIllegalStateException;
 
 /**
@@ -173,6 +187,10 @@ public abstract class EntityMessageEndpoint<I,
 
     /**
      * Processes the exception thrown during dispatching the message.
+     *
+     * <p>If the message is dispatched to multiple entities by a concurrent
+     * {@linkplain Repository#getMulticastExecutor() multicast executor}, this method is called
+     * by the threads of the executor and may be called concurrently for different entities.
      */
     protected abstract void onError(M envelope, RuntimeException exception);
 
@@ -183,16 +201,122 @@ public abstract class EntityMessageEndpoint<I,
      * @return the set of aggregate IDs to which the message was successfully dispatched
      */
     private Set<I> dispatchToMany(Set<I> targets) {
+        final M envelope = envelope();
+        final EndpointDelivery<I, E, M> delivery = getEndpointDelivery(envelope);
+        final Set<I> postponed = newHashSet();
+        final Set<I> toDeliver = newLinkedHashSet();
+        for (I id : targets) {
+            try {
+                if (delivery.shouldPostpone(id, envelope)) {
+                    postponed.add(id);
+                } else {
+                    toDeliver.add(id);
+                }
+            } catch (RuntimeException exception) {
+                onError(envelope, exception);
+            }
+        }
+        final Set<I> delivered = toDeliver.isEmpty()
+                                 ? ImmutableSet.<I>of()
+                                 : deliverNowToAll(toDeliver);
         final ImmutableSet.Builder<I> result = ImmutableSet.builder();
         for (I id : targets) {
+            if (postponed.contains(id) || delivered.contains(id)) {
+                result.add(id);
+            }
+        }
+        return result.build();
+    }
+
+    /**
+     * Dispatches the message to the entities with the passed IDs, providing transactional work
+     * and storage of each entity.
+     *
+     * <p>Performs the delivery directly to the entities not taking
+     * the delivery strategy into account.
+     *
+     * <p>The IDs are split into {@linkplain Repository#getMulticastPartitionSize() partitions},
+     * which are {@linkplain #deliverNowToPartition(List) dispatched} by
+     * the {@linkplain Repository#getMulticastExecutor() multicast executor} of the repository.
+     * The last partition is dispatched by the calling thread, which then waits until all
+     * the other partitions are dispatched, even if the dispatching in the calling thread fails.
+     *
+     * @param entityIds the IDs of the entities for which to dispatch the message
+     * @return the IDs of the entities to which the message was dispatched successfully
+     */
+    private Set<I> deliverNowToAll(Set<I> entityIds) {
+        final Repository<I, E> repository = repository();
+        final List<List<I>> partitions = Lists.partition(ImmutableList.copyOf(entityIds),
+                                                         repository.getMulticastPartitionSize());
+        final int lastIndex = partitions.size() - 1;
+        final Executor executor = repository.getMulticastExecutor();
+        final TenantId tenantId = envelope().getTenantId();
+        final List<ListenableFuture<Set<I>>> deliveries = newArrayList();
+        for (List<I> partition : partitions.subList(0, lastIndex)) {
+            deliveries.add(submit(executor, tenantId, deliveryTo(partition)));
+        }
+        final Set<I> result;
+        try {
+            result = newHashSet(deliverNowToPartition(partitions.get(lastIndex)));
+        } finally {
+            // Do not leave the other partitions being dispatched if the calling thread fails.
+            awaitCompletion(deliveries);
+        }
+        final List<Set<I>> delivered = await(Futures.allAsList(deliveries));
+        for (Set<I> partition : delivered) {
+            result.addAll(partition);
+        }
+        return result;
+    }
+
+    /**
+     * Waits until each of the passed deliveries completes, either successfully or not.
+     */
+    private static void awaitCompletion(List<? extends Future<?>> deliveries) {
+        for (Future<?> delivery : deliveries) {
             try {
-                dispatchToOne(id);
+                getUninterruptibly(delivery);
+            } catch (ExecutionException ignored) {
+                // The failure is propagated when the results of the deliveries are collected.
+            }
+        }
+    }
+
+    /**
+     * Creates a task which delivers the message to the passed partition of the entities.
+     */
+    private Callable<Set<I>> deliveryTo(final List<I> partition) {
+        return new Callable<Set<I>>() {
+            @Override
+            public Set<I> call() {
+                return deliverNowToPartition(partition);
+            }
+        };
+    }
+
+    /**
+     * Dispatches the message to the entities of a single partition.
+     *
+     * <p>By default, the message is {@linkplain #deliverNowTo(Object) delivered} to
+     * the entities one by one.
+     *
+     * <p>An error of the delivery to an entity is {@linkplain #onError(ActorMessageEnvelope,
+     * RuntimeException) processed} and does not prevent the delivery to other entities.
+     *
+     * @param entityIds the IDs of the entities of the partition
+     * @return the IDs of the entities to which the message was dispatched successfully
+     */
+    protected Set<I> deliverNowToPartition(List<I> entityIds) {
+        final Set<I> result = newHashSet();
+        for (I id : entityIds) {
+            try {
+                deliverNowTo(id);
                 result.add(id);
             } catch (RuntimeException exception) {
                 onError(envelope(), exception);
             }
         }
-        return result.build();
+        return result;
     }
 
     /**
@@ -30,6 +30,7 @@ import io.spine.core.EventContext;
 import io.spine.core.MessageEnvelope;
 import io.spine.core.TenantId;
 import io.spine.core.Version;
+import io.spine.protobuf.AnyPacker;
 import io.spine.string.Stringifiers;
 
 import javax.annotation.Nullable;
@@ -49,6 +50,16 @@ public final class EntityStateEnvelope<I, S extends Message>
      */
     private final S entityState;
 
+    /**
+     * The state of the entity, packed as {@code Any}.
+     *
+     * <p>Is packed on the first {@linkplain #getPackedMessage() request}. The field is
+     * {@code volatile} for a safe publication. Concurrent first requests may pack the state more
+     * than once, which is harmless, as the packed messages are equal.
+     */
+    @Nullable
+    private volatile Any packedState;
+
     /**
      * The ID of the entity, packed as {@code Any}.
      */
@@ -127,6 +138,20 @@ public final class EntityStateEnvelope<I, S extends Message>
         return entityState;
     }
 
+    /**
+     * Obtains the entity state packed as {@code Any}.
+     *
+     * <p>The state is packed once per envelope.
+     */
+    public Any getPackedMessage() {
+        Any result = packedState;
+        if (result == null) {
+            result = AnyPacker.pack(entityState);
+            packedState = result;
+        }
+        return result;
+    }
+
     @Override
     public EntityStateClass getMessageClass() {
         return this.entityStateClass;
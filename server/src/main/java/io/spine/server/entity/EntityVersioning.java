@@ -44,8 +44,8 @@ public enum EntityVersioning {
      */
     FROM_EVENT {
         @Override
-        Version nextVersion(Transaction.Phase<?, ?, ?, ?> phase) {
-            final Version fromEvent = phase.getContext().getVersion();
+        Version nextVersion(Version current, EventContext context) {
+            final Version fromEvent = context.getVersion();
             return fromEvent;
         }
     },
@@ -61,8 +61,7 @@ public enum EntityVersioning {
      */
     AUTO_INCREMENT {
         @Override
-        Version nextVersion(Transaction.Phase<?, ?, ?, ?> phase) {
-            final Version current = phase.getUnderlyingTransaction().getVersion();
+        Version nextVersion(Version current, EventContext context) {
             final Version newVersion = Versions.increment(current);
             return newVersion;
         }
@@ -77,5 +76,21 @@ public enum EntityVersioning {
      * @param phase the transaction phase that causes the version change
      * @return the advanced version
      */
-    abstract Version nextVersion(Transaction.Phase<?, ?, ?, ?> phase);
+    Version nextVersion(Transaction.Phase<?, ?, ?, ?> phase) {
+        final Version current = phase.getUnderlyingTransaction()
+                                     .getVersion();
+        return nextVersion(current, phase.getContext());
+    }
+
+    /**
+     * Creates the {@link Entity} version which is set after an event with the given context
+     * is applied to the entity of the given version.
+     *
+     * <p>This method has no side effects.
+     *
+     * @param current the version of the entity before the event is applied
+     * @param context the context of the applied event
+     * @return the advanced version
+     */
+    abstract Version nextVersion(Version current, EventContext context);
 }
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2018, TeamDev Ltd. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package io.spine.server.entity;
+
+import com.google.common.base.Objects;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.FieldMask;
+import com.google.protobuf.Internal;
+import com.google.protobuf.Message;
+import io.spine.type.TypeUrl;
+
+import java.util.Set;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Throwables.throwIfUnchecked;
+
+/**
+ * Applies a {@link FieldMask} to the messages of a certain type.
+ *
+ * <p>The fields of the type selected by the mask are resolved once, when the projector is
+ * created. The projectors are cached, so that applying the same mask to many messages of
+ * the same type does not resolve the fields again.
+ *
+ * @author Dmytry Dyachenko
+ */
+final class FieldMaskProjector {
+
+    /** The maximum number of the cached projectors. */
+    private static final int CACHE_SIZE = 1024;
+
+    private static final LoadingCache<Key, FieldMaskProjector> cache =
+            CacheBuilder.newBuilder()
+                        .maximumSize(CACHE_SIZE)
+                        .build(new CacheLoader<Key, FieldMaskProjector>() {
+                            @Override
+                            public FieldMaskProjector load(Key key) {
+                                return new FieldMaskProjector(key.mask, key.type);
+                            }
+                        });
+
+    private final Message defaultInstance;
+    private final ImmutableList<FieldDescriptor> fields;
+
+    private FieldMaskProjector(FieldMask mask, TypeUrl type) {
+        final Class<? extends Message> messageClass = type.getJavaClass();
+        this.defaultInstance = Internal.getDefaultInstance(messageClass);
+        final Set<String> paths = ImmutableSet.copyOf(mask.getPathsList());
+        final ImmutableList.Builder<FieldDescriptor> fields = ImmutableList.builder();
+        for (FieldDescriptor field : defaultInstance.getDescriptorForType()
+                                                    .getFields()) {
+            if (paths.contains(field.getFullName())) {
+                fields.add(field);
+            }
+        }
+        this.fields = fields.build();
+    }
+
+    /**
+     * Obtains the projector of the messages of the given type by the given mask.
+     */
+    static FieldMaskProjector of(FieldMask mask, TypeUrl type) {
+        checkNotNull(mask);
+        checkNotNull(type);
+        try {
+            final FieldMaskProjector result = cache.getUnchecked(new Key(mask, type));
+            return result;
+        } catch (UncheckedExecutionException e) {
+            throwIfUnchecked(e.getCause());
+            throw e;
+        }
+    }
+
+    /**
+     * Creates a message, which has only the masked fields of the given one.
+     *
+     * @param message the message of the type of this projector
+     * @return new message with the masked fields
+     * @throws IllegalArgumentException if the message is of another type
+     */
+    <M extends Message> M apply(M message) {
+        checkNotNull(message);
+        final Descriptor type = defaultInstance.getDescriptorForType();
+        checkArgument(message.getDescriptorForType()
+                             .equals(type),
+                      "Cannot apply the mask for %s to %s.",
+                      type.getFullName(), message.getDescriptorForType()
+                                                 .getFullName());
+        final Message.Builder builder = defaultInstance.newBuilderForType();
+        for (FieldDescriptor field : fields) {
+            builder.setField(field, message.getField(field));
+        }
+        @SuppressWarnings("unchecked") // The builder is of the type of the message.
+        final M result = (M) builder.build();
+        return result;
+    }
+
+    /**
+     * The key of a projector in the cache.
+     */
+    private static final class Key {
+
+        private final FieldMask mask;
+        private final TypeUrl type;
+
+        private Key(FieldMask mask, TypeUrl type) {
+            this.mask = mask;
+            this.type = type;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final Key other = (Key) o;
+            return Objects.equal(mask, other.mask) &&
+                    Objects.equal(type, other.type);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(mask, type);
+        }
+    }
+}
@@ -24,22 +24,15 @@ import com.google.protobuf.Descriptors;
 import com.google.protobuf.Descriptors.Descriptor;
 import com.google.protobuf.FieldMask;
 import com.google.protobuf.Message;
-import com.google.protobuf.ProtocolStringList;
 import io.spine.type.TypeUrl;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nonnull;
-import javax.annotation.Nullable;
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 
 import static com.google.common.base.Preconditions.checkNotNull;
-import static java.lang.String.format;
 
 /**
  * A utility class for creating instances of {@code FieldMask} and processing them
@@ -50,13 +43,6 @@ import static java.lang.String.format;
 @SuppressWarnings("UtilityClass")
 public class FieldMasks {
 
-    private static final String CONSTRUCTOR_INVOCATION_ERROR_LOGGING_PATTERN =
-            "Constructor for type %s could not be found or called: ";
-
-    private static final String TYPE_CAST_ERROR_LOGGING_PATTERN =
-            "Class %s must be assignable from com.google.protobuf.Message. " +
-            "Try to rebuild the project. Make sure type URL is valid.";
-
     private FieldMasks() {
         // Prevent instantiation of this utility class.
     }
@@ -97,39 +83,23 @@ public class FieldMasks {
      * @return messages with the {@code FieldMask} applied
      */
     @Nonnull
-    public static <M extends Message, B extends Message.Builder>
-    Collection<M> applyMask(FieldMask mask,
-                            Collection<M> messages,
-                            TypeUrl type) {
+    public static <M extends Message> Collection<M> applyMask(FieldMask mask,
+                                                             Collection<M> messages,
+                                                             TypeUrl type) {
         checkNotNull(mask);
         checkNotNull(messages);
         checkNotNull(type);
 
-        final List<M> filtered = new LinkedList<>();
-        final ProtocolStringList filter = mask.getPathsList();
-        final Class<B> builderClass = getBuilderForType(type);
-
-        if (filter.isEmpty() || builderClass == null) {
+        if (mask.getPathsList()
+                .isEmpty()) {
             return Collections.unmodifiableCollection(messages);
         }
 
-        try {
-            final Constructor<B> builderConstructor = builderClass.getDeclaredConstructor();
-            builderConstructor.setAccessible(true);
-
-            for (Message wholeMessage : messages) {
-                final M message = messageForFilter(filter, builderConstructor, wholeMessage);
-                filtered.add(message);
-            }
-        } catch (NoSuchMethodException |
-                InvocationTargetException |
-                IllegalAccessException |
-                InstantiationException e) {
-            // If any reflection failure happens, return all the data without any mask applied.
-            log().warn(format(CONSTRUCTOR_INVOCATION_ERROR_LOGGING_PATTERN,
-                              builderClass.getCanonicalName()),
-                       e);
-            return Collections.unmodifiableCollection(messages);
+        final FieldMaskProjector projector = FieldMaskProjector.of(mask, type);
+        final List<M> filtered = new ArrayList<>(messages.size());
+        for (M wholeMessage : messages) {
+            final M message = projector.apply(wholeMessage);
+            filtered.add(message);
         }
         return Collections.unmodifiableList(filtered);
     }
@@ -155,84 +125,13 @@ public class FieldMasks {
         return message;
     }
 
-    private static <M extends Message, B extends Message.Builder> M doApply(FieldMask mask,
-                                                                            M message,
-                                                                            TypeUrl type) {
+    private static <M extends Message> M doApply(FieldMask mask, M message, TypeUrl type) {
         checkNotNull(mask);
         checkNotNull(message);
         checkNotNull(type);
 
-        final ProtocolStringList filter = mask.getPathsList();
-        final Class<B> builderClass = getBuilderForType(type);
-
-        if (builderClass == null) {
-            return message;
-        }
-
-        try {
-            final Constructor<B> builderConstructor = builderClass.getDeclaredConstructor();
-            builderConstructor.setAccessible(true);
-
-            final M result = messageForFilter(filter, builderConstructor, message);
-            return result;
-        } catch (NoSuchMethodException |
-                InvocationTargetException |
-                IllegalAccessException |
-                InstantiationException e) {
-            log().warn(format(CONSTRUCTOR_INVOCATION_ERROR_LOGGING_PATTERN,
-                              builderClass.getCanonicalName()),
-                       e);
-            return message;
-        }
-    }
-
-    private static <M extends Message, B extends Message.Builder> M messageForFilter(
-            ProtocolStringList filter,
-            Constructor<B> builderConstructor, Message wholeMessage)
-            throws InstantiationException,
-                   IllegalAccessException,
-                   InvocationTargetException {
-        final B builder = builderConstructor.newInstance();
-
-        final List<Descriptors.FieldDescriptor> fields = wholeMessage.getDescriptorForType()
-                                                                     .getFields();
-        for (Descriptors.FieldDescriptor field : fields) {
-            if (filter.contains(field.getFullName())) {
-                builder.setField(field, wholeMessage.getField(field));
-            }
-        }
-        @SuppressWarnings("unchecked")
-        // It's fine as the constructor is of {@code MessageCls.Builder} type.
-        final M result = (M) builder.build();
+        final M result = FieldMaskProjector.of(mask, type)
+                                           .apply(message);
         return result;
     }
-
-    @SuppressWarnings("unchecked")
-        // We assume that TypeUrl.getJavaClass() works properly.
-    @Nullable
-    private static <B extends Message.Builder> Class<B> getBuilderForType(TypeUrl typeUrl) {
-        final Class<? extends Message> msgClass = typeUrl.getJavaClass();
-        Class<B> builderClass;
-        try {
-            builderClass = (Class<B>) msgClass.getClasses()[0];
-        } catch (ClassCastException e) {
-            final String message = format(
-                    TYPE_CAST_ERROR_LOGGING_PATTERN,
-                    msgClass.getCanonicalName());
-            log().warn(message, e);
-            builderClass = null;
-        }
-
-        return builderClass;
-    }
-
-    private static Logger log() {
-        return LogSingleton.INSTANCE.value;
-    }
-
-    private enum LogSingleton {
-        INSTANCE;
-        @SuppressWarnings("NonSerializableFieldInSerializableClass")
-        private final Logger value = LoggerFactory.getLogger(FieldMasks.class);
-    }
 }
@@ -31,6 +31,7 @@ import com.google.protobuf.Message;
 import io.spine.annotation.Internal;
 import io.spine.client.EntityFilters;
 import io.spine.client.EntityId;
+import io.spine.client.OrderBy;
 import io.spine.server.entity.storage.EntityQueries;
 import io.spine.server.entity.storage.EntityQuery;
 import io.spine.server.entity.storage.EntityRecordWithColumns;
@@ -290,6 +291,21 @@ public abstract class RecordBasedRepository<I, E extends Entity<I, S>, S extends
         return result;
     }
 
+    /**
+     * Obtains iterator over the {@link EntityRecord}s of all the entities in this repository.
+     *
+     * <p>Unlike {@link #loadAll()}, does not convert the records into entities.
+     *
+     * <p>NOTE: The storage must be assigned before calling this method.
+     *
+     * @return an iterator over all the records
+     */
+    @Internal
+    public Iterator<EntityRecord> loadAllRecords() {
+        final RecordStorage<I> storage = recordStorage();
+        return storage.readAll();
+    }
+
     /**
      * Finds all the entities passing the given filters and
      * applies the given {@link FieldMask} to the results.
@@ -338,6 +354,34 @@ public abstract class RecordBasedRepository<I, E extends Entity<I, S>, S extends
         return recordStorage().readAll(completeQuery, fieldMask);
     }
 
+    /**
+     * Obtains iterator over a page of the ordered {@link EntityRecord}s for entities matching
+     * the passed filters.
+     *
+     * @param filters   the filters for filtering entities
+     * @param orderBy   the order of the records; if the column is not set, the order
+     *                  is not defined
+     * @param offset    the number of the leading matching records to skip
+     * @param limit     the maximum number of the records to return, zero meaning no limit
+     * @param fieldMask the mask to apply for returned records
+     * @return an iterator over the page of the matching records
+     */
+    @Internal
+    public Iterator<EntityRecord> findRecords(EntityFilters filters,
+                                              OrderBy orderBy,
+                                              int offset,
+                                              int limit,
+                                              FieldMask fieldMask) {
+        checkNotNull(filters);
+        checkNotNull(orderBy);
+        checkNotNull(fieldMask);
+
+        final EntityQuery<I> entityQuery = EntityQueries.from(filters, orderBy, offset, limit,
+                                                              getEntityClass());
+        final EntityQuery<I> completeQuery = toCompleteQuery(entityQuery);
+        return recordStorage().readAll(completeQuery, fieldMask);
+    }
+
     /**
      * Creates an {@link EntityQuery} instance which has:
      * <ul>
@@ -24,7 +24,9 @@ import com.google.common.base.Optional;
 import com.google.common.base.Predicate;
 import com.google.common.base.Supplier;
 import com.google.common.collect.Iterators;
+import com.google.common.util.concurrent.MoreExecutors;
 import io.spine.Identifier;
+import io.spine.annotation.SPI;
 import io.spine.core.MessageEnvelope;
 import io.spine.server.BoundedContext;
 import io.spine.server.model.Model;
@@ -42,6 +44,7 @@ import javax.annotation.CheckReturnValue;
 import javax.annotation.Nullable;
 import javax.annotation.OverridingMethodsMustInvokeSuper;
 import java.util.Iterator;
+import java.util.concurrent.Executor;
 
 import static com.google.common.base.Preconditions.checkState;
 import static io.spine.server.entity.Repository.GenericParameter.ENTITY;
@@ -62,6 +65,9 @@ public abstract class Repository<I, E extends Entity<I, ?>>
 
     private static final String ERR_MSG_STORAGE_NOT_ASSIGNED = "Storage is not assigned.";
 
+    /** The default number of the entities to which a multicast message is dispatched by a task. */
+    private static final int DEFAULT_MULTICAST_PARTITION_SIZE = 64;
+
     /**
      * The {@link BoundedContext} to which the repository belongs.
      *
@@ -371,6 +377,55 @@ public abstract class Repository<I, E extends Entity<I, ?>>
         log().error(errorMessage, exception);
     }
 
+    /**
+     * Obtains the executor which dispatches a message routed to multiple entities.
+     *
+     * <p>The IDs of the target entities are split into {@linkplain #getMulticastPartitionSize()
+     * partitions}, each of which is dispatched by a separate task. One of the partitions is
+     * dispatched by the calling thread itself. A message is dispatched to all its targets before
+     * the next message is handled. Thus, the order of the messages is preserved for each entity.
+     *
+     * <p>A message routed to multiple entities by a thread of the executor, e.g. by a handler
+     * of the dispatched message, is dispatched by that thread directly. So the executor
+     * threads never wait for each other, and a thread pool of a bounded size may be shared
+     * with other tasks, such as the
+     * {@linkplain io.spine.server.aggregate.AggregateRepository#getReplayExecutor() restoring}
+     * of the aggregates.
+     *
+     * <p>By default, the partitions are dispatched one by one in the calling thread.
+     *
+     * <p>Descendants may override this method to dispatch the message to many entities in
+     * parallel, e.g. by a thread pool of a bounded size. In this case, the dispatching to
+     * the entities must be safe to execute concurrently. This includes the handling of
+     * the dispatching errors, e.g. by
+     * {@link io.spine.server.aggregate.AggregateRepository#onError(io.spine.core.EventEnvelope,
+     * RuntimeException) onError()}, which is called by the executor threads and may be called
+     * concurrently for the entities of different partitions.
+     *
+     * @return the executor for dispatching a message to multiple entities
+     */
+    @SPI
+    protected Executor getMulticastExecutor() {
+        return MoreExecutors.directExecutor();
+    }
+
+    /**
+     * Obtains the maximum number of the entities to which a message routed to multiple entities
+     * is dispatched by a single task of the {@linkplain #getMulticastExecutor() multicast
+     * executor}.
+     *
+     * <p>By default, is {@value #DEFAULT_MULTICAST_PARTITION_SIZE}.
+     *
+     * <p>Descendants may override this method to balance the overhead of the tasks against
+     * the parallelism of the dispatching.
+     *
+     * @return the positive size of a partition
+     */
+    @SPI
+    protected int getMulticastPartitionSize() {
+        return DEFAULT_MULTICAST_PARTITION_SIZE;
+    }
+
     /**
      * Enumeration of generic type parameters of this class.
      */
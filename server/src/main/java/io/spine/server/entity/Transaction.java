@@ -132,6 +132,13 @@ public abstract class Transaction<I,
      */
     private final List<Phase<I, E, S, B>> phases = newLinkedList();
 
+    /**
+     * Tells whether this transaction replays the history of the entity.
+     *
+     * @see #startReplay()
+     */
+    private boolean replay;
+
     /**
      * Creates a new instance of {@code Transaction} and
      * {@linkplain EventPlayingEntity#injectTransaction(Transaction) injects} the newly created
@@ -307,6 +314,22 @@ public abstract class Transaction<I,
         entity.releaseTransaction();
     }
 
+    /**
+     * Switches this transaction to the replay of the entity history.
+     *
+     * <p>In the replay mode, the events are applied to the entity without creating
+     * the {@linkplain Phase phases}. Thus, the phases are neither
+     * {@linkplain #getPhases() recorded}, nor passed to the
+     * {@linkplain TransactionListener#onAfterPhase(Phase) listener}. The entity version is
+     * advanced and the new state is validated upon {@linkplain #commit() commit} as usual.
+     *
+     * <p>This mode is suitable for restoring an entity from its events, when nobody
+     * watches the individual phases.
+     */
+    protected void startReplay() {
+        this.replay = true;
+    }
+
     /**
      * Creates a new {@linkplain Phase transaction phase} for the given event
      * and propagates the phase.
@@ -320,6 +343,10 @@ public abstract class Transaction<I,
      */
     @SuppressWarnings("OverlyBroadCatchBlock")  // to `rollback(..)` in case of any exception.
     Transaction<I, E, S, B> apply(EventEnvelope event) {
+        if (replay) {
+            replay(event);
+            return this;
+        }
         final Phase<I, E, S, B> phase = new Phase<>(this, event);
 
         Phase<I, E, S, B> appliedPhase = null;
@@ -338,6 +365,27 @@ public abstract class Transaction<I,
         return this;
     }
 
+    /**
+     * Applies the given event to the entity and advances the version without creating
+     * a {@linkplain Phase phase}.
+     *
+     * <p>In case of an exception, the {@linkplain #rollback(Throwable) transaction rollback}
+     * is performed.
+     */
+    @SuppressWarnings("OverlyBroadCatchBlock")  // to `rollback(..)` in case of any exception.
+    private void replay(EventEnvelope event) {
+        try {
+            dispatch(entity, event);
+            final Version nextVersion = versioningStrategy().nextVersion(version,
+                                                                         event.getEventContext());
+            checkIsIncrement(version, nextVersion);
+            setVersion(nextVersion);
+        } catch (Throwable t) {
+            rollback(t);
+            throw illegalStateWithCauseOf(t);
+        }
+    }
+
     private InvalidEntityStateException of(ValidationException exception) {
         final Message invalidState = currentBuilderState();
         return onConstraintViolations(invalidState, exception.getConstraintViolations());
@@ -20,8 +20,8 @@
 
 package io.spine.server.entity.storage;
 
-import com.google.common.collect.LinkedListMultimap;
-import com.google.common.collect.Multimap;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import io.spine.annotation.Internal;
 import io.spine.server.entity.Entity;
 import io.spine.server.entity.EntityClass;
@@ -29,6 +29,7 @@ import io.spine.server.entity.storage.EntityColumn.MemoizedValue;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
 import java.beans.BeanInfo;
 import java.beans.IntrospectionException;
 import java.beans.Introspector;
@@ -42,7 +43,7 @@ import java.util.Map;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.collect.Lists.newLinkedList;
-import static com.google.common.collect.Multimaps.synchronizedListMultimap;
+import static com.google.common.collect.Maps.newLinkedHashMap;
 import static io.spine.server.entity.storage.ColumnRecords.getAnnotatedVersion;
 import static io.spine.util.Exceptions.newIllegalStateException;
 import static io.spine.validate.Validate.checkNotEmptyOrBlank;
@@ -80,13 +81,18 @@ public class Columns {
                     "Storage fields won't be extracted.";
 
     /**
-     * A one to many container of the {@link Class} to {@link EntityColumn} relations.
+     * The {@linkplain EntityColumn columns} of the {@link Entity} classes.
      *
-     * <p>This container is mutable and thread safe.
+     * <p>The columns of a class are discovered upon the first access to them and are
+     * never changed afterwards. Reading the known columns requires no locking.
      */
-    private static final Multimap<Class<? extends Entity>, EntityColumn> knownEntityProperties =
-            synchronizedListMultimap(
-                    LinkedListMultimap.<Class<? extends Entity>, EntityColumn>create());
+    private static final ClassValue<EntityColumns> knownEntityColumns =
+            new ClassValue<EntityColumns>() {
+                @Override
+                protected EntityColumns computeValue(Class<?> type) {
+                    return EntityColumns.of(type.asSubclass(Entity.class));
+                }
+            };
 
     /**
      * Prevents initialization of this class from outside.
@@ -100,7 +106,7 @@ public class Columns {
      * @param entityClass the class to check entity columns
      */
     public static void checkColumnDefinitions(EntityClass<?> entityClass) {
-        ensureRegistered(entityClass.value());
+        columnsOf(entityClass.value());
     }
 
     /**
@@ -125,8 +131,6 @@ public class Columns {
             logNonPublicClass(entityType);
             return Collections.emptyMap();
         }
-        ensureRegistered(entityType);
-
         final Map<String, MemoizedValue> fields = extractColumns(entityType, entity);
         return fields;
     }
@@ -147,14 +151,10 @@ public class Columns {
     static EntityColumn findColumn(Class<? extends Entity> entityClass, String columnName) {
         checkNotNull(entityClass);
         checkNotEmptyOrBlank(columnName, "entity column name");
-        ensureRegistered(entityClass);
 
-        final Collection<EntityColumn> cachedColumns = getColumns(entityClass);
-        for (EntityColumn column : cachedColumns) {
-            if (column.getName()
-                      .equals(columnName)) {
-                return column;
-            }
+        final EntityColumn column = columnsOf(entityClass).find(columnName);
+        if (column != null) {
+            return column;
         }
 
         throw new IllegalArgumentException(
@@ -171,9 +171,7 @@ public class Columns {
      */
     static Collection<EntityColumn> getColumns(Class<? extends Entity> entityClass) {
         checkNotNull(entityClass);
-        ensureRegistered(entityClass);
-
-        final Collection<EntityColumn> result = knownEntityProperties.get(entityClass);
+        final Collection<EntityColumn> result = columnsOf(entityClass).getColumns();
         return result;
     }
 
@@ -187,7 +185,7 @@ public class Columns {
      */
     private static Map<String, MemoizedValue> extractColumns(Class<? extends Entity> entityType,
                                                              Entity entity) {
-        final Collection<EntityColumn> columns = knownEntityProperties.get(entityType);
+        final Collection<EntityColumn> columns = columnsOf(entityType).getColumns();
         final Map<String, MemoizedValue> values = new HashMap<>(columns.size());
 
         for (EntityColumn column : columns) {
@@ -198,18 +196,15 @@ public class Columns {
         return values;
     }
 
-    private static void ensureRegistered(Class<? extends Entity> entityType) {
-        if (knownEntityProperties.containsKey(entityType)) {
-            return;
-        }
-        addToCache(entityType);
+    private static EntityColumns columnsOf(Class<? extends Entity> entityType) {
+        return knownEntityColumns.get(entityType);
     }
 
     /**
-     * Caches the {@linkplain Entity entity type}
-     * for further {@linkplain EntityColumn columns} retrieving.
+     * Discovers the {@linkplain EntityColumn columns} declared in the given
+     * {@linkplain Entity entity type}.
      */
-    private static void addToCache(Class<? extends Entity> entityType) {
+    private static Collection<EntityColumn> discoverColumns(Class<? extends Entity> entityType) {
         final BeanInfo entityDescriptor;
         try {
             entityDescriptor = Introspector.getBeanInfo(entityType);
@@ -227,7 +222,7 @@ public class Columns {
             }
         }
         checkRepeatedColumnNames(entityColumns, entityType);
-        knownEntityProperties.putAll(entityType, entityColumns);
+        return entityColumns;
     }
 
     /**
@@ -265,6 +260,45 @@ public class Columns {
         }
     }
 
+    /**
+     * The immutable set of the {@linkplain EntityColumn columns} of an {@link Entity} class.
+     */
+    private static final class EntityColumns {
+
+        private final ImmutableList<EntityColumn> columns;
+
+        /** The columns by their {@linkplain EntityColumn#getName() names}. */
+        private final ImmutableMap<String, EntityColumn> columnsByName;
+
+        private EntityColumns(ImmutableList<EntityColumn> columns,
+                              ImmutableMap<String, EntityColumn> columnsByName) {
+            this.columns = columns;
+            this.columnsByName = columnsByName;
+        }
+
+        private static EntityColumns of(Class<? extends Entity> entityType) {
+            final ImmutableList<EntityColumn> columns =
+                    ImmutableList.copyOf(discoverColumns(entityType));
+            final Map<String, EntityColumn> columnsByName = newLinkedHashMap();
+            for (EntityColumn column : columns) {
+                final String name = column.getName();
+                if (!columnsByName.containsKey(name)) {
+                    columnsByName.put(name, column);
+                }
+            }
+            return new EntityColumns(columns, ImmutableMap.copyOf(columnsByName));
+        }
+
+        private ImmutableList<EntityColumn> getColumns() {
+            return columns;
+        }
+
+        @Nullable
+        private EntityColumn find(String columnName) {
+            return columnsByName.get(columnName);
+        }
+    }
+
     private static Logger log() {
         return LogSingleton.INSTANCE.value;
     }
@@ -31,6 +31,9 @@ import javax.annotation.Nullable;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.Serializable;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.regex.Matcher;
@@ -188,6 +191,15 @@ public class EntityColumn implements Serializable {
      */
     private /*final*/ transient Method getter;
 
+    /**
+     * The handle for calling the {@linkplain #getter} directly or {@code null} if the getter
+     * can only be called via reflection.
+     *
+     * <p>Similarly to the {@linkplain #getter}, this field is restored upon deserialization.
+     */
+    @Nullable
+    private /*final*/ transient MethodHandle accessor;
+
     private final Class<?> entityType;
 
     private final String getterMethodName;
@@ -200,6 +212,7 @@ public class EntityColumn implements Serializable {
 
     private EntityColumn(Method getter, String name, String storedName, boolean nullable) {
         this.getter = getter;
+        this.accessor = accessorOf(getter);
         this.entityType = getter.getDeclaringClass();
         this.getterMethodName = getter.getName();
         this.name = name;
@@ -305,6 +318,9 @@ public class EntityColumn implements Serializable {
      * @return the value of the column represented by this instance
      */
     public Serializable getFor(Entity<?, ?> source) {
+        if (accessor != null && entityType.isInstance(source)) {
+            return getDirectly(accessor, source);
+        }
         try {
             final Serializable result = (Serializable) getter.invoke(source);
             if (!nullable) {
@@ -320,6 +336,49 @@ public class EntityColumn implements Serializable {
         }
     }
 
+    /**
+     * Retrieves the column value from the given {@link Entity} via the {@linkplain #accessor}.
+     *
+     * <p>An exception thrown by the getter is reported the same way as if the getter was called
+     * via reflection.
+     */
+    @SuppressWarnings("OverlyBroadCatchBlock") // Any failure of the getter is reported.
+    private Serializable getDirectly(MethodHandle accessor, Entity<?, ?> source) {
+        final Serializable result;
+        try {
+            result = (Serializable) (Object) accessor.invokeExact((Object) source);
+        } catch (Throwable t) {
+            throw new IllegalStateException(
+                    format("Could not invoke getter of property %s from object %s",
+                           getName(),
+                           source),
+                    new InvocationTargetException(t));
+        }
+        if (!nullable) {
+            checkNotNull(result, format("Not null getter %s returned null.", getter.getName()));
+        }
+        return result;
+    }
+
+    /**
+     * Creates a {@link MethodHandle} for the given getter.
+     *
+     * <p>The handle accepts the entity as an {@code Object} and returns the column value boxed
+     * into an {@code Object}.
+     *
+     * @return the handle or {@code null} if the getter is not accessible via a handle
+     */
+    @Nullable
+    private static MethodHandle accessorOf(Method getter) {
+        try {
+            final MethodHandle handle = MethodHandles.lookup()
+                                                     .unreflect(getter);
+            return handle.asType(MethodType.genericMethodType(1));
+        } catch (IllegalAccessException ignored) {
+            return null;
+        }
+    }
+
     /**
      * Retrieves the column value from the given {@link Entity}.
      *
@@ -375,6 +434,7 @@ public class EntityColumn implements Serializable {
                                                                   ClassNotFoundException {
         inputStream.defaultReadObject();
         getter = restoreGetter();
+        accessor = accessorOf(getter);
     }
 
     private Method restoreGetter() {
@@ -30,6 +30,7 @@ import io.spine.client.CompositeColumnFilter.CompositeOperator;
 import io.spine.client.EntityFilters;
 import io.spine.client.EntityId;
 import io.spine.client.EntityIdFilter;
+import io.spine.client.OrderBy;
 import io.spine.server.entity.Entity;
 
 import java.util.Collection;
@@ -75,8 +76,49 @@ public final class EntityQueries {
         return result;
     }
 
+    /**
+     * Creates a new instance of {@link EntityQuery} from the given {@link EntityFilters} targeting
+     * the given Entity class and returning a page of the ordered results.
+     *
+     * @param  entityFilters the filters for the Entities specifying the query predicate
+     * @param  orderBy       the order of the query results; if the column is not set,
+     *                       the order is not defined
+     * @param  offset        the number of the leading results to skip
+     * @param  limit         the maximum number of the results to return, zero meaning no limit
+     * @param  entityClass   the Entity class specifying the query target
+     * @return new instance of the {@code EntityQuery} with the specified attributes
+     */
+    public static <I> EntityQuery<I> from(EntityFilters entityFilters,
+                                          OrderBy orderBy,
+                                          int offset,
+                                          int limit,
+                                          Class<? extends Entity> entityClass) {
+        checkNotNull(entityFilters);
+        checkNotNull(orderBy);
+        checkNotNull(entityClass);
+
+        final QueryParameters.Builder builder = toQueryParamsBuilder(entityFilters, entityClass)
+                .setOffset(offset)
+                .setLimit(limit);
+        final String orderColumn = orderBy.getColumn();
+        if (!orderColumn.isEmpty()) {
+            final EntityColumn column = findColumn(entityClass, orderColumn);
+            builder.orderBy(column, orderBy.getDirection());
+        }
+        final Collection<I> ids = toGenericIdValues(entityFilters);
+
+        final EntityQuery<I> result = EntityQuery.of(ids, builder.build());
+        return result;
+    }
+
     private static QueryParameters toQueryParams(EntityFilters entityFilters,
                                                  Class<? extends Entity> entityClass) {
+        return toQueryParamsBuilder(entityFilters, entityClass).build();
+    }
+
+    private static QueryParameters.Builder toQueryParamsBuilder(
+            EntityFilters entityFilters,
+            Class<? extends Entity> entityClass) {
         final QueryParameters.Builder builder = QueryParameters.newBuilder();
 
         for (CompositeColumnFilter filter : entityFilters.getFilterList()) {
@@ -87,7 +129,7 @@ public final class EntityQueries {
                     CompositeQueryParameter.from(columnFilters, operator);
             builder.add(parameter);
         }
-        return builder.build();
+        return builder;
     }
 
     private static Multimap<EntityColumn, ColumnFilter> splitFilters(
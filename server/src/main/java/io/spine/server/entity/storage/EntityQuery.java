@@ -68,6 +68,9 @@ import static io.spine.server.storage.LifecycleFlagField.deleted;
  * {@linkplain EntityQuery#getParameters() query parameters} are empty, all the records are
  * considered matching.
  *
+ * <p>The {@linkplain QueryParameters#getOrderColumn() order} and the page of the matching records
+ * to return are defined by the query parameters as well.
+ *
  * <p>If the query specifies the values of
  * the {@linkplain io.spine.server.entity.LifecycleFlags Entity lifecycle Columns}, then
  * the {@linkplain io.spine.server.storage.RecordStorage#readAll(EntityQuery,
@@ -151,8 +154,7 @@ public final class EntityQuery<I> implements Serializable {
                                      deletedColumn, eq(deletedColumn.getName(), false)),
                 ALL
         );
-        final QueryParameters parameters = QueryParameters.newBuilder()
-                                                          .addAll(getParameters())
+        final QueryParameters parameters = QueryParameters.newBuilder(getParameters())
                                                           .add(lifecycleParameter)
                                                           .build();
         final EntityQuery<I> result = new EntityQuery<>(ids, parameters);
@@ -26,6 +26,7 @@ import io.spine.annotation.Internal;
 import io.spine.server.entity.Entity;
 import io.spine.server.entity.EntityRecord;
 
+import javax.annotation.Nullable;
 import java.io.Serializable;
 import java.util.Map;
 import java.util.Set;
@@ -138,6 +139,21 @@ public final class EntityRecordWithColumns implements Serializable {
         return storageFields.get(columnName);
     }
 
+    /**
+     * Obtains the memoized value of the entity column by the specified
+     * {@linkplain EntityColumn#getStoredName() name}, if there is such a column.
+     *
+     * <p>Unlike {@link #getColumnValue(String)}, looks up the column only once.
+     *
+     * @param columnName the stored column name
+     * @return the memoized value of the column or {@code null} if there is no such column
+     */
+    @Internal
+    @Nullable
+    public EntityColumn.MemoizedValue findColumnValue(@Nullable String columnName) {
+        return storageFields.get(columnName);
+    }
+
     /**
      * Determines whether or not there are any {@linkplain EntityColumn columns}
      * associated with this record.
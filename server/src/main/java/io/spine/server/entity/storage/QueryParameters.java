@@ -25,16 +25,27 @@ import com.google.common.collect.ImmutableCollection;
 import com.google.common.collect.ImmutableList;
 import io.spine.annotation.SPI;
 import io.spine.client.ColumnFilter;
+import io.spine.client.OrderBy.Direction;
 
+import javax.annotation.Nullable;
 import java.io.Serializable;
 import java.util.Iterator;
 
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.client.OrderBy.Direction.ASCENDING;
+
 /**
  * The parameters of an {@link EntityQuery}.
  *
  * <p>{@code QueryParameters} are passed into the {@link io.spine.server.storage.Storage Storage}
  * implementations.
  *
+ * <p>Besides the column filters, the parameters may define the {@linkplain #getOrderColumn()
+ * order} of the query results and the page of them to return. The page is defined by
+ * the {@linkplain #getOffset() number} of the leading results to skip and
+ * the {@linkplain #getLimit() maximum number} of the results to return.
+ *
  * @author Dmytro Dashenkov
  */
 @SPI /* Available to SPI users, providing own {@code Storage} implementations. */
@@ -55,10 +66,20 @@ public final class QueryParameters implements Iterable<CompositeQueryParameter>,
      */
     private final boolean hasLifecycle;
 
+    @Nullable
+    private final EntityColumn orderColumn;
+    private final Direction orderDirection;
+    private final int offset;
+    private final int limit;
+
     private QueryParameters(Builder builder) {
         this.parameters = builder.getParameters()
                                  .build();
         this.hasLifecycle = builder.hasLifecycle;
+        this.orderColumn = builder.orderColumn;
+        this.orderDirection = builder.orderDirection;
+        this.offset = builder.offset;
+        this.limit = builder.limit;
     }
 
     /**
@@ -82,6 +103,55 @@ public final class QueryParameters implements Iterable<CompositeQueryParameter>,
         return hasLifecycle;
     }
 
+    /**
+     * @return {@code true} if the query results should be ordered by
+     * an {@linkplain #getOrderColumn() entity column}, {@code false} otherwise
+     */
+    public boolean isOrdered() {
+        return orderColumn != null;
+    }
+
+    /**
+     * Obtains the entity column to order the query results by.
+     *
+     * <p>The records with no value of the column go after all the others.
+     *
+     * @return the column or {@code null} if the order is not specified
+     */
+    @Nullable
+    public EntityColumn getOrderColumn() {
+        return orderColumn;
+    }
+
+    /**
+     * @return the direction of the {@linkplain #getOrderColumn() ordering}
+     */
+    public Direction getOrderDirection() {
+        return orderDirection;
+    }
+
+    /**
+     * @return the number of the leading query results to skip
+     */
+    public int getOffset() {
+        return offset;
+    }
+
+    /**
+     * @return the maximum number of the query results to return, zero meaning no limit
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * @return {@code true} if only a part of the query results should be returned,
+     * {@code false} otherwise
+     */
+    public boolean isPaged() {
+        return offset > 0 || limit > 0;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -91,18 +161,39 @@ public final class QueryParameters implements Iterable<CompositeQueryParameter>,
             return false;
         }
         QueryParameters that = (QueryParameters) o;
-        return Objects.equal(parameters, that.parameters);
+        return Objects.equal(parameters, that.parameters) &&
+                Objects.equal(orderColumn, that.orderColumn) &&
+                orderDirection == that.orderDirection &&
+                offset == that.offset &&
+                limit == that.limit;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hashCode(parameters);
+        return Objects.hashCode(parameters, orderColumn, orderDirection, offset, limit);
     }
 
     public static Builder newBuilder() {
         return new Builder();
     }
 
+    /**
+     * Creates a new {@code Builder} with all the values of the given parameters.
+     *
+     * @param source the parameters to copy
+     * @return new instance of {@code Builder}
+     */
+    public static Builder newBuilder(QueryParameters source) {
+        checkNotNull(source);
+        final Builder builder = new Builder().addAll(source)
+                                             .setOffset(source.offset)
+                                             .setLimit(source.limit);
+        if (source.orderColumn != null) {
+            builder.orderBy(source.orderColumn, source.orderDirection);
+        }
+        return builder;
+    }
+
     /**
      * The builder for the {@code QueryParameters}.
      */
@@ -112,6 +203,12 @@ public final class QueryParameters implements Iterable<CompositeQueryParameter>,
 
         private boolean hasLifecycle;
 
+        @Nullable
+        private EntityColumn orderColumn;
+        private Direction orderDirection = ASCENDING;
+        private int offset;
+        private int limit;
+
         private Builder() {
             parameters = ImmutableList.builder();
         }
@@ -133,6 +230,41 @@ public final class QueryParameters implements Iterable<CompositeQueryParameter>,
             return parameters;
         }
 
+        /**
+         * Sets the entity column to order the query results by.
+         *
+         * @param column    the column to order by
+         * @param direction the direction of the ordering; {@code OD_UNKNOWN} is treated
+         *                  as {@code ASCENDING}
+         */
+        public Builder orderBy(EntityColumn column, Direction direction) {
+            this.orderColumn = checkNotNull(column);
+            checkNotNull(direction);
+            checkArgument(direction != Direction.UNRECOGNIZED, "Unknown order direction.");
+            this.orderDirection = direction == Direction.OD_UNKNOWN
+                                  ? ASCENDING
+                                  : direction;
+            return this;
+        }
+
+        /**
+         * Sets the number of the leading query results to skip.
+         */
+        public Builder setOffset(int offset) {
+            checkArgument(offset >= 0, "The offset must not be negative.");
+            this.offset = offset;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of the query results to return, zero meaning no limit.
+         */
+        public Builder setLimit(int limit) {
+            checkArgument(limit >= 0, "The limit must not be negative.");
+            this.limit = limit;
+            return this;
+        }
+
         /**
          * Creates a new instance of {@code QueryParameters} with the collected parameters.
          *
@@ -25,6 +25,7 @@ import com.google.protobuf.Message;
 import io.spine.core.Event;
 import io.spine.core.EventEnvelope;
 import io.spine.server.bus.EnvelopeValidator;
+import io.spine.server.bus.MessageConstraints;
 import io.spine.validate.ConstraintViolation;
 import io.spine.core.MessageInvalid;
 import io.spine.validate.MessageValidator;
@@ -38,7 +39,8 @@ import static io.spine.server.event.InvalidEventException.onConstraintViolations
  * The {@link EventEnvelope} validator.
  *
  * <p>Checks if the message of the passed event is {@linkplain MessageValidator#validate(Message)
- * valid}.
+ * valid}. The events of types which {@linkplain MessageConstraints declare no constraints}
+ * are not validated.
  *
  * @author Dmytro Dashenkov
  */
@@ -56,9 +58,11 @@ final class EventValidator implements EnvelopeValidator<EventEnvelope> {
 
         final Event event = envelope.getOuterObject();
         MessageInvalid result = null;
-        final List<ConstraintViolation> violations = messageValidator.validate(event);
-        if (!violations.isEmpty()) {
-            result = onConstraintViolations(event, violations);
+        if (MessageConstraints.declaredFor(envelope.getMessage())) {
+            final List<ConstraintViolation> violations = messageValidator.validate(event);
+            if (!violations.isEmpty()) {
+                result = onConstraintViolations(event, violations);
+            }
         }
         return Optional.fromNullable(result);
     }
@@ -72,13 +72,15 @@ abstract class BusAdapter<E extends MessageEnvelope<?, ?, ?>,
     abstract ExternalMessageEnvelope toExternalEnvelope(ExternalMessage message);
 
     /**
-     * Wraps the given message into an {@link ExternalMessageEnvelope}, marking it as the one
-     * received from the collaborators outside of the current bounded context.
+     * Wraps the message of the given envelope into an {@link ExternalMessageEnvelope}, marking
+     * it as the one received from the collaborators outside of the current bounded context.
      *
-     * @param message the message to wrap and mark external
+     * <p>The already unpacked message of the passed envelope is reused by the resulting one.
+     *
+     * @param envelope the envelope of the message to mark external
      * @return an {@code ExternalMessageEnvelope}, containing the given message marked external
      */
-    abstract ExternalMessageEnvelope markExternal(ExternalMessage message);
+    abstract ExternalMessageEnvelope markExternal(ExternalMessageEnvelope envelope);
 
     /**
      * Tells whether a message of a given message class is eligible for processing with this
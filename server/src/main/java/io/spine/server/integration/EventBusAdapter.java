@@ -60,7 +60,8 @@ final class EventBusAdapter extends BusAdapter<EventEnvelope, EventDispatcher<?>
     }
 
     @Override
-    ExternalMessageEnvelope markExternal(ExternalMessage externalMsg) {
+    ExternalMessageEnvelope markExternal(ExternalMessageEnvelope envelope) {
+        final ExternalMessage externalMsg = envelope.getOuterObject();
         final Any packedEvent = externalMsg.getOriginalMessage();
         final Event event = AnyPacker.unpack(packedEvent);
         final Event.Builder eventBuilder = event.toBuilder();
@@ -73,7 +74,7 @@ final class EventBusAdapter extends BusAdapter<EventEnvelope, EventDispatcher<?>
                                          .build();
         final ExternalMessage result = ExternalMessages.of(marked,
                                                            externalMsg.getBoundedContextName());
-        return ExternalMessageEnvelope.of(result, Events.getMessage(event));
+        return ExternalMessageEnvelope.of(result, envelope.getMessage());
     }
 
     @Override
@@ -29,7 +29,6 @@ import io.spine.core.BoundedContextName;
 import io.spine.core.Event;
 import io.spine.core.Rejection;
 import io.spine.core.Rejections;
-import io.spine.protobuf.AnyPacker;
 import io.spine.server.bus.Bus;
 import io.spine.server.bus.BusFilter;
 import io.spine.server.bus.DeadMessageTap;
@@ -216,12 +215,21 @@ public class IntegrationBus extends MulticastBus<ExternalMessage,
     private  ExternalMessageEnvelope markExternal(ExternalMessageEnvelope envelope) {
         final ExternalMessage externalMessage = envelope.getOuterObject();
         final BusAdapter<?, ?> adapter = adapterFor(externalMessage);
-        return adapter.markExternal(externalMessage);
+        return adapter.markExternal(envelope);
     }
 
+    /**
+     * Obtains the adapter for the given message.
+     *
+     * <p>The adapter is selected by the type URL of the original message, so that the message
+     * is not unpacked only to obtain its class.
+     */
     private BusAdapter<?, ?> adapterFor(ExternalMessage message) {
-        final Message unpackedOriginal = AnyPacker.unpack(message.getOriginalMessage());
-        return adapterFor(unpackedOriginal.getClass());
+        final String typeUrl = message.getOriginalMessage()
+                                      .getTypeUrl();
+        final Class<? extends Message> originalClass = TypeUrl.parse(typeUrl)
+                                                              .getJavaClass();
+        return adapterFor(originalClass);
     }
 
     @Override
@@ -60,7 +60,8 @@ final class RejectionBusAdapter extends BusAdapter<RejectionEnvelope, RejectionD
     }
 
     @Override
-    ExternalMessageEnvelope markExternal(ExternalMessage externalMsg) {
+    ExternalMessageEnvelope markExternal(ExternalMessageEnvelope envelope) {
+        final ExternalMessage externalMsg = envelope.getOuterObject();
         final Any packedEvent = externalMsg.getOriginalMessage();
         final Rejection rejection = AnyPacker.unpack(packedEvent);
         final Rejection.Builder rejectionBuilder = rejection.toBuilder();
@@ -73,7 +74,7 @@ final class RejectionBusAdapter extends BusAdapter<RejectionEnvelope, RejectionD
                                                  .build();
         final ExternalMessage result = ExternalMessages.of(marked,
                                                            externalMsg.getBoundedContextName());
-        return ExternalMessageEnvelope.of(result, Rejections.getMessage(rejection));
+        return ExternalMessageEnvelope.of(result, envelope.getMessage());
     }
 
     @Override
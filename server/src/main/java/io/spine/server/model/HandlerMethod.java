@@ -36,6 +36,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nullable;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
@@ -72,6 +75,17 @@ public abstract class HandlerMethod<C extends Message> {
     /** The set of the metadata attributes set via method annotations. */
     private final Set<MethodAttribute<?>> attributes;
 
+    /** The class of the second parameter or {@code null} if the method has one parameter. */
+    @Nullable
+    private final Class<?> contextClass;
+
+    /**
+     * The handle for calling the method directly or {@code null} if the method can only
+     * be called via reflection.
+     */
+    @Nullable
+    private final MethodHandle handle;
+
     /**
      * Creates a new instance to wrap {@code method} on {@code target}.
      *
@@ -80,9 +94,43 @@ public abstract class HandlerMethod<C extends Message> {
     protected HandlerMethod(Method method) {
         this.method = checkNotNull(method);
         this.messageClass = getFirstParamType(method);
-        this.paramCount = method.getParameterTypes().length;
+        final Class<?>[] paramTypes = method.getParameterTypes();
+        this.paramCount = paramTypes.length;
+        this.contextClass = paramCount > 1
+                            ? paramTypes[1]
+                            : null;
         this.attributes = discoverAttributes(method);
         method.setAccessible(true);
+        this.handle = directHandle(method);
+    }
+
+    /**
+     * Creates a {@link MethodHandle} for the given method.
+     *
+     * <p>The handle accepts the target object and the method parameters as {@code Object}s and
+     * returns an {@code Object}, or {@code null} for a {@code void} method, just as
+     * {@link Method#invoke(Object, Object...) Method.invoke()} does.
+     *
+     * <p>Only the instance methods accepting a message and, optionally, its context are called
+     * via a handle.
+     *
+     * @return the handle or {@code null} if the method cannot be called via a handle
+     */
+    @Nullable
+    private static MethodHandle directHandle(Method method) {
+        final int paramCount = method.getParameterTypes().length;
+        if (Modifier.isStatic(method.getModifiers()) || paramCount > 2) {
+            return null;
+        }
+        try {
+            final MethodHandle handle = MethodHandles.lookup()
+                                                     .unreflect(method);
+            final MethodType genericType = MethodType.genericMethodType(paramCount + 1);
+            return handle.asType(genericType);
+        } catch (IllegalAccessException e) {
+            log().debug("Method {} will be called via reflection.", getFullMethodName(method), e);
+            return null;
+        }
     }
 
     protected final Class<? extends Message> rawMessageClass() {
@@ -249,6 +297,9 @@ public abstract class HandlerMethod<C extends Message> {
     public Object invoke(Object target, Message message, C context) {
         checkNotNull(message);
         checkNotNull(context);
+        if (handle != null && acceptsArguments(target, message, context)) {
+            return invokeDirectly(handle, target, message, context);
+        }
         try {
             final int paramCount = getParamCount();
             final Object returnedValue = (paramCount == 1)
@@ -260,6 +311,39 @@ public abstract class HandlerMethod<C extends Message> {
         }
     }
 
+    /**
+     * Invokes the method via the given handle.
+     *
+     * <p>An exception thrown by the method is wrapped into {@link InvocationTargetException} so
+     * that the failure is reported the same way as if the method was called via reflection.
+     */
+    @SuppressWarnings("OverlyBroadCatchBlock") // Any failure of the method is reported.
+    private Object invokeDirectly(MethodHandle handle, Object target, Message message, C context) {
+        try {
+            final Object returnedValue = (getParamCount() == 1)
+                    ? (Object) handle.invokeExact(target, (Object) message)
+                    : (Object) handle.invokeExact(target, (Object) message, (Object) context);
+            return returnedValue;
+        } catch (Throwable t) {
+            throw whyFailed(target, message, context, new InvocationTargetException(t));
+        }
+    }
+
+    /**
+     * Checks if the method can be called with the given arguments.
+     *
+     * <p>If not, the method is called via reflection, which reports the mismatch of
+     * the argument types.
+     */
+    private boolean acceptsArguments(Object target, Message message, C context) {
+        final boolean targetAccepted = method.getDeclaringClass()
+                                             .isInstance(target);
+        final boolean messageAccepted = messageClass.isInstance(message);
+        final boolean contextAccepted = contextClass == null
+                || contextClass.isInstance(context);
+        return targetAccepted && messageAccepted && contextAccepted;
+    }
+
     /**
      * Creates an exception containing information on the failure of the handler method invocation.
      *
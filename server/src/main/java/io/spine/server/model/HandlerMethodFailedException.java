@@ -50,8 +50,28 @@ public class HandlerMethodFailedException extends RuntimeException {
                                         Message dispatchedMessage,
                                         Message messageContext,
                                         Exception cause) {
-        super(checkNotNull(cause));
-        this.target = target.toString();
+        this(target, dispatchedMessage, messageContext, cause, true);
+    }
+
+    /**
+     * Creates new instance which may omit the stack trace.
+     *
+     * <p>Creating an exception without a stack trace is cheaper. This is suitable for
+     * the failures which are expected outcomes of the method, such as rejections.
+     *
+     * @param target             the object which method failed
+     * @param dispatchedMessage  the message passed to the method which failed
+     * @param messageContext     the context of the message
+     * @param cause              the throwable which caused the failure
+     * @param writableStackTrace whether or not the stack trace should be writable
+     */
+    public HandlerMethodFailedException(Object target,
+                                        Message dispatchedMessage,
+                                        Message messageContext,
+                                        Throwable cause,
+                                        boolean writableStackTrace) {
+        super(checkNotNull(cause).toString(), cause, true, writableStackTrace);
+        this.target = checkNotNull(target).toString();
         /**
            All messages we handle are generated, so the cast below is safe.
            We do not want to accept `GeneratedMessageV3` to avoid the cast in the calling code
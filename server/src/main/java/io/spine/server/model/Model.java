@@ -22,8 +22,8 @@ package io.spine.server.model;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Maps;
-import com.google.common.collect.Sets;
 import com.google.protobuf.Message;
 import io.spine.annotation.Internal;
 import io.spine.core.CommandClass;
@@ -65,6 +65,15 @@ public class Model {
      */
     private final Map<String, ModelClass<?>> classes = Maps.newConcurrentMap();
 
+    /**
+     * A map from a command class to the class handling the commands of this class.
+     *
+     * <p>Allows to check a new command handling class for duplicate handlers without going
+     * through all the known classes.
+     */
+    private final Map<CommandClass, CommandHandlingClass> commandHandlers =
+            Maps.newConcurrentMap();
+
     public static Model getInstance() {
         return Singleton.INSTANCE.value;
     }
@@ -75,6 +84,7 @@ public class Model {
     @VisibleForTesting
     void clear() {
         classes.clear();
+        commandHandlers.clear();
     }
 
     /**
@@ -94,6 +104,7 @@ public class Model {
             modelClass = new AggregateClass<>(cls);
             checkDuplicates((CommandHandlingClass) modelClass);
             classes.put(nameOf(cls), modelClass);
+            putCommands((CommandHandlingClass) modelClass);
         }
         return (AggregateClass<?>) modelClass;
     }
@@ -114,6 +125,7 @@ public class Model {
             modelClass = new AggregatePartClass<>(cls);
             checkDuplicates((CommandHandlingClass) modelClass);
             classes.put(nameOf(cls), modelClass);
+            putCommands((CommandHandlingClass) modelClass);
         }
         return (AggregatePartClass<?>) modelClass;
     }
@@ -136,6 +148,7 @@ public class Model {
             modelClass = ProcessManagerClass.of(cls);
             checkDuplicates((CommandHandlingClass) modelClass);
             classes.put(nameOf(cls), modelClass);
+            putCommands((CommandHandlingClass) modelClass);
         }
         return (ProcessManagerClass<?>) modelClass;
     }
@@ -190,6 +203,7 @@ public class Model {
             modelClass = CommandHandlerClass.of(cls);
             checkDuplicates((CommandHandlingClass) modelClass);
             classes.put(nameOf(cls), modelClass);
+            putCommands((CommandHandlingClass) modelClass);
         }
         return (CommandHandlerClass<?>) modelClass;
     }
@@ -214,24 +228,38 @@ public class Model {
     private void checkDuplicates(CommandHandlingClass candidate)
         throws DuplicateCommandHandlerError {
         final Set<CommandClass> candidateCommands = candidate.getCommands();
-        final ImmutableMap.Builder<Set<CommandClass>, CommandHandlingClass> map =
-                ImmutableMap.builder();
-
-        for (ModelClass<?> modelClass : classes.values()) {
-            if (modelClass instanceof CommandHandlingClass) {
-                final CommandHandlingClass commandHandler = (CommandHandlingClass) modelClass;
-                final Set<CommandClass> commandClasses = commandHandler.getCommands();
-                final Sets.SetView<CommandClass> intersection =
-                        Sets.intersection(commandClasses, candidateCommands);
-                if (intersection.size() > 0) {
-                    map.put(intersection, commandHandler);
+        final Map<CommandHandlingClass, ImmutableSet.Builder<CommandClass>> duplicates =
+                Maps.newLinkedHashMap();
+        for (CommandClass commandClass : candidateCommands) {
+            final CommandHandlingClass commandHandler = commandHandlers.get(commandClass);
+            if (commandHandler != null) {
+                ImmutableSet.Builder<CommandClass> commands = duplicates.get(commandHandler);
+                if (commands == null) {
+                    commands = ImmutableSet.builder();
+                    duplicates.put(commandHandler, commands);
                 }
+                commands.add(commandClass);
             }
         }
+        if (duplicates.isEmpty()) {
+            return;
+        }
+        final ImmutableMap.Builder<Set<CommandClass>, CommandHandlingClass> currentHandlers =
+                ImmutableMap.builder();
+        for (Map.Entry<CommandHandlingClass, ImmutableSet.Builder<CommandClass>> duplicate
+                : duplicates.entrySet()) {
+            currentHandlers.put(duplicate.getValue()
+                                         .build(), duplicate.getKey());
+        }
+        throw new DuplicateCommandHandlerError(candidate, currentHandlers.build());
+    }
 
-        final ImmutableMap<Set<CommandClass>, CommandHandlingClass> currentHandlers = map.build();
-        if (!currentHandlers.isEmpty()) {
-            throw new DuplicateCommandHandlerError(candidate, currentHandlers);
+    /**
+     * Remembers the given class as the handler of its commands.
+     */
+    private void putCommands(CommandHandlingClass commandHandler) {
+        for (CommandClass commandClass : commandHandler.getCommands()) {
+            commandHandlers.put(commandClass, commandHandler);
         }
     }
 
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2018, TeamDev Ltd. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.rejection;
+
+import io.spine.core.RejectionEnvelope;
+import io.spine.server.delivery.SerialLane;
+
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.Maps.newConcurrentMap;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * A {@code DispatcherRejectionDelivery} which dispatches the rejections asynchronously.
+ *
+ * <p>Each {@linkplain RejectionDispatcher dispatcher} has its own bounded {@linkplain SerialLane
+ * lane} of rejections. The lane is drained by a single task at a time run by the given
+ * {@link Executor}. Thus, the rejections are delivered to a dispatcher in the order they were
+ * posted, while different dispatchers are served concurrently.
+ *
+ * <p>If the lane of a dispatcher is full, posting a rejection blocks until the dispatcher
+ * catches up. If it does not catch up in time, the posting fails with
+ * an {@link IllegalStateException}. The rejection is never dispatched past the lane, so that
+ * the dispatcher is never called concurrently and the order of the rejections is kept.
+ *
+ * <p>As the dispatching happens outside of the posting thread, the errors thrown by
+ * a dispatcher are passed to its {@link RejectionDispatcher#onError(RejectionEnvelope,
+ * RuntimeException) onError()} method instead of being propagated to the poster.
+ *
+ * @author Dmytry Dyachenko
+ * @see DispatcherRejectionDelivery#asyncDelivery(Executor, int)
+ */
+final class AsyncRejectionDelivery extends DispatcherRejectionDelivery {
+
+    /** The time in seconds to wait for a place in a full lane. */
+    private static final long MAX_OFFER_WAIT_SECONDS = 1;
+
+    private final Executor executor;
+    private final int queueCapacity;
+    private final ConcurrentMap<RejectionDispatcher<?>, Lane> lanes = newConcurrentMap();
+
+    AsyncRejectionDelivery(Executor executor, int queueCapacity) {
+        super();
+        checkArgument(queueCapacity > 0, "The queue capacity must be positive.");
+        this.executor = checkNotNull(executor);
+        this.queueCapacity = queueCapacity;
+    }
+
+    @Override
+    protected boolean shouldPostponeDelivery(RejectionEnvelope deliverable,
+                                             RejectionDispatcher<?> consumer) {
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The returned action only enqueues the rejection for the dispatcher. The dispatching
+     * itself is performed later by the executor of this delivery.
+     */
+    @Override
+    protected Runnable getDeliveryAction(final RejectionDispatcher<?> consumer,
+                                         final RejectionEnvelope deliverable) {
+        return new Runnable() {
+            @Override
+            public void run() {
+                laneOf(consumer).enqueue(deliverable);
+            }
+        };
+    }
+
+    /**
+     * Obtains the number of rejections waiting to be dispatched to the given dispatcher.
+     */
+    int queuedFor(RejectionDispatcher<?> dispatcher) {
+        final Lane lane = lanes.get(dispatcher);
+        return lane == null
+               ? 0
+               : lane.size();
+    }
+
+    private Lane laneOf(RejectionDispatcher<?> dispatcher) {
+        final Lane existing = lanes.get(dispatcher);
+        if (existing != null) {
+            return existing;
+        }
+        final Lane newLane = new Lane(dispatcher, executor, queueCapacity);
+        final Lane previous = lanes.putIfAbsent(dispatcher, newLane);
+        return previous != null
+               ? previous
+               : newLane;
+    }
+
+    /**
+     * The lane of rejections for a single dispatcher.
+     */
+    private static final class Lane extends SerialLane<RejectionEnvelope> {
+
+        private final RejectionDispatcher<?> dispatcher;
+
+        private Lane(RejectionDispatcher<?> dispatcher, Executor executor, int capacity) {
+            super(executor, new Semaphore(capacity), MAX_OFFER_WAIT_SECONDS, SECONDS);
+            this.dispatcher = dispatcher;
+        }
+
+        @Override
+        protected void deliver(RejectionEnvelope envelope) {
+            dispatcher.dispatch(envelope);
+        }
+
+        /**
+         * Passes the error to the dispatcher, which is responsible for logging it.
+         */
+        @Override
+        protected void onError(RejectionEnvelope envelope, RuntimeException exception) {
+            dispatcher.onError(envelope, exception);
+        }
+    }
+}
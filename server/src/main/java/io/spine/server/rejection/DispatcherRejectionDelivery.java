@@ -84,6 +84,23 @@ public abstract class DispatcherRejectionDelivery
         return new DirectDelivery();
     }
 
+    /**
+     * Obtains a {@code DispatcherRejectionDelivery}, which dispatches the rejections
+     * asynchronously using the given {@code Executor}.
+     *
+     * <p>The rejections are queued per dispatcher and delivered to each dispatcher in the order
+     * of posting. This way the poster of a rejection, such as the {@code CommandBus}, does not
+     * wait for the dispatchers to handle it.
+     *
+     * @param executor      the executor to run the dispatching
+     * @param queueCapacity the maximum number of rejections waiting for a single dispatcher;
+     *                      when exceeded, posting blocks until the dispatcher catches up
+     * @return new asynchronous delivery
+     */
+    public static DispatcherRejectionDelivery asyncDelivery(Executor executor, int queueCapacity) {
+        return new AsyncRejectionDelivery(executor, queueCapacity);
+    }
+
     /**
      * A delivery implementation which does not postpone events.
      *
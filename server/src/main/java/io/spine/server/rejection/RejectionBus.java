@@ -203,6 +203,10 @@ public class RejectionBus extends CommandOutputBus<Rejection,
          *
          * <p>If the {@code DispatcherRejectionDelivery} is not set,
          * {@linkplain  DispatcherRejectionDelivery#directDelivery() direct delivery} will be used.
+         *
+         * <p>To avoid waiting for the rejection dispatchers when posting commands, use
+         * an {@linkplain DispatcherRejectionDelivery#asyncDelivery(java.util.concurrent.Executor,
+         * int) asynchronous delivery}.
          */
         public Builder setDispatcherRejectionDelivery(DispatcherRejectionDelivery delivery) {
             this.dispatcherRejectionDelivery = checkNotNull(delivery);
@@ -22,7 +22,6 @@ package io.spine.server.stand;
 import com.google.common.base.Function;
 import com.google.common.base.Optional;
 import com.google.common.collect.Collections2;
-import com.google.common.collect.ImmutableCollection;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Iterators;
 import com.google.protobuf.Any;
@@ -35,6 +34,7 @@ import io.spine.client.Query;
 import io.spine.client.Target;
 import io.spine.protobuf.AnyPacker;
 import io.spine.server.entity.EntityRecord;
+import io.spine.server.entity.FieldMasks;
 import io.spine.server.storage.RecordReadRequest;
 import io.spine.type.TypeUrl;
 
@@ -42,6 +42,7 @@ import javax.annotation.Nullable;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Predicates.notNull;
@@ -76,13 +77,14 @@ class AggregateQueryProcessor implements QueryProcessor {
             };
 
     @Override
-    public ImmutableCollection<Any> process(Query query) {
-
-        final ImmutableList.Builder<Any> resultBuilder = ImmutableList.builder();
-
-        Iterator<EntityRecord> stateRecords;
+    public Iterator<Any> process(Query query, QueryPage page) {
         final Target target = query.getTarget();
         final FieldMask fieldMask = query.getFieldMask();
+        if (page.isOrderedOrPaged()) {
+            return readPage(target, page, fieldMask);
+        }
+
+        Iterator<EntityRecord> stateRecords;
         final boolean shouldApplyFieldMask = !fieldMask.getPathsList()
                                                        .isEmpty();
         if (target.getIncludeAll()) {
@@ -93,16 +95,57 @@ class AggregateQueryProcessor implements QueryProcessor {
             stateRecords = doFetchWithFilters(target, fieldMask);
         }
 
-        while (stateRecords.hasNext()) {
-            final EntityRecord record = stateRecords.next();
-            final Any state = record.getState();
-            resultBuilder.add(state);
-        }
+        final Iterator<Any> result = Iterators.transform(stateRecords,
+                                                         RecordStateExtractor.INSTANCE);
+        return result;
+    }
 
-        final ImmutableList<Any> result = resultBuilder.build();
+    /**
+     * Reads the requested page of the aggregate states.
+     *
+     * <p>The {@code StandStorage} keeps no entity columns, so the matching records are read
+     * and ordered in memory. If the page is limited, only the records up to the end of the page
+     * are kept while reading the storage. The field mask is applied only to the records of
+     * the page.
+     */
+    private Iterator<Any> readPage(Target target, QueryPage page, final FieldMask fieldMask) {
+        final FieldMask noMask = FieldMask.getDefaultInstance();
+        final Iterator<EntityRecord> stateRecords = target.getIncludeAll()
+                                                    ? standStorage.readAllByType(type)
+                                                    : doFetchWithFilters(target, noMask);
+        final StateOrdering ordering = StateOrdering.of(page.getOrderBy(), type);
+        final int offset = page.getOffset();
+        final int fetchLimit = page.getFetchLimit();
+        final long pageEnd = (long) offset + fetchLimit;
+        final List<EntityRecord> ordered = fetchLimit > 0 && pageEnd <= Integer.MAX_VALUE
+                                           ? ordering.first(stateRecords, (int) pageEnd)
+                                           : ordering.sort(stateRecords);
+
+        final int from = Math.min(offset, ordered.size());
+        final Iterator<Any> states = Iterators.transform(ordered.subList(from, ordered.size())
+                                                                .iterator(),
+                                                         RecordStateExtractor.INSTANCE);
+        final boolean shouldApplyFieldMask = !fieldMask.getPathsList()
+                                                       .isEmpty();
+        if (!shouldApplyFieldMask) {
+            return states;
+        }
+        final Iterator<Any> result = Iterators.transform(states, new Function<Any, Any>() {
+            @Override
+            public Any apply(@Nullable Any state) {
+                checkNotNull(state);
+                return applyMask(fieldMask, state);
+            }
+        });
         return result;
     }
 
+    private Any applyMask(FieldMask fieldMask, Any packedState) {
+        final Message state = AnyPacker.unpack(packedState);
+        final Message maskedState = FieldMasks.applyMask(fieldMask, state, type);
+        return AnyPacker.pack(maskedState);
+    }
+
     private Iterator<EntityRecord> doFetchWithFilters(Target target, FieldMask fieldMask) {
         final EntityFilters filters = target.getFilters();
         final boolean idsAreDefined = !filters.getIdFilter()
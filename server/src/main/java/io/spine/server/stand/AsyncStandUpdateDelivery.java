@@ -0,0 +1,211 @@
+/*
+ * Copyright 2018, TeamDev Ltd. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.stand;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Ticker;
+import io.spine.server.delivery.SerialLane;
+import io.spine.server.entity.EntityStateEnvelope;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * A {@code StandUpdateDelivery} which updates the {@code Stand} asynchronously.
+ *
+ * <p>The updates are distributed among a number of {@linkplain SerialLane lanes} by the tenant
+ * and the ID of the updated entity. Each lane is drained by a single task at a time run by
+ * the given {@link Executor}. Thus, the updates of the same entity reach the {@code Stand}
+ * in the order they were posted, while the updates of different entities may be processed
+ * concurrently.
+ *
+ * <p>The total number of pending updates is bounded. If the bound is reached, posting
+ * an update blocks until the {@code Stand} catches up. If it does not catch up in time,
+ * the posting fails with an {@link IllegalStateException}. The update is never passed to
+ * the {@code Stand} past its lane, so that an older state of an entity cannot overwrite
+ * a newer one.
+ *
+ * <p>The {@linkplain #getPendingCount() number} of pending updates and the
+ * {@linkplain #getLag(TimeUnit) age} of the oldest of them allow to monitor how far
+ * the {@code Stand} is behind the write side.
+ *
+ * @author Dmytry Dyachenko
+ * @see StandUpdateDelivery#asyncDelivery(Executor, int, int)
+ */
+public final class AsyncStandUpdateDelivery extends StandUpdateDelivery {
+
+    /** The time in seconds to wait until the number of pending updates is below the bound. */
+    private static final long MAX_OFFER_WAIT_SECONDS = 1;
+
+    private final Lane[] lanes;
+    private final Ticker ticker;
+
+    private AsyncStandUpdateDelivery(Executor executor,
+                                     int laneCount,
+                                     int maxPending,
+                                     Ticker ticker) {
+        super();
+        this.ticker = ticker;
+        final Semaphore capacity = new Semaphore(maxPending);
+        this.lanes = new Lane[laneCount];
+        for (int i = 0; i < laneCount; i++) {
+            lanes[i] = new Lane(executor, capacity);
+        }
+    }
+
+    static AsyncStandUpdateDelivery newInstance(Executor executor,
+                                                int laneCount,
+                                                int maxPending) {
+        return newInstance(executor, laneCount, maxPending, Ticker.systemTicker());
+    }
+
+    @VisibleForTesting
+    static AsyncStandUpdateDelivery newInstance(Executor executor,
+                                                int laneCount,
+                                                int maxPending,
+                                                Ticker ticker) {
+        checkNotNull(executor);
+        checkNotNull(ticker);
+        checkArgument(laneCount > 0, "The number of lanes must be positive.");
+        checkArgument(maxPending > 0, "The maximum number of pending updates must be positive.");
+        return new AsyncStandUpdateDelivery(executor, laneCount, maxPending, ticker);
+    }
+
+    @Override
+    protected boolean shouldPostponeDelivery(EntityStateEnvelope<?, ?> deliverable,
+                                             Stand consumer) {
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The returned action only enqueues the update. The {@code Stand} is updated later by
+     * the executor of this delivery.
+     */
+    @Override
+    protected Runnable getDeliveryAction(final Stand consumer,
+                                         final EntityStateEnvelope<?, ?> deliverable) {
+        return new Runnable() {
+            @Override
+            public void run() {
+                laneOf(deliverable).enqueue(new Pending(consumer, deliverable, ticker.read()));
+            }
+        };
+    }
+
+    /**
+     * Obtains the number of updates waiting to be passed to the {@code Stand}.
+     */
+    public int getPendingCount() {
+        int result = 0;
+        for (Lane lane : lanes) {
+            result += lane.size();
+        }
+        return result;
+    }
+
+    /**
+     * Obtains the time the oldest pending update has been waiting for.
+     *
+     * @param unit the unit of the returned value
+     * @return the waiting time of the oldest pending update, or zero if there are no
+     *         pending updates
+     */
+    public long getLag(TimeUnit unit) {
+        checkNotNull(unit);
+        final long now = ticker.read();
+        long maxLag = 0;
+        for (Lane lane : lanes) {
+            final Pending head = lane.peek();
+            if (head != null) {
+                maxLag = Math.max(maxLag, now - head.enqueuedAt);
+            }
+        }
+        return unit.convert(maxLag, NANOSECONDS);
+    }
+
+    private Lane laneOf(EntityStateEnvelope<?, ?> envelope) {
+        final int hash = 31 * envelope.getTenantId()
+                                      .hashCode() + envelope.getId()
+                                                            .hashCode();
+        final int index = (hash & Integer.MAX_VALUE) % lanes.length;
+        return lanes[index];
+    }
+
+    /**
+     * An update waiting to be passed to the {@code Stand}.
+     */
+    private static final class Pending {
+
+        private final Stand stand;
+        private final EntityStateEnvelope<?, ?> envelope;
+        private final long enqueuedAt;
+
+        private Pending(Stand stand, EntityStateEnvelope<?, ?> envelope, long enqueuedAt) {
+            this.stand = stand;
+            this.envelope = envelope;
+            this.enqueuedAt = enqueuedAt;
+        }
+    }
+
+    /**
+     * A lane of updates passed to the {@code Stand} sequentially.
+     *
+     * <p>An update is removed from the lane only after the {@code Stand} is updated, so that
+     * the {@linkplain #getLag(TimeUnit) lag} accounts for the update being processed.
+     */
+    private static final class Lane extends SerialLane<Pending> {
+
+        private Lane(Executor executor, Semaphore capacity) {
+            super(executor, capacity, MAX_OFFER_WAIT_SECONDS, SECONDS);
+        }
+
+        @Override
+        protected void deliver(Pending update) {
+            update.stand.update(update.envelope);
+        }
+
+        @Override
+        protected void onError(Pending update, RuntimeException exception) {
+            log().error("Error updating Stand with the state of the entity " +
+                                update.envelope.getEntityId(), exception);
+        }
+    }
+
+    private enum LogSingleton {
+        INSTANCE;
+        @SuppressWarnings("NonSerializableFieldInSerializableClass")
+        private final Logger value = LoggerFactory.getLogger(AsyncStandUpdateDelivery.class);
+    }
+
+    private static Logger log() {
+        return LogSingleton.INSTANCE.value;
+    }
+}
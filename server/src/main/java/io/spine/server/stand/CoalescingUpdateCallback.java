@@ -0,0 +1,215 @@
+/*
+ * Copyright 2018, TeamDev Ltd. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.stand;
+
+import com.google.common.collect.ImmutableList;
+import com.google.protobuf.Any;
+import io.spine.client.EntityStateUpdate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.Maps.newLinkedHashMap;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * An {@link Stand.EntityUpdateCallback EntityUpdateCallback}, which buffers the entity
+ * updates and passes them to a {@link BatchCallback} in batches.
+ *
+ * <p>The first update received after a flush starts a window of the configured length.
+ * When the window ends, all the updates received during it are flushed at once. If an entity
+ * was updated several times within the window, only its latest state is flushed.
+ *
+ * <p>At most one flush is in progress at a time. The updates received during a flush are
+ * delivered by the next one.
+ *
+ * <p>Once {@linkplain #cancel() cancelled}, the callback drops the pending updates and
+ * ignores the new ones.
+ *
+ * @author Dmytry Dyachenko
+ */
+public final class CoalescingUpdateCallback implements Stand.EntityUpdateCallback {
+
+    private final BatchCallback delegate;
+    private final ScheduledExecutorService scheduler;
+    private final long windowNanos;
+
+    private final Object lock = new Object();
+
+    /** The pending updates by the entity ID, guarded by {@link #lock}. */
+    private final Map<Any, EntityStateUpdate> pending = newLinkedHashMap();
+
+    /** Tells whether a flush is scheduled or in progress, guarded by {@link #lock}. */
+    private boolean flushScheduled;
+
+    /** The last scheduled flush, guarded by {@link #lock}. */
+    @Nullable
+    private ScheduledFuture<?> scheduledFlush;
+
+    /** Tells whether this callback is cancelled, guarded by {@link #lock}. */
+    private boolean cancelled;
+
+    private final Runnable flushTask = new Runnable() {
+        @Override
+        public void run() {
+            try {
+                flush();
+            } catch (RuntimeException e) {
+                log().error("Error flushing the coalesced entity updates.", e);
+            }
+        }
+    };
+
+    private CoalescingUpdateCallback(BatchCallback delegate,
+                                     ScheduledExecutorService scheduler,
+                                     long windowNanos) {
+        this.delegate = delegate;
+        this.scheduler = scheduler;
+        this.windowNanos = windowNanos;
+    }
+
+    /**
+     * Creates a new instance of {@code CoalescingUpdateCallback}.
+     *
+     * @param delegate  the callback to pass the batches of updates to
+     * @param scheduler the executor to schedule the flushes with
+     * @param window    the length of the window to collect the updates during
+     * @param unit      the time unit of the {@code window}
+     * @return new callback
+     */
+    public static CoalescingUpdateCallback newInstance(BatchCallback delegate,
+                                                       ScheduledExecutorService scheduler,
+                                                       long window,
+                                                       TimeUnit unit) {
+        checkNotNull(delegate);
+        checkNotNull(scheduler);
+        checkNotNull(unit);
+        checkArgument(window > 0, "The window must be positive.");
+        return new CoalescingUpdateCallback(delegate, scheduler, unit.toNanos(window));
+    }
+
+    @Override
+    public void onStateChanged(EntityStateUpdate newEntityState) {
+        checkNotNull(newEntityState);
+        final Any id = newEntityState.getId();
+        synchronized (lock) {
+            if (cancelled) {
+                return;
+            }
+            // Removing first moves the entity to the end of the batch.
+            pending.remove(id);
+            pending.put(id, newEntityState);
+            if (!flushScheduled) {
+                flushScheduled = true;
+                scheduleFlush();
+            }
+        }
+    }
+
+    /**
+     * Drops the pending updates and stops passing the updates to the delegate.
+     *
+     * <p>The scheduled flush is cancelled. A flush which is already in progress completes.
+     */
+    public void cancel() {
+        synchronized (lock) {
+            cancelled = true;
+            pending.clear();
+            if (scheduledFlush != null) {
+                scheduledFlush.cancel(false);
+                scheduledFlush = null;
+            }
+        }
+    }
+
+    /**
+     * Schedules the next flush.
+     *
+     * <p>If the scheduler fails to accept the flush, the flush is marked as not scheduled,
+     * so that the next update tries to schedule it again. The pending updates are kept.
+     */
+    private void scheduleFlush() {
+        try {
+            scheduledFlush = scheduler.schedule(flushTask, windowNanos, NANOSECONDS);
+        } catch (RuntimeException e) {
+            flushScheduled = false;
+            scheduledFlush = null;
+            throw e;
+        }
+    }
+
+    private void flush() {
+        final List<EntityStateUpdate> batch;
+        synchronized (lock) {
+            if (cancelled) {
+                return;
+            }
+            batch = ImmutableList.copyOf(pending.values());
+            pending.clear();
+        }
+        try {
+            if (!batch.isEmpty()) {
+                delegate.onStatesChanged(batch);
+            }
+        } finally {
+            synchronized (lock) {
+                if (pending.isEmpty() || cancelled) {
+                    flushScheduled = false;
+                    scheduledFlush = null;
+                } else {
+                    scheduleFlush();
+                }
+            }
+        }
+    }
+
+    /**
+     * A callback receiving the entity updates in batches.
+     */
+    public interface BatchCallback {
+
+        /**
+         * Called when the states of the entities are updated.
+         *
+         * @param updates the new states of the entities; contains at most one update
+         *                per entity
+         */
+        void onStatesChanged(List<EntityStateUpdate> updates);
+    }
+
+    private enum LogSingleton {
+        INSTANCE;
+        @SuppressWarnings("NonSerializableFieldInSerializableClass")
+        private final Logger value = LoggerFactory.getLogger(CoalescingUpdateCallback.class);
+    }
+
+    private static Logger log() {
+        return LogSingleton.INSTANCE.value;
+    }
+}
@@ -19,20 +19,20 @@
  */
 package io.spine.server.stand;
 
-import com.google.common.collect.ImmutableCollection;
-import com.google.common.collect.ImmutableList;
 import com.google.protobuf.Any;
 import com.google.protobuf.FieldMask;
 import com.google.protobuf.Message;
 import io.spine.client.EntityFilters;
 import io.spine.client.Query;
 import io.spine.client.Target;
-import io.spine.protobuf.AnyPacker;
 import io.spine.server.entity.Entity;
+import io.spine.server.entity.EntityRecord;
 import io.spine.server.entity.RecordBasedRepository;
 
 import java.util.Iterator;
 
+import static com.google.common.collect.Iterators.transform;
+
 /**
  * Processes the queries targeting {@link io.spine.server.entity.Entity Entity} objects.
  *
@@ -46,28 +46,32 @@ class EntityQueryProcessor implements QueryProcessor {
         this.repository = repository;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The states are taken from the stored {@link EntityRecord}s as they are, without
+     * creating the entities.
+     */
     @Override
-    public ImmutableCollection<Any> process(Query query) {
-        final ImmutableList.Builder<Any> resultBuilder = ImmutableList.builder();
-
+    public Iterator<Any> process(Query query, QueryPage page) {
         final Target target = query.getTarget();
         final FieldMask fieldMask = query.getFieldMask();
+        final EntityFilters filters = target.getFilters();
 
-        final Iterator<? extends Entity> entities;
-        if (target.getIncludeAll() && fieldMask.getPathsList()
-                                               .isEmpty()) {
-            entities = repository.loadAll();
+        final Iterator<EntityRecord> records;
+        if (page.isOrderedOrPaged()) {
+            records = repository.findRecords(filters,
+                                             page.getOrderBy(),
+                                             page.getOffset(),
+                                             page.getFetchLimit(),
+                                             fieldMask);
+        } else if (target.getIncludeAll() && fieldMask.getPathsList()
+                                                      .isEmpty()) {
+            records = repository.loadAllRecords();
         } else {
-            final EntityFilters filters = target.getFilters();
-            entities = repository.find(filters, fieldMask);
-        }
-        while (entities.hasNext()) {
-            final Entity entity = entities.next();
-            final Message state = entity.getState();
-            final Any packedState = AnyPacker.pack(state);
-            resultBuilder.add(packedState);
+            records = repository.findRecords(filters, fieldMask);
         }
-        final ImmutableList<Any> result = resultBuilder.build();
+        final Iterator<Any> result = transform(records, RecordStateExtractor.INSTANCE);
         return result;
     }
 }
@@ -19,6 +19,8 @@
  */
 package io.spine.server.stand;
 
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import io.spine.client.Subscription;
 import io.spine.client.SubscriptionId;
 import io.spine.client.Subscriptions;
@@ -29,24 +31,31 @@ import io.spine.server.tenant.TenantFunction;
 import io.spine.type.TypeUrl;
 
 import javax.annotation.Nullable;
-import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Preconditions.checkState;
 import static com.google.common.collect.Maps.newConcurrentMap;
 import static com.google.common.collect.Maps.newHashMap;
+import static com.google.common.collect.Sets.newHashSet;
 
 /**
  * Registry for subscription management in a multi-tenant context.
  *
+ * <p>The registry is optimized for the reads performed upon each entity update. The records of
+ * a tenant are kept in an immutable snapshot, which is replaced upon each modification.
+ * The reads take the current snapshot and never block. The modifications of a tenant registry
+ * are serialized.
+ *
  * @author Alex Tymchenko
  */
 final class MultitenantSubscriptionRegistry implements SubscriptionRegistry {
 
     /** The map from {@code TenantId} to its slice of data. */
-    private final Map<TenantId, SubscriptionRegistry> tenantSlices = newConcurrentMap();
+    private final ConcurrentMap<TenantId, SubscriptionRegistry> tenantSlices =
+            newConcurrentMap();
 
     private final boolean multitenant;
 
@@ -62,8 +71,7 @@ final class MultitenantSubscriptionRegistry implements SubscriptionRegistry {
      * {@inheritDoc}
      */
     @Override
-    public synchronized void activate(Subscription subscription,
-                                      Stand.EntityUpdateCallback callback) {
+    public void activate(Subscription subscription, Stand.EntityUpdateCallback callback) {
         registrySlice().activate(subscription, callback);
     }
 
@@ -71,7 +79,7 @@ final class MultitenantSubscriptionRegistry implements SubscriptionRegistry {
      * {@inheritDoc}
      */
     @Override
-    public synchronized Subscription add(Topic topic) {
+    public Subscription add(Topic topic) {
         return registrySlice().add(topic);
     }
 
@@ -79,7 +87,7 @@ final class MultitenantSubscriptionRegistry implements SubscriptionRegistry {
      * {@inheritDoc}
      */
     @Override
-    public synchronized void remove(Subscription subscription) {
+    public void remove(Subscription subscription) {
         registrySlice().remove(subscription);
     }
 
@@ -87,10 +95,18 @@ final class MultitenantSubscriptionRegistry implements SubscriptionRegistry {
      * {@inheritDoc}
      */
     @Override
-    public synchronized Set<SubscriptionRecord> byType(TypeUrl type) {
+    public Set<SubscriptionRecord> byType(TypeUrl type) {
         return registrySlice().byType(type);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SubscriptionIndex indexOf(TypeUrl type) {
+        return registrySlice().indexOf(type);
+    }
+
     @Override
     public boolean containsId(SubscriptionId subscriptionId) {
         return registrySlice().containsId(subscriptionId);
@@ -100,7 +116,7 @@ final class MultitenantSubscriptionRegistry implements SubscriptionRegistry {
      * {@inheritDoc}
      */
     @Override
-    public synchronized boolean hasType(TypeUrl type) {
+    public boolean hasType(TypeUrl type) {
         return registrySlice().hasType(type);
     }
 
@@ -114,32 +130,41 @@ final class MultitenantSubscriptionRegistry implements SubscriptionRegistry {
                     @Override
                     public SubscriptionRegistry apply(@Nullable TenantId tenantId) {
                         checkNotNull(tenantId);
-                        SubscriptionRegistry registryForTenant = tenantSlices.get(tenantId);
-                        if (registryForTenant == null) {
-                            registryForTenant = new TenantRegistry();
-                            tenantSlices.put(tenantId, registryForTenant);
+                        final SubscriptionRegistry existing = tenantSlices.get(tenantId);
+                        if (existing != null) {
+                            return existing;
                         }
-                        return registryForTenant;
+                        final SubscriptionRegistry newRegistry = new TenantRegistry();
+                        final SubscriptionRegistry previous =
+                                tenantSlices.putIfAbsent(tenantId, newRegistry);
+                        return previous != null
+                               ? previous
+                               : newRegistry;
                     }
                 };
         final SubscriptionRegistry result = func.execute();
         return result;
     }
 
+    /**
+     * The subscription registry of a single tenant.
+     *
+     * <p>The modifying methods are {@code synchronized} and publish a new {@link Snapshot}.
+     * The reading methods work with the current snapshot without locking.
+     */
     private static class TenantRegistry implements SubscriptionRegistry {
 
-        private final Map<TypeUrl, Set<SubscriptionRecord>> typeToRecord = newHashMap();
-        private final Map<Subscription, SubscriptionRecord> subscriptionToAttrs = newHashMap();
+        private volatile Snapshot snapshot = Snapshot.EMPTY;
 
         /**
          * {@inheritDoc}
          */
         @Override
-        public synchronized void activate(Subscription subscription,
-                                          Stand.EntityUpdateCallback callback) {
-            checkState(subscriptionToAttrs.containsKey(subscription),
+        public void activate(Subscription subscription, Stand.EntityUpdateCallback callback) {
+            final SubscriptionRecord subscriptionRecord = snapshot.subscriptionToAttrs
+                                                                  .get(subscription);
+            checkState(subscriptionRecord != null,
                        "Cannot find the subscription in the registry.");
-            final SubscriptionRecord subscriptionRecord = subscriptionToAttrs.get(subscription);
             subscriptionRecord.activate(callback);
         }
 
@@ -157,14 +182,13 @@ final class MultitenantSubscriptionRegistry implements SubscriptionRegistry {
                                                           .setTopic(topic)
                                                           .build();
             final SubscriptionRecord record = new SubscriptionRecord(subscription, target, type);
-
-            if (!typeToRecord.containsKey(type)) {
-                typeToRecord.put(type, new HashSet<SubscriptionRecord>());
-            }
-            typeToRecord.get(type)
-                        .add(record);
-
-            subscriptionToAttrs.put(subscription, record);
+            final Snapshot current = snapshot;
+            final Set<SubscriptionRecord> records = newHashSet(current.recordsOf(type));
+            records.add(record);
+            final Map<Subscription, SubscriptionRecord> subscriptions =
+                    newHashMap(current.subscriptionToAttrs);
+            subscriptions.put(subscription, record);
+            snapshot = current.with(type, records, subscriptions);
             return subscription;
         }
 
@@ -173,24 +197,26 @@ final class MultitenantSubscriptionRegistry implements SubscriptionRegistry {
          */
         @Override
         public synchronized void remove(Subscription subscription) {
-            if (!subscriptionToAttrs.containsKey(subscription)) {
+            final Snapshot current = snapshot;
+            final SubscriptionRecord record = current.subscriptionToAttrs.get(subscription);
+            if (record == null) {
                 return;
             }
-            final SubscriptionRecord record = subscriptionToAttrs.get(subscription);
-
-            if (typeToRecord.containsKey(record.getType())) {
-                typeToRecord.get(record.getType())
-                            .remove(record);
-            }
-            subscriptionToAttrs.remove(subscription);
+            final TypeUrl type = record.getType();
+            final Set<SubscriptionRecord> records = newHashSet(current.recordsOf(type));
+            records.remove(record);
+            final Map<Subscription, SubscriptionRecord> subscriptions =
+                    newHashMap(current.subscriptionToAttrs);
+            subscriptions.remove(subscription);
+            snapshot = current.with(type, records, subscriptions);
         }
 
         /**
          * {@inheritDoc}
          */
         @Override
-        public synchronized Set<SubscriptionRecord> byType(TypeUrl type) {
-            final Set<SubscriptionRecord> result = typeToRecord.get(type);
+        public Set<SubscriptionRecord> byType(TypeUrl type) {
+            final Set<SubscriptionRecord> result = snapshot.typeToRecord.get(type);
             return result;
         }
 
@@ -198,14 +224,25 @@ final class MultitenantSubscriptionRegistry implements SubscriptionRegistry {
          * {@inheritDoc}
          */
         @Override
-        public synchronized boolean hasType(TypeUrl type) {
-            final boolean result = typeToRecord.containsKey(type);
+        public SubscriptionIndex indexOf(TypeUrl type) {
+            final SubscriptionIndex result = snapshot.typeToIndex.get(type);
+            return result == null
+                   ? SubscriptionIndex.empty()
+                   : result;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean hasType(TypeUrl type) {
+            final boolean result = snapshot.typeToRecord.containsKey(type);
             return result;
         }
 
         @Override
         public boolean containsId(SubscriptionId subscriptionId) {
-            for (Subscription existingItem : subscriptionToAttrs.keySet()) {
+            for (Subscription existingItem : snapshot.subscriptionToAttrs.keySet()) {
                 if (existingItem.getId()
                                 .equals(subscriptionId)) {
                     return true;
@@ -214,4 +251,54 @@ final class MultitenantSubscriptionRegistry implements SubscriptionRegistry {
             return false;
         }
     }
+
+    /**
+     * An immutable state of a {@link TenantRegistry}.
+     */
+    private static final class Snapshot {
+
+        private static final Snapshot EMPTY =
+                new Snapshot(ImmutableMap.<TypeUrl, ImmutableSet<SubscriptionRecord>>of(),
+                             ImmutableMap.<Subscription, SubscriptionRecord>of(),
+                             ImmutableMap.<TypeUrl, SubscriptionIndex>of());
+
+        private final ImmutableMap<TypeUrl, ImmutableSet<SubscriptionRecord>> typeToRecord;
+        private final ImmutableMap<Subscription, SubscriptionRecord> subscriptionToAttrs;
+        private final ImmutableMap<TypeUrl, SubscriptionIndex> typeToIndex;
+
+        private Snapshot(ImmutableMap<TypeUrl, ImmutableSet<SubscriptionRecord>> typeToRecord,
+                         ImmutableMap<Subscription, SubscriptionRecord> subscriptionToAttrs,
+                         ImmutableMap<TypeUrl, SubscriptionIndex> typeToIndex) {
+            this.typeToRecord = typeToRecord;
+            this.subscriptionToAttrs = subscriptionToAttrs;
+            this.typeToIndex = typeToIndex;
+        }
+
+        private Set<SubscriptionRecord> recordsOf(TypeUrl type) {
+            final ImmutableSet<SubscriptionRecord> result = typeToRecord.get(type);
+            return result == null
+                   ? ImmutableSet.<SubscriptionRecord>of()
+                   : result;
+        }
+
+        /**
+         * Creates a new snapshot with the records of the given type and the subscriptions
+         * replaced.
+         *
+         * <p>Once a type had records, it stays in the snapshot, even if all its records
+         * are removed.
+         */
+        private Snapshot with(TypeUrl type,
+                              Set<SubscriptionRecord> records,
+                              Map<Subscription, SubscriptionRecord> subscriptions) {
+            final Map<TypeUrl, ImmutableSet<SubscriptionRecord>> types = newHashMap(typeToRecord);
+            final ImmutableSet<SubscriptionRecord> typeRecords = ImmutableSet.copyOf(records);
+            types.put(type, typeRecords);
+            final Map<TypeUrl, SubscriptionIndex> indexes = newHashMap(typeToIndex);
+            indexes.put(type, SubscriptionIndex.of(type, typeRecords));
+            return new Snapshot(ImmutableMap.copyOf(types),
+                                ImmutableMap.copyOf(subscriptions),
+                                ImmutableMap.copyOf(indexes));
+        }
+    }
 }
@@ -19,11 +19,12 @@
  */
 package io.spine.server.stand;
 
-import com.google.common.collect.ImmutableCollection;
-import com.google.common.collect.ImmutableList;
 import com.google.protobuf.Any;
 import io.spine.client.Query;
 
+import java.util.Collections;
+import java.util.Iterator;
+
 /**
  * An {@link QueryProcessor} implementation that always returns empty result.
  *
@@ -34,7 +35,7 @@ import io.spine.client.Query;
  */
 class NoopQueryProcessor implements QueryProcessor {
     @Override
-    public ImmutableCollection<Any> process(Query query) {
-        return ImmutableList.of();
+    public Iterator<Any> process(Query query, QueryPage page) {
+        return Collections.emptyIterator();
     }
 }
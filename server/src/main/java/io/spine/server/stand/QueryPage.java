@@ -0,0 +1,196 @@
+/*
+ * Copyright 2018, TeamDev Ltd. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.stand;
+
+import com.google.common.primitives.UnsignedInts;
+import com.google.protobuf.Any;
+import io.spine.client.OrderBy;
+import io.spine.client.Query;
+import io.spine.client.QueryResponse;
+
+import java.util.Iterator;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.util.Exceptions.newIllegalStateException;
+
+/**
+ * The part of the {@link Query} results requested by the query.
+ *
+ * <p>The page is defined by the {@linkplain Query#getOrderBy() order} of the results,
+ * the {@linkplain Query#getLimit() maximum number} of them and
+ * the {@linkplain Query#getContinuationToken() continuation token}.
+ *
+ * <p>The continuation token is the number of the results returned by the previous pages.
+ * Thus, the pages do not overlap as long as the order of the results is stable, and the matching
+ * records are not added or removed between the queries.
+ *
+ * <p>In order to tell if there are more results, a query processor fetches one result more than
+ * the {@linkplain Query#getLimit() limit}. The extra result is dropped from the response.
+ *
+ * @author Dmytry Dyachenko
+ */
+final class QueryPage {
+
+    private final OrderBy orderBy;
+    private final int offset;
+    private final int limit;
+
+    private QueryPage(OrderBy orderBy, int offset, int limit) {
+        this.orderBy = orderBy;
+        this.offset = offset;
+        this.limit = limit;
+    }
+
+    /**
+     * Obtains the page requested by the given query.
+     *
+     * @throws IllegalArgumentException if the continuation token or the limit of the query
+     *                                  is invalid
+     */
+    static QueryPage of(Query query) {
+        checkNotNull(query);
+        final String token = query.getContinuationToken();
+        checkArgument(isValidToken(token), "Invalid continuation token: `%s`.", token);
+        final int offset = token.isEmpty()
+                           ? 0
+                           : Integer.parseInt(token);
+        final int limit = query.getLimit();
+        checkArgument(isValidLimit(limit), "The query limit is too large: %s.",
+                      UnsignedInts.toString(limit));
+        return new QueryPage(query.getOrderBy(), offset, limit);
+    }
+
+    /**
+     * Checks if the given string is a valid continuation token.
+     *
+     * <p>An empty string is a valid token, denoting the first page.
+     */
+    static boolean isValidToken(String token) {
+        checkNotNull(token);
+        if (token.isEmpty()) {
+            return true;
+        }
+        try {
+            return Integer.parseInt(token) >= 0;
+        } catch (NumberFormatException ignored) {
+            return false;
+        }
+    }
+
+    /**
+     * Checks if the given {@code uint32} query limit is supported.
+     *
+     * <p>The limits exceeding {@code Integer.MAX_VALUE - 1} are not supported, since one result
+     * more than the limit is fetched. Such limits are passed as negative {@code int} values.
+     */
+    static boolean isValidLimit(int limit) {
+        return limit >= 0 && limit < Integer.MAX_VALUE;
+    }
+
+    /**
+     * Tells if the results should be ordered or only a part of them is requested.
+     *
+     * <p>If not, the query processor may return the results as they are read.
+     */
+    boolean isOrderedOrPaged() {
+        return isOrdered() || offset > 0 || limit > 0;
+    }
+
+    boolean isOrdered() {
+        return !orderBy.getColumn()
+                       .isEmpty();
+    }
+
+    OrderBy getOrderBy() {
+        return orderBy;
+    }
+
+    /**
+     * Obtains the number of the leading results to skip.
+     */
+    int getOffset() {
+        return offset;
+    }
+
+    /**
+     * Obtains the maximum number of the results to be fetched by a query processor.
+     *
+     * @return the limit of the query plus one, or zero if the query has no limit
+     */
+    int getFetchLimit() {
+        return limit == 0
+               ? 0
+               : limit + 1;
+    }
+
+    /**
+     * Tells if the number of the results is limited.
+     */
+    boolean isLimited() {
+        return limit > 0;
+    }
+
+    /**
+     * Obtains the maximum number of the results to return, zero meaning no limit.
+     */
+    int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Obtains the continuation token for the page following this one.
+     *
+     * @throws IllegalStateException if the offset of the next page exceeds
+     *                               {@code Integer.MAX_VALUE} and thus cannot be expressed
+     *                               by a token
+     */
+    String nextToken() {
+        final long nextOffset = (long) offset + limit;
+        if (nextOffset > Integer.MAX_VALUE) {
+            throw newIllegalStateException("The offset of the next page %s exceeds the range " +
+                                           "of continuation tokens.", nextOffset);
+        }
+        return String.valueOf(nextOffset);
+    }
+
+    /**
+     * Adds the fetched results to the response.
+     *
+     * <p>If more results than the limit were fetched, the extra result is dropped and
+     * the continuation token for the next page is set.
+     *
+     * @param fetched  the results fetched by a query processor
+     * @param response the builder of the response
+     */
+    void fill(Iterator<Any> fetched, QueryResponse.Builder response) {
+        checkNotNull(fetched);
+        checkNotNull(response);
+        int count = 0;
+        while (fetched.hasNext() && (limit == 0 || count < limit)) {
+            response.addMessages(fetched.next());
+            count++;
+        }
+        if (isLimited() && fetched.hasNext()) {
+            response.setContinuationToken(nextToken());
+        }
+    }
+}
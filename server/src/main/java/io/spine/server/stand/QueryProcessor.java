@@ -19,11 +19,12 @@
  */
 package io.spine.server.stand;
 
-import com.google.common.collect.ImmutableCollection;
 import com.google.protobuf.Any;
 import io.grpc.stub.StreamObserver;
 import io.spine.client.Query;
 
+import java.util.Iterator;
+
 /**
  * Processes a query and returns the result.
  *
@@ -34,8 +35,16 @@ interface QueryProcessor {
     /**
      * Performs query processing as a part of {@link Stand#execute(Query, StreamObserver)}.
      *
+     * <p>If the {@code page} {@linkplain QueryPage#isOrderedOrPaged() requires}, the results
+     * are ordered, and no more than the {@linkplain QueryPage#getFetchLimit() fetch limit}
+     * of them are returned starting from the {@linkplain QueryPage#getOffset() offset}.
+     *
+     * <p>The results may be read from the storage lazily, as the returned iterator
+     * is advanced.
+     *
      * @param query an instance of {@code Query} to process
-     * @return the query result
+     * @param page  the page of the results requested by the query
+     * @return the iterator over the query results
      */
-    ImmutableCollection<Any> process(Query query);
+    Iterator<Any> process(Query query, QueryPage page);
 }
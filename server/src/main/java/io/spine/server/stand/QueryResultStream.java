@@ -0,0 +1,181 @@
+/*
+ * Copyright 2018, TeamDev Ltd. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.stand;
+
+import com.google.protobuf.Any;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import io.spine.client.Query;
+import io.spine.client.QueryResponse;
+import io.spine.core.Responses;
+import io.spine.server.tenant.QueryOperation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+import java.util.Iterator;
+
+/**
+ * Feeds the query results to a {@link StreamObserver} in chunks.
+ *
+ * <p>The results are pulled from the iterator returned by a {@link QueryProcessor} only when
+ * the next chunk is about to be sent. If the observer is a {@link ServerCallStreamObserver},
+ * the chunks are sent only while the call {@linkplain ServerCallStreamObserver#isReady() is
+ * ready}, and the streaming resumes when the client requests more. Once the call is cancelled,
+ * no more results are read.
+ *
+ * <p>Each chunk is a {@link QueryResponse} with the {@code OK} status. If the results are
+ * {@linkplain QueryPage#isLimited() limited} and there are more of them, the last chunk
+ * contains the continuation token. If there are no results, a single empty response is sent.
+ *
+ * <p>The results are read in the context of the tenant of the query.
+ *
+ * @author Dmytry Dyachenko
+ */
+final class QueryResultStream {
+
+    private final Query query;
+    private final QueryPage page;
+    private final Iterator<Any> results;
+    private final int chunkSize;
+    private final StreamObserver<QueryResponse> observer;
+
+    @Nullable
+    private final ServerCallStreamObserver<QueryResponse> call;
+
+    private volatile boolean cancelled;
+
+    /** The number of the sent results, guarded by {@code this}. */
+    private int sent;
+
+    /** Tells whether at least one chunk was sent, guarded by {@code this}. */
+    private boolean started;
+
+    /** Tells whether the stream is completed, guarded by {@code this}. */
+    private boolean completed;
+
+    QueryResultStream(Query query,
+                      QueryPage page,
+                      Iterator<Any> results,
+                      int chunkSize,
+                      StreamObserver<QueryResponse> observer) {
+        this.query = query;
+        this.page = page;
+        this.results = results;
+        this.chunkSize = chunkSize;
+        this.observer = observer;
+        this.call = observer instanceof ServerCallStreamObserver
+                    ? (ServerCallStreamObserver<QueryResponse>) observer
+                    : null;
+    }
+
+    /**
+     * Starts sending the results.
+     *
+     * <p>Must be called before the gRPC service method returns, so that the flow control
+     * handlers are registered.
+     */
+    void start() {
+        if (call != null) {
+            call.setOnCancelHandler(new Runnable() {
+                @Override
+                public void run() {
+                    cancelled = true;
+                }
+            });
+            call.setOnReadyHandler(new Runnable() {
+                @Override
+                public void run() {
+                    drainInTenantContext();
+                }
+            });
+        }
+        drain();
+    }
+
+    private void drainInTenantContext() {
+        final QueryOperation op = new QueryOperation(query) {
+            @Override
+            public void run() {
+                drain();
+            }
+        };
+        op.execute();
+    }
+
+    private synchronized void drain() {
+        try {
+            while (!completed && isReady()) {
+                sendChunk();
+            }
+        } catch (RuntimeException e) {
+            log().error("Error streaming the results of the query " + query.getId(), e);
+            completed = true;
+            observer.onError(e);
+        }
+    }
+
+    private boolean isReady() {
+        if (cancelled) {
+            completed = true;
+            return false;
+        }
+        return call == null || call.isReady();
+    }
+
+    private void sendChunk() {
+        final QueryResponse.Builder chunk = QueryResponse.newBuilder()
+                                                         .setResponse(Responses.ok());
+        int chunkCount = 0;
+        while (chunkCount < chunkSize && hasRemaining()) {
+            chunk.addMessages(results.next());
+            chunkCount++;
+            sent++;
+        }
+        final boolean last = !hasRemaining();
+        if (last && page.isLimited() && results.hasNext()) {
+            chunk.setContinuationToken(page.nextToken());
+        }
+        if (chunkCount > 0 || !started) {
+            observer.onNext(chunk.build());
+            started = true;
+        }
+        if (last) {
+            completed = true;
+            observer.onCompleted();
+        }
+    }
+
+    private boolean hasRemaining() {
+        final boolean withinLimit = !page.isLimited() || sent < page.getLimit();
+        return withinLimit && results.hasNext();
+    }
+
+    private enum LogSingleton {
+        INSTANCE;
+        @SuppressWarnings("NonSerializableFieldInSerializableClass")
+        private final Logger value = LoggerFactory.getLogger(QueryResultStream.class);
+    }
+
+    private static Logger log() {
+        return LogSingleton.INSTANCE.value;
+    }
+}
@@ -20,13 +20,16 @@
 package io.spine.server.stand;
 
 import com.google.common.base.Optional;
+import com.google.common.primitives.UnsignedInts;
 import io.spine.base.Error;
 import io.spine.client.Query;
 import io.spine.client.QueryValidationError;
 import io.spine.client.Target;
 import io.spine.type.TypeUrl;
 
+import static io.spine.client.QueryValidationError.INVALID_CONTINUATION_TOKEN;
 import static io.spine.client.QueryValidationError.INVALID_QUERY;
+import static io.spine.client.QueryValidationError.INVALID_QUERY_LIMIT;
 import static io.spine.client.QueryValidationError.UNSUPPORTED_QUERY_TARGET;
 import static java.lang.String.format;
 
@@ -57,11 +60,49 @@ class QueryValidator extends AbstractTargetValidator<Query> {
         final Target target = request.getTarget();
         final boolean targetSupported = checkTargetSupported(target);
 
-        if (targetSupported) {
-            return Optional.absent();
+        if (!targetSupported) {
+            return Optional.of(missingInRegistry(getTypeOf(target)));
         }
 
-        return Optional.of(missingInRegistry(getTypeOf(target)));
+        final String token = request.getContinuationToken();
+        if (!QueryPage.isValidToken(token)) {
+            return Optional.of(invalidToken(token));
+        }
+
+        final int limit = request.getLimit();
+        if (!QueryPage.isValidLimit(limit)) {
+            return Optional.of(invalidLimit(limit));
+        }
+
+        return Optional.absent();
+    }
+
+    private static RequestNotSupported<Query> invalidToken(String token) {
+        final String errorMessage = format("The continuation token is not supported: `%s`",
+                                           token);
+        return new RequestNotSupported<Query>(INVALID_CONTINUATION_TOKEN, errorMessage) {
+
+            @Override
+            protected InvalidRequestException createException(String message,
+                                                              Query request,
+                                                              Error error) {
+                return new InvalidQueryException(message, request, error);
+            }
+        };
+    }
+
+    private static RequestNotSupported<Query> invalidLimit(int limit) {
+        final String errorMessage = format("The query limit is too large: %s",
+                                           UnsignedInts.toString(limit));
+        return new RequestNotSupported<Query>(INVALID_QUERY_LIMIT, errorMessage) {
+
+            @Override
+            protected InvalidRequestException createException(String message,
+                                                              Query request,
+                                                              Error error) {
+                return new InvalidQueryException(message, request, error);
+            }
+        };
     }
 
     private static RequestNotSupported<Query> missingInRegistry(TypeUrl topicTargetType) {
@@ -21,7 +21,6 @@ package io.spine.server.stand;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Optional;
-import com.google.common.collect.ImmutableCollection;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.util.concurrent.MoreExecutors;
 import com.google.protobuf.Any;
@@ -38,7 +37,6 @@ import io.spine.core.Response;
 import io.spine.core.Responses;
 import io.spine.core.TenantId;
 import io.spine.core.Version;
-import io.spine.protobuf.AnyPacker;
 import io.spine.server.BoundedContext;
 import io.spine.server.aggregate.AggregateRepository;
 import io.spine.server.entity.Entity;
@@ -56,13 +54,14 @@ import io.spine.type.TypeUrl;
 
 import javax.annotation.CheckReturnValue;
 import javax.annotation.Nullable;
-import java.util.Set;
+import java.util.Iterator;
+import java.util.List;
 import java.util.concurrent.Executor;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Preconditions.checkState;
 import static io.spine.grpc.StreamObservers.ack;
-import static io.spine.protobuf.TypeConverter.toAny;
 
 /**
  * A container for storing the latest {@link io.spine.server.aggregate.Aggregate Aggregate}
@@ -203,7 +202,7 @@ public class Stand implements AutoCloseable {
             public void run() {
                 final Object id = envelope.getEntityId();
                 final Message entityState = envelope.getMessage();
-                final Any packedState = AnyPacker.pack(entityState);
+                final Any packedState = envelope.getPackedMessage();
 
                 final TypeUrl entityTypeUrl = TypeUrl.of(entityState);
                 final boolean aggregateUpdate = typeRegistry.hasAggregateType(entityTypeUrl);
@@ -220,12 +219,14 @@ public class Stand implements AutoCloseable {
                                                                                   entityTypeUrl);
 
                     final EntityRecord record = EntityRecord.newBuilder()
+                                                            .setEntityId(envelope.getId())
                                                             .setState(packedState)
                                                             .setVersion(versionValue)
                                                             .build();
                     getStorage().write(aggregateStateId, record);
                 }
-                notifyMatchingSubscriptions(id, packedState, entityTypeUrl);
+                notifyMatchingSubscriptions(envelope.getId(), entityState, packedState,
+                                            entityTypeUrl);
             }
         };
         op.execute();
@@ -361,6 +362,11 @@ public class Stand implements AutoCloseable {
      * <p>The query results are fed to an instance
      * of {@link StreamObserver}&lt;{@link QueryResponse}&gt;.
      *
+     * <p>If the query {@linkplain Query#getLimit() limits} the number of the results and there
+     * are more of them, the response contains
+     * a {@linkplain QueryResponse#getContinuationToken() continuation token} to query
+     * the next portion of the results with.
+     *
      * @param query            an instance of query
      * @param responseObserver an observer to feed the query results to.
      */
@@ -374,31 +380,69 @@ public class Stand implements AutoCloseable {
         final QueryOperation op = new QueryOperation(query) {
             @Override
             public void run() {
-                final ImmutableCollection<Any> readResult = queryProcessor.process(query());
-                final QueryResponse response = QueryResponse.newBuilder()
-                                                            .addAllMessages(readResult)
-                                                            .setResponse(Responses.ok())
-                                                            .build();
-                responseObserver.onNext(response);
+                final QueryPage page = QueryPage.of(query());
+                final Iterator<Any> readResult = queryProcessor.process(query(), page);
+                final QueryResponse.Builder response = QueryResponse.newBuilder()
+                                                                    .setResponse(Responses.ok());
+                page.fill(readResult, response);
+                responseObserver.onNext(response.build());
                 responseObserver.onCompleted();
             }
         };
         op.execute();
     }
 
-    private void notifyMatchingSubscriptions(Object id, Any entityState, TypeUrl typeUrl) {
-        if (subscriptionRegistry.hasType(typeUrl)) {
-            final Set<SubscriptionRecord> allRecords = subscriptionRegistry.byType(typeUrl);
+    /**
+     * Reads a particular set of items from the read-side of the application and
+     * feeds the result into an instance in chunks.
+     *
+     * <p>Unlike {@link #execute(Query, StreamObserver) execute()}, this method does not read
+     * all the results at once. Each {@link QueryResponse} fed to the observer contains at most
+     * {@code chunkSize} results, which are read only when the response is about to be sent.
+     *
+     * <p>If the observer is a {@link io.grpc.stub.ServerCallStreamObserver
+     * ServerCallStreamObserver}, the gRPC flow control and cancellation are honoured, so
+     * the responses may be sent after this method returns.
+     *
+     * @param query            an instance of query
+     * @param chunkSize        the maximum number of the results in a single response
+     * @param responseObserver an observer to feed the query results to
+     */
+    public void stream(final Query query,
+                       final int chunkSize,
+                       final StreamObserver<QueryResponse> responseObserver) {
+        checkArgument(chunkSize > 0, "The chunk size must be positive.");
+        queryValidator.validate(query, responseObserver);
 
-            for (final SubscriptionRecord subscriptionRecord : allRecords) {
+        final TypeUrl type = Queries.typeOf(query);
+        final QueryProcessor queryProcessor = processorFor(type);
 
-                final boolean subscriptionIsActive = subscriptionRecord.isActive();
-                final boolean stateMatches = subscriptionRecord.matches(typeUrl, id, entityState);
-                if (subscriptionIsActive && stateMatches) {
-                    final Runnable action = notifySubscriptionAction(subscriptionRecord,
-                                                                     id, entityState);
-                    callbackExecutor.execute(action);
-                }
+        final QueryOperation op = new QueryOperation(query) {
+            @Override
+            public void run() {
+                final QueryPage page = QueryPage.of(query());
+                final Iterator<Any> results = queryProcessor.process(query(), page);
+                final QueryResultStream stream = new QueryResultStream(query(), page, results,
+                                                                       chunkSize,
+                                                                       responseObserver);
+                stream.start();
+            }
+        };
+        op.execute();
+    }
+
+    private void notifyMatchingSubscriptions(Any id, Message state,
+                                             Any packedState, TypeUrl typeUrl) {
+        final SubscriptionIndex index = subscriptionRegistry.indexOf(typeUrl);
+        if (index.isEmpty()) {
+            return;
+        }
+        final List<SubscriptionRecord> matching = index.matching(id, state);
+        for (SubscriptionRecord subscriptionRecord : matching) {
+            if (subscriptionRecord.isActive()) {
+                final Runnable action = notifySubscriptionAction(subscriptionRecord,
+                                                                 id, packedState);
+                callbackExecutor.execute(action);
             }
         }
     }
@@ -501,15 +545,14 @@ public class Stand implements AutoCloseable {
      * @return a routine delivering the subscription update to the target subscriber
      */
     private static Runnable notifySubscriptionAction(final SubscriptionRecord subscriptionRecord,
-                                                     final Object id, final Any entityState) {
+                                                     final Any id, final Any entityState) {
         final Runnable result = new Runnable() {
             @Override
             public void run() {
                 final EntityUpdateCallback callback = subscriptionRecord.getCallback();
                 checkNotNull(callback, "Notifying by a non-activated subscription.");
-                final Any entityId = toAny(id);
                 final EntityStateUpdate stateUpdate = EntityStateUpdate.newBuilder()
-                                                                       .setId(entityId)
+                                                                       .setId(id)
                                                                        .setState(entityState)
                                                                        .build();
                 callback.onStateChanged(stateUpdate);
@@ -630,6 +673,10 @@ public class Stand implements AutoCloseable {
          * <p> If this method is not used, a
          * {@link StandUpdateDelivery#directDelivery() directDelivery()} value will be used.
          *
+         * <p>To decouple the writes from the {@code Stand} updates, use
+         * an {@linkplain StandUpdateDelivery#asyncDelivery(Executor, int, int) asynchronous
+         * delivery}.
+         *
          * @param delivery the instance of {@code StandUpdateDelivery}.
          * @return {@code this} instance of {@code Builder}
          */
@@ -22,7 +22,7 @@
 package io.spine.server.stand;
 
 import com.google.common.annotations.VisibleForTesting;
-import com.google.common.collect.Lists;
+import com.google.common.collect.ImmutableList;
 import io.spine.annotation.SPI;
 import io.spine.server.delivery.Delivery;
 import io.spine.server.entity.EntityStateEnvelope;
@@ -45,7 +45,7 @@ import java.util.concurrent.Executor;
 @SuppressWarnings("WeakerAccess")   // Part of API.
 public abstract class StandUpdateDelivery extends Delivery<EntityStateEnvelope<?, ?>, Stand> {
 
-    private Stand stand;
+    private Collection<Stand> consumers = ImmutableList.of();
 
     protected StandUpdateDelivery(Executor delegate) {
         super(delegate);
@@ -56,7 +56,7 @@ public abstract class StandUpdateDelivery extends Delivery<EntityStateEnvelope<?
     }
 
     void setStand(Stand stand) {
-        this.stand = stand;
+        this.consumers = ImmutableList.of(stand);
     }
 
     @Override
@@ -72,7 +72,7 @@ public abstract class StandUpdateDelivery extends Delivery<EntityStateEnvelope<?
 
     @Override
     protected Collection<Stand> consumersFor(EntityStateEnvelope deliverable) {
-        return Lists.newArrayList(stand);
+        return consumers;
     }
 
     /**
@@ -87,6 +87,26 @@ public abstract class StandUpdateDelivery extends Delivery<EntityStateEnvelope<?
         return new DirectDelivery();
     }
 
+    /**
+     * Obtains a {@code StandUpdateDelivery}, which updates the {@code Stand} asynchronously
+     * using the given {@code Executor}.
+     *
+     * <p>The updates of the same entity are passed to the {@code Stand} in the order of
+     * posting. This way the repositories posting the updates do not wait for the {@code Stand}
+     * to store the state and notify the subscribers.
+     *
+     * @param executor   the executor to update the {@code Stand} with
+     * @param laneCount  the maximum number of updates processed concurrently
+     * @param maxPending the maximum number of pending updates; when exceeded, posting blocks
+     *                   until the {@code Stand} catches up
+     * @return new asynchronous delivery
+     */
+    public static AsyncStandUpdateDelivery asyncDelivery(Executor executor,
+                                                         int laneCount,
+                                                         int maxPending) {
+        return AsyncStandUpdateDelivery.newInstance(executor, laneCount, maxPending);
+    }
+
     /**
      * A delivery implementation which does not postpone events.
      *
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2018, TeamDev Ltd. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.stand;
+
+import com.google.common.base.Predicate;
+import com.google.common.collect.ImmutableList;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.Message;
+import io.spine.client.ColumnFilter;
+import io.spine.client.ColumnFilter.Operator;
+import io.spine.client.CompositeColumnFilter;
+import io.spine.client.CompositeColumnFilter.CompositeOperator;
+
+import javax.annotation.Nullable;
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.protobuf.Descriptors.FieldDescriptor.JavaType.ENUM;
+import static io.spine.protobuf.TypeConverter.toObject;
+import static io.spine.server.storage.OperatorEvaluator.eval;
+import static io.spine.util.Exceptions.newIllegalArgumentException;
+
+/**
+ * A predicate matching an entity state against the column filters of a subscription.
+ *
+ * <p>Upon an entity update, {@code Stand} receives the entity state only, so the values of
+ * the Entity Columns are not available. Instead, a column is matched to the top-level field
+ * of the state, which has the same name. A filter by a column, which is not a field of
+ * the state, such as an entity lifecycle flag or a column computed by a getter, cannot be
+ * checked against the state and is considered matching. Thus, a subscriber may receive
+ * more updates than the entities matching all the filters, but never misses an update.
+ *
+ * <p>The filters are compiled once: the fields are resolved and the expected values are
+ * unpacked at the creation time.
+ *
+ * @author Dmytry Dyachenko
+ */
+final class StateFilter implements Predicate<Message> {
+
+    private final ImmutableList<Composite> composites;
+
+    private StateFilter(ImmutableList<Composite> composites) {
+        this.composites = composites;
+    }
+
+    /**
+     * Compiles the given column filters for the entity states of the given type.
+     *
+     * @param filters      the column filters to compile
+     * @param defaultState the default instance of the entity state
+     * @return new compiled filter
+     */
+    static StateFilter compile(List<CompositeColumnFilter> filters, Message defaultState) {
+        checkNotNull(filters);
+        checkNotNull(defaultState);
+        final ImmutableList.Builder<Composite> composites = ImmutableList.builder();
+        for (CompositeColumnFilter filter : filters) {
+            final ImmutableList.Builder<Condition> conditions = ImmutableList.builder();
+            for (ColumnFilter columnFilter : filter.getFilterList()) {
+                conditions.add(Condition.compile(columnFilter, defaultState));
+            }
+            composites.add(new Composite(filter.getOperator(), conditions.build()));
+        }
+        return new StateFilter(composites.build());
+    }
+
+    @Override
+    public boolean apply(@Nullable Message state) {
+        checkNotNull(state);
+        for (Composite composite : composites) {
+            if (!composite.matches(state)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Finds a singular non-enum field of the entity state matching the column name.
+     *
+     * <p>The column name is matched to the JSON name of a field first, which is the way
+     * the column names are derived from the getters. Then the proto name is tried.
+     */
+    @Nullable
+    static FieldDescriptor findField(Descriptor type, String columnName) {
+        FieldDescriptor result = null;
+        for (FieldDescriptor field : type.getFields()) {
+            if (field.getJsonName()
+                     .equals(columnName)) {
+                result = field;
+                break;
+            }
+        }
+        if (result == null) {
+            result = type.findFieldByName(columnName);
+        }
+        if (result == null || result.isRepeated() || result.getJavaType() == ENUM) {
+            return null;
+        }
+        return result;
+    }
+
+    /**
+     * A compiled {@link CompositeColumnFilter}.
+     */
+    private static final class Composite {
+
+        private final CompositeOperator operator;
+        private final ImmutableList<Condition> conditions;
+
+        private Composite(CompositeOperator operator, ImmutableList<Condition> conditions) {
+            this.operator = operator;
+            this.conditions = conditions;
+        }
+
+        @SuppressWarnings("EnumSwitchStatementWhichMissesCases") // Only valuable cases covered
+        private boolean matches(Message state) {
+            switch (operator) {
+                case ALL:
+                    for (Condition condition : conditions) {
+                        if (!condition.matches(state)) {
+                            return false;
+                        }
+                    }
+                    return true;
+                case EITHER:
+                    for (Condition condition : conditions) {
+                        if (condition.matches(state)) {
+                            return true;
+                        }
+                    }
+                    return conditions.isEmpty();
+                default:
+                    throw newIllegalArgumentException("Composite operator %s is invalid.",
+                                                      operator);
+            }
+        }
+    }
+
+    /**
+     * A compiled {@link ColumnFilter}.
+     */
+    private static final class Condition {
+
+        /**
+         * The matched field or {@code null} if the state has no field for the column.
+         *
+         * <p>A condition without a field matches any state.
+         */
+        @Nullable
+        private final FieldDescriptor field;
+        private final Operator operator;
+        @Nullable
+        private final Object expected;
+
+        private Condition(@Nullable FieldDescriptor field,
+                          Operator operator,
+                          @Nullable Object expected) {
+            this.field = field;
+            this.operator = operator;
+            this.expected = expected;
+        }
+
+        private static Condition compile(ColumnFilter filter, Message defaultState) {
+            final FieldDescriptor field = findField(defaultState.getDescriptorForType(),
+                                                    filter.getColumnName());
+            if (field == null) {
+                return new Condition(null, filter.getOperator(), null);
+            }
+            final Class<?> fieldType = defaultState.getField(field)
+                                                   .getClass();
+            final Object expected = toObject(filter.getValue(), fieldType);
+            return new Condition(field, filter.getOperator(), expected);
+        }
+
+        private boolean matches(Message state) {
+            if (field == null) {
+                return true;
+            }
+            final Object actual = state.getField(field);
+            final boolean result = eval(actual, operator, expected);
+            return result;
+        }
+    }
+}
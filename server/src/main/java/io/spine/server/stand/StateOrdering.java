@@ -0,0 +1,197 @@
+/*
+ * Copyright 2018, TeamDev Ltd. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.stand;
+
+import com.google.common.base.Function;
+import com.google.common.collect.Iterators;
+import com.google.common.collect.Ordering;
+import com.google.protobuf.Any;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor.JavaType;
+import com.google.protobuf.Internal;
+import com.google.protobuf.Message;
+import com.google.protobuf.Timestamp;
+import io.spine.client.OrderBy;
+import io.spine.protobuf.AnyPacker;
+import io.spine.server.entity.EntityRecord;
+import io.spine.time.Timestamps2;
+import io.spine.type.TypeUrl;
+
+import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.Lists.newArrayList;
+import static com.google.common.collect.Lists.newArrayListWithCapacity;
+import static com.google.protobuf.Descriptors.FieldDescriptor.JavaType.BYTE_STRING;
+import static com.google.protobuf.Descriptors.FieldDescriptor.JavaType.MESSAGE;
+import static io.spine.client.OrderBy.Direction.DESCENDING;
+
+/**
+ * The order of the entity state records, which have no entity columns stored.
+ *
+ * <p>Similarly to the {@link StateFilter}, the {@linkplain OrderBy#getColumn() column} to order
+ * by is matched to the top-level field of the entity state, which has the same name.
+ *
+ * <p>The records with equal values of the field, as well as all the records if no column is
+ * requested, are ordered by their {@linkplain EntityRecord#getEntityId() IDs}, so that the order
+ * is stable across the queries.
+ *
+ * @author Dmytry Dyachenko
+ */
+final class StateOrdering implements Comparator<StateOrdering.Key> {
+
+    @Nullable
+    private final FieldDescriptor field;
+    private final boolean descending;
+
+    private StateOrdering(@Nullable FieldDescriptor field, boolean descending) {
+        this.field = field;
+        this.descending = descending;
+    }
+
+    /**
+     * Creates the ordering of the states of the given type.
+     *
+     * @throws IllegalArgumentException if the state has no field to order by
+     */
+    static StateOrdering of(OrderBy orderBy, TypeUrl type) {
+        checkNotNull(orderBy);
+        checkNotNull(type);
+        final String column = orderBy.getColumn();
+        if (column.isEmpty()) {
+            return new StateOrdering(null, false);
+        }
+        final Class<? extends Message> stateClass = type.getJavaClass();
+        final Message defaultState = Internal.getDefaultInstance(stateClass);
+        final FieldDescriptor field = StateFilter.findField(defaultState.getDescriptorForType(),
+                                                            column);
+        checkArgument(field != null && isOrderable(field),
+                      "Cannot order the states of %s by `%s`.", type, column);
+        return new StateOrdering(field, orderBy.getDirection() == DESCENDING);
+    }
+
+    private static boolean isOrderable(FieldDescriptor field) {
+        final JavaType type = field.getJavaType();
+        if (type == MESSAGE) {
+            return field.getMessageType()
+                        .equals(Timestamp.getDescriptor());
+        }
+        return type != BYTE_STRING;
+    }
+
+    /**
+     * Sorts the given records.
+     *
+     * <p>Each record state is unpacked at most once.
+     */
+    List<EntityRecord> sort(Iterator<EntityRecord> records) {
+        final List<Key> keys = newArrayList(keysOf(records));
+        Collections.sort(keys, this);
+        return recordsOf(keys);
+    }
+
+    /**
+     * Selects the given number of the first records in this order.
+     *
+     * <p>Unlike {@link #sort(Iterator) sort()}, keeps only the selected records in memory while
+     * reading the given ones.
+     *
+     * @param records the records to select from
+     * @param count   the number of the records to select
+     * @return the selected records in this order
+     */
+    List<EntityRecord> first(Iterator<EntityRecord> records, int count) {
+        final List<Key> keys = Ordering.from(this)
+                                       .leastOf(keysOf(records), count);
+        return recordsOf(keys);
+    }
+
+    private Iterator<Key> keysOf(Iterator<EntityRecord> records) {
+        return Iterators.transform(records, new Function<EntityRecord, Key>() {
+            @Override
+            public Key apply(@Nullable EntityRecord record) {
+                checkNotNull(record);
+                return new Key(record, valueOf(record));
+            }
+        });
+    }
+
+    private static List<EntityRecord> recordsOf(List<Key> keys) {
+        final List<EntityRecord> result = newArrayListWithCapacity(keys.size());
+        for (Key key : keys) {
+            result.add(key.record);
+        }
+        return result;
+    }
+
+    @Nullable
+    private Object valueOf(EntityRecord record) {
+        if (field == null) {
+            return null;
+        }
+        final Message state = AnyPacker.unpack(record.getState());
+        return state.getField(field);
+    }
+
+    @Override
+    public int compare(Key first, Key second) {
+        if (field != null) {
+            final int result = compareValues(first.value, second.value);
+            if (result != 0) {
+                return descending ? -result : result;
+            }
+        }
+        return first.id.compareTo(second.id);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes", "ConstantConditions"})
+        // The values are of the same field, which is checked to be orderable.
+    private static int compareValues(@Nullable Object first, @Nullable Object second) {
+        if (first instanceof Timestamp) {
+            return Timestamps2.compare((Timestamp) first, (Timestamp) second);
+        }
+        return ((Comparable) first).compareTo(second);
+    }
+
+    /**
+     * A record along with the values it is ordered by.
+     */
+    static final class Key {
+
+        private final EntityRecord record;
+        @Nullable
+        private final Object value;
+        private final String id;
+
+        private Key(EntityRecord record, @Nullable Object value) {
+            this.record = record;
+            this.value = value;
+            final Any entityId = record.getEntityId();
+            this.id = entityId.getValue()
+                              .toStringUtf8();
+        }
+    }
+}
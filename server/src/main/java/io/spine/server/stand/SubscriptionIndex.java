@@ -0,0 +1,194 @@
+/*
+ * Copyright 2018, TeamDev Ltd. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.stand;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSetMultimap;
+import com.google.common.collect.ImmutableMap;
+import com.google.protobuf.Any;
+import com.google.protobuf.Internal;
+import com.google.protobuf.Message;
+import io.spine.client.CompositeColumnFilter;
+import io.spine.type.TypeUrl;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.Lists.newArrayList;
+import static com.google.common.collect.Maps.newHashMap;
+import static com.google.common.collect.Maps.newIdentityHashMap;
+
+/**
+ * An immutable index of the {@linkplain SubscriptionRecord subscriptions} to the entities
+ * of a single type.
+ *
+ * <p>The index allows to find the subscriptions matching an entity update without checking
+ * every subscription of the type:
+ * <ul>
+ *     <li>the subscriptions to all the entities are kept in a separate list;
+ *     <li>the subscriptions with an ID filter are looked up by the packed entity ID, each
+ *     subscription is found at most once even if it lists an ID several times;
+ *     <li>the subscriptions filtering by columns only are checked by their column filters.
+ * </ul>
+ *
+ * <p>The column filters are compiled once per distinct filter when the index is built.
+ * Upon matching, each distinct filter is evaluated at most once per entity update.
+ *
+ * @author Dmytry Dyachenko
+ */
+final class SubscriptionIndex {
+
+    private static final SubscriptionIndex EMPTY =
+            new SubscriptionIndex(ImmutableList.<SubscriptionRecord>of(),
+                                  ImmutableSetMultimap.<Any, SubscriptionRecord>of(),
+                                  ImmutableList.<SubscriptionRecord>of(),
+                                  ImmutableMap.<SubscriptionRecord, StateFilter>of());
+
+    private final ImmutableList<SubscriptionRecord> includeAll;
+    private final ImmutableSetMultimap<Any, SubscriptionRecord> byId;
+    private final ImmutableList<SubscriptionRecord> byColumns;
+    private final ImmutableMap<SubscriptionRecord, StateFilter> stateFilters;
+
+    private SubscriptionIndex(ImmutableList<SubscriptionRecord> includeAll,
+                              ImmutableSetMultimap<Any, SubscriptionRecord> byId,
+                              ImmutableList<SubscriptionRecord> byColumns,
+                              ImmutableMap<SubscriptionRecord, StateFilter> stateFilters) {
+        this.includeAll = includeAll;
+        this.byId = byId;
+        this.byColumns = byColumns;
+        this.stateFilters = stateFilters;
+    }
+
+    /**
+     * Obtains an index with no subscriptions.
+     */
+    static SubscriptionIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Builds an index of the given subscriptions to the entities of the given type.
+     *
+     * @param type    the type of the entity state
+     * @param records the subscriptions to the entities of the type
+     * @return new index
+     */
+    static SubscriptionIndex of(TypeUrl type, Collection<SubscriptionRecord> records) {
+        checkNotNull(type);
+        checkNotNull(records);
+        if (records.isEmpty()) {
+            return EMPTY;
+        }
+        final ImmutableList.Builder<SubscriptionRecord> includeAll = ImmutableList.builder();
+        final ImmutableSetMultimap.Builder<Any, SubscriptionRecord> byId =
+                ImmutableSetMultimap.builder();
+        final ImmutableList.Builder<SubscriptionRecord> byColumns = ImmutableList.builder();
+        final ImmutableMap.Builder<SubscriptionRecord, StateFilter> stateFilters =
+                ImmutableMap.builder();
+        final Map<List<CompositeColumnFilter>, StateFilter> compiled = newHashMap();
+        Message defaultState = null;
+        for (SubscriptionRecord record : records) {
+            if (record.isIncludeAll()) {
+                includeAll.add(record);
+                continue;
+            }
+            if (record.hasColumnFilters()) {
+                final List<CompositeColumnFilter> filters = record.getColumnFilters();
+                StateFilter filter = compiled.get(filters);
+                if (filter == null) {
+                    if (defaultState == null) {
+                        defaultState = defaultState(type);
+                    }
+                    filter = StateFilter.compile(filters, defaultState);
+                    compiled.put(filters, filter);
+                }
+                stateFilters.put(record, filter);
+            }
+            if (record.hasIdFilter()) {
+                for (Any id : record.getIds()) {
+                    byId.put(id, record);
+                }
+            } else if (record.hasColumnFilters()) {
+                byColumns.add(record);
+            }
+        }
+        return new SubscriptionIndex(includeAll.build(),
+                                     byId.build(),
+                                     byColumns.build(),
+                                     stateFilters.build());
+    }
+
+    /**
+     * Checks if this index has no subscriptions.
+     */
+    boolean isEmpty() {
+        return includeAll.isEmpty() && byId.isEmpty() && byColumns.isEmpty();
+    }
+
+    /**
+     * Finds the subscriptions matching the update of an entity.
+     *
+     * <p>The activity of the subscriptions is not checked.
+     *
+     * @param id    the packed ID of the updated entity
+     * @param state the new state of the entity
+     * @return the matching subscriptions
+     */
+    List<SubscriptionRecord> matching(Any id, Message state) {
+        final Collection<SubscriptionRecord> byIdMatches = byId.get(id);
+        if (byIdMatches.isEmpty() && byColumns.isEmpty()) {
+            return includeAll;
+        }
+        final List<SubscriptionRecord> result = newArrayList(includeAll);
+        final Map<StateFilter, Boolean> evaluated = newIdentityHashMap();
+        for (SubscriptionRecord record : byIdMatches) {
+            final StateFilter filter = stateFilters.get(record);
+            if (filter == null || evaluate(filter, state, evaluated)) {
+                result.add(record);
+            }
+        }
+        for (SubscriptionRecord record : byColumns) {
+            if (evaluate(stateFilters.get(record), state, evaluated)) {
+                result.add(record);
+            }
+        }
+        return result;
+    }
+
+    private static boolean evaluate(StateFilter filter,
+                                    Message state,
+                                    Map<StateFilter, Boolean> evaluated) {
+        final Boolean cached = evaluated.get(filter);
+        if (cached != null) {
+            return cached;
+        }
+        final boolean result = filter.apply(state);
+        evaluated.put(filter, result);
+        return result;
+    }
+
+    private static Message defaultState(TypeUrl type) {
+        final Class<? extends Message> stateClass = type.getJavaClass();
+        return Internal.getDefaultInstance(stateClass);
+    }
+}
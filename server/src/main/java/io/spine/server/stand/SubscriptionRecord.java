@@ -20,11 +20,11 @@
 package io.spine.server.stand;
 
 import com.google.common.base.Objects;
+import com.google.common.collect.ImmutableSet;
 import com.google.protobuf.Any;
-import io.spine.Identifier;
+import io.spine.client.CompositeColumnFilter;
 import io.spine.client.EntityFilters;
 import io.spine.client.EntityId;
-import io.spine.client.EntityIdFilter;
 import io.spine.client.Subscription;
 import io.spine.client.Target;
 import io.spine.client.Topic;
@@ -43,6 +43,8 @@ final class SubscriptionRecord {
     private final Subscription subscription;
     private final Target target;
     private final TypeUrl type;
+    private final ImmutableSet<Any> ids;
+    private final List<CompositeColumnFilter> columnFilters;
 
     /**
      * The {@code callback} is null after the creation and until the subscription is activated.
@@ -51,12 +53,15 @@ final class SubscriptionRecord {
      * @see SubscriptionRegistry#activate(Subscription, Stand.EntityUpdateCallback)
      */
     @Nullable
-    private Stand.EntityUpdateCallback callback = null;
+    private volatile Stand.EntityUpdateCallback callback = null;
 
     SubscriptionRecord(Subscription subscription, Target target, TypeUrl type) {
         this.subscription = subscription;
         this.target = target;
         this.type = type;
+        final EntityFilters filters = target.getFilters();
+        this.ids = idsOf(filters);
+        this.columnFilters = filters.getFilterList();
     }
 
     /**
@@ -77,47 +82,49 @@ final class SubscriptionRecord {
     }
 
     /**
-     * Checks whether this record matches the given parameters.
+     * Checks whether this record targets all the entities of its type.
+     */
+    boolean isIncludeAll() {
+        return target.getIncludeAll();
+    }
+
+    /**
+     * Checks whether this record targets the entities with certain IDs.
+     */
+    boolean hasIdFilter() {
+        return !ids.isEmpty();
+    }
+
+    /**
+     * Obtains the packed IDs of the entities targeted by this record.
      *
-     * @param type        the type to match
-     * @param id          the ID to match
-     * @param entityState the entity state to match
-     * @return {@code true} if this record matches all the given parameters,
-     * {@code false} otherwise.
+     * <p>If the record has no ID filter, the returned set is empty.
      */
-    boolean matches(TypeUrl type,
-                    Object id,
-                    // entityState will be later used for more advanced filtering
-                    @SuppressWarnings("UnusedParameters") Any entityState) {
-        final boolean result;
-
-        final boolean typeMatches = this.type.equals(type);
-        if (typeMatches) {
-            final boolean includeAll = target.getIncludeAll();
-            final EntityFilters filters = target.getFilters();
-            result = includeAll || matchByFilters(id, filters);
-        } else {
-            result = false;
-        }
-        return result;
+    ImmutableSet<Any> getIds() {
+        return ids;
     }
 
-    private static boolean matchByFilters(Object id, EntityFilters filters) {
-        final boolean result;
-        final EntityIdFilter givenIdFilter = filters.getIdFilter();
-        final boolean idFilterSet = !EntityIdFilter.getDefaultInstance()
-                                                   .equals(givenIdFilter);
-        if (idFilterSet) {
-            final Any idAsAny = Identifier.pack(id);
-            final EntityId givenEntityId = EntityId.newBuilder()
-                                                   .setId(idAsAny)
-                                                   .build();
-            final List<EntityId> idsList = givenIdFilter.getIdsList();
-            result = idsList.contains(givenEntityId);
-        } else {
-            result = false;
+    /**
+     * Checks whether this record filters the entities by the column values.
+     */
+    boolean hasColumnFilters() {
+        return !columnFilters.isEmpty();
+    }
+
+    /**
+     * Obtains the column filters of this record.
+     */
+    List<CompositeColumnFilter> getColumnFilters() {
+        return columnFilters;
+    }
+
+    private static ImmutableSet<Any> idsOf(EntityFilters filters) {
+        final ImmutableSet.Builder<Any> result = ImmutableSet.builder();
+        for (EntityId entityId : filters.getIdFilter()
+                                        .getIdsList()) {
+            result.add(entityId.getId());
         }
-        return result;
+        return result.build();
     }
 
     TypeUrl getType() {
@@ -81,6 +81,14 @@ interface SubscriptionRegistry {
      */
     Set<SubscriptionRecord> byType(TypeUrl type);
 
+    /**
+     * Obtains the index of the {@link SubscriptionRecord}s of the given type.
+     *
+     * @param type the type to obtain the index for
+     * @return the index of the records, or an empty index if there are no records of the type
+     */
+    SubscriptionIndex indexOf(TypeUrl type);
+
     /**
      * Checks whether the current registry has the records related to a given type.
      *
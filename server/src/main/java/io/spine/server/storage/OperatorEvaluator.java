@@ -129,11 +129,24 @@ public enum OperatorEvaluator {
      */
     public static <T> boolean eval(@Nullable T left, Operator operator, @Nullable T right)
             throws UnsupportedOperationException {
+        final OperatorEvaluator evaluator = of(operator);
+        final boolean result = evaluator.eval(left, right);
+        return result;
+    }
+
+    /**
+     * Obtains the evaluator of the given operator.
+     *
+     * <p>Allows to look up the evaluator once when the same operator is evaluated many times.
+     *
+     * @param operator the comparison operator
+     * @return the evaluator of the operator
+     */
+    public static OperatorEvaluator of(Operator operator) {
         checkNotNull(operator);
         final OperatorEvaluator evaluator = EVALUATORS.get(operator);
         checkArgument(evaluator != null, operator);
-        final boolean result = evaluator.eval(left, right);
-        return result;
+        return evaluator;
     }
 
     /**
@@ -143,5 +156,5 @@ public enum OperatorEvaluator {
      * description
      * @return {@code true} if the expression evaluates into {@code true}, {@code false} otherwise
      */
-    abstract boolean eval(@Nullable Object left, @Nullable Object right);
+    public abstract boolean eval(@Nullable Object left, @Nullable Object right);
 }
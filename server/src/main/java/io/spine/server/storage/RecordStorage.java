@@ -87,8 +87,9 @@ public abstract class RecordStorage<I>
     public Optional<EntityRecord> read(RecordReadRequest<I> request, FieldMask fieldMask) {
         final Optional<EntityRecord> rawResult = read(request);
 
-        if (!rawResult.isPresent()) {
-            return Optional.absent();
+        if (!rawResult.isPresent() || fieldMask.getPathsList()
+                                               .isEmpty()) {
+            return rawResult;
         }
 
         final EntityRecord.Builder builder = EntityRecord.newBuilder(rawResult.get());
@@ -241,6 +242,13 @@ public abstract class RecordStorage<I>
      * supports them, all the resulting records are active. Otherwise the records obey
      * the constraints provided by the query.
      *
+     * <p>If the query {@linkplain io.spine.server.entity.storage.QueryParameters#isOrdered()
+     * specifies the order}, the records are returned in this order, the records with no value
+     * of the column going last. If the query {@linkplain
+     * io.spine.server.entity.storage.QueryParameters#isPaged() specifies a page}, only
+     * the records of this page are returned. The order of the records must be the same across
+     * the calls with the same query, so that the consequent pages do not overlap.
+     *
      * @param  query     the query to execute
      * @param  fieldMask the fields to retrieve
      * @return the matching records mapped upon their IDs
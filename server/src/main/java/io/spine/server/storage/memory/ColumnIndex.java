@@ -0,0 +1,279 @@
+/*
+ * Copyright 2018, TeamDev Ltd. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package io.spine.server.storage.memory;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.primitives.Primitives;
+import com.google.protobuf.Any;
+import com.google.protobuf.Timestamp;
+import io.spine.client.ColumnFilter;
+import io.spine.client.ColumnFilter.Operator;
+import io.spine.server.entity.storage.EntityColumn;
+import io.spine.server.entity.storage.EntityRecordWithColumns;
+import io.spine.time.Timestamps2;
+
+import javax.annotation.Nullable;
+import java.io.Serializable;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+
+import static com.google.common.collect.Maps.newHashMap;
+import static com.google.common.collect.Maps.newTreeMap;
+import static com.google.common.collect.Sets.newConcurrentHashSet;
+import static io.spine.client.ColumnFilter.Operator.EQUAL;
+import static io.spine.protobuf.TypeConverter.toObject;
+
+/**
+ * An index of the records by the values of a single {@linkplain EntityColumn entity column}.
+ *
+ * <p>The index finds the IDs of the records, which have the value of the column equal to
+ * the given one. If the values of the column are {@linkplain Comparable comparable} or are
+ * {@linkplain Timestamp timestamps}, the index also finds the records by a range of the values.
+ *
+ * <p>The records with no value stored for the column are not indexed, as they never match
+ * a filter on the column.
+ *
+ * <p>The modifications of the index and the {@linkplain #match(ColumnFilter) lookups} in it are
+ * synchronized by {@link ColumnIndexes}. The sets of IDs are concurrent, so that
+ * the {@linkplain Match#ids() found IDs} are copied outside of the lock.
+ *
+ * @param <I> the type of the record IDs
+ * @author Dmytry Dyachenko
+ */
+final class ColumnIndex<I> {
+
+    private final EntityColumn column;
+    private final Map<Object, Set<I>> byValue = newHashMap();
+
+    /**
+     * The same sets of IDs as in {@link #byValue} ordered by the non-{@code null} values.
+     *
+     * <p>Is {@code null} if the values of the column cannot be ordered.
+     */
+    @Nullable
+    private final NavigableMap<Object, Set<I>> byOrderedValue;
+
+    ColumnIndex(EntityColumn column) {
+        this.column = column;
+        this.byOrderedValue = isOrderable(column)
+                              ? newTreeMap(ValueOrder.INSTANCE)
+                              : null;
+    }
+
+    private static boolean isOrderable(EntityColumn column) {
+        @SuppressWarnings("unchecked") // The column type is always a class of values.
+        final Class<?> type = Primitives.wrap(column.getType());
+        return type == Timestamp.class || Comparable.class.isAssignableFrom(type);
+    }
+
+    /**
+     * Adds the record with the given ID to the index.
+     */
+    void add(I id, EntityRecordWithColumns record) {
+        final String storedName = column.getStoredName();
+        if (!record.getColumnNames()
+                   .contains(storedName)) {
+            return;
+        }
+        final Serializable value = record.getColumnValue(storedName)
+                                         .getValue();
+        Set<I> ids = byValue.get(value);
+        if (ids == null) {
+            ids = newConcurrentHashSet();
+            byValue.put(value, ids);
+            if (byOrderedValue != null && value != null) {
+                byOrderedValue.put(value, ids);
+            }
+        }
+        ids.add(id);
+    }
+
+    /**
+     * Removes the record with the given ID from the index.
+     */
+    void remove(I id, EntityRecordWithColumns record) {
+        final String storedName = column.getStoredName();
+        if (!record.getColumnNames()
+                   .contains(storedName)) {
+            return;
+        }
+        final Serializable value = record.getColumnValue(storedName)
+                                         .getValue();
+        final Set<I> ids = byValue.get(value);
+        if (ids == null) {
+            return;
+        }
+        ids.remove(id);
+        if (ids.isEmpty()) {
+            byValue.remove(value);
+            if (byOrderedValue != null && value != null) {
+                byOrderedValue.remove(value);
+            }
+        }
+    }
+
+    /**
+     * Finds the IDs of the records, which may match the given filter.
+     *
+     * <p>The found records should still be checked against the filter, as the index does not
+     * distinguish the values, which are {@linkplain Comparable#compareTo(Object) equal by order},
+     * but not {@linkplain Object#equals(Object) equal}.
+     *
+     * @param filter the filter on the indexed column
+     * @return the IDs of the records or {@code null} if the filter cannot be answered by the index
+     */
+    @Nullable
+    Set<I> find(ColumnFilter filter) {
+        final Match<I> match = match(filter);
+        return match == null
+               ? null
+               : match.ids();
+    }
+
+    /**
+     * Looks up the sets of IDs of the records, which may match the given filter.
+     *
+     * <p>Unlike {@link #find(ColumnFilter)}, does not copy the IDs.
+     *
+     * @param filter the filter on the indexed column
+     * @return the match or {@code null} if the filter cannot be answered by the index
+     */
+    @Nullable
+    Match<I> match(ColumnFilter filter) {
+        final Operator operator = filter.getOperator();
+        if (operator != EQUAL && byOrderedValue == null) {
+            return null;
+        }
+        final Object value = filterValue(filter);
+        switch (operator) {
+            case EQUAL:
+                return matchEqual(value);
+            case GREATER_THAN:
+                return matchOrdered(value, false, true);
+            case GREATER_OR_EQUAL:
+                return matchOrdered(value, true, true);
+            case LESS_THAN:
+                return matchOrdered(value, false, false);
+            case LESS_OR_EQUAL:
+                return matchOrdered(value, true, false);
+            default:
+                return null;
+        }
+    }
+
+    private Match<I> matchEqual(Object value) {
+        final Set<I> ids = byValue.get(value);
+        final List<Set<I>> idSets = ids == null
+                                    ? ImmutableList.<Set<I>>of()
+                                    : ImmutableList.of(ids);
+        return new Match<>(idSets);
+    }
+
+    @Nullable
+    private Match<I> matchOrdered(Object value, boolean inclusive, boolean greater) {
+        if (byOrderedValue == null
+                || !Primitives.wrap(column.getType())
+                              .isInstance(value)) {
+            // The filter on the value of another type is left to the matcher to reject.
+            return null;
+        }
+        final Map<Object, Set<I>> range = greater
+                                          ? byOrderedValue.tailMap(value, inclusive)
+                                          : byOrderedValue.headMap(value, inclusive);
+        return new Match<>(ImmutableList.copyOf(range.values()));
+    }
+
+    private Object filterValue(ColumnFilter filter) {
+        final Any wrappedValue = filter.getValue();
+        final Class<?> sourceClass = column.getType();
+        if (sourceClass == Any.class) {
+            return wrappedValue;
+        }
+        return toObject(wrappedValue, sourceClass);
+    }
+
+    /**
+     * The sets of IDs found by the index.
+     *
+     * <p>The {@linkplain #size() size} of the match is taken upon the lookup, so that
+     * the matches of several indexes are compared without copying the IDs.
+     *
+     * @param <I> the type of the record IDs
+     */
+    static final class Match<I> {
+
+        private final List<Set<I>> idSets;
+        private final int size;
+
+        private Match(List<Set<I>> idSets) {
+            this.idSets = idSets;
+            int size = 0;
+            for (Set<I> ids : idSets) {
+                size += ids.size();
+            }
+            this.size = size;
+        }
+
+        /**
+         * Obtains the number of the IDs found upon the lookup.
+         */
+        int size() {
+            return size;
+        }
+
+        /**
+         * Copies the found IDs.
+         *
+         * <p>May be called without holding the lock of the index. In this case, the IDs of
+         * the records written after the lookup may be included or omitted.
+         */
+        Set<I> ids() {
+            final ImmutableSet.Builder<I> result = ImmutableSet.builder();
+            for (Set<I> ids : idSets) {
+                result.addAll(ids);
+            }
+            return result.build();
+        }
+    }
+
+    /**
+     * The order of the indexed column values.
+     *
+     * <p>The values of a single column are always of the same type.
+     */
+    private enum ValueOrder implements Comparator<Object> {
+        INSTANCE;
+
+        @SuppressWarnings({"unchecked", "rawtypes"}) // Checked by `isOrderable()`.
+        @Override
+        public int compare(Object first, Object second) {
+            if (first instanceof Timestamp) {
+                return Timestamps2.compare((Timestamp) first, (Timestamp) second);
+            }
+            return ((Comparable) first).compareTo(second);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2018, TeamDev Ltd. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package io.spine.server.storage.memory;
+
+import com.google.common.collect.Multimap;
+import io.spine.client.ColumnFilter;
+import io.spine.client.CompositeColumnFilter.CompositeOperator;
+import io.spine.server.entity.storage.CompositeQueryParameter;
+import io.spine.server.entity.storage.EntityColumn;
+import io.spine.server.entity.storage.EntityRecordWithColumns;
+import io.spine.server.entity.storage.QueryParameters;
+
+import javax.annotation.Nullable;
+import java.util.Map;
+import java.util.Set;
+
+import static com.google.common.collect.Maps.newHashMap;
+import static io.spine.client.CompositeColumnFilter.CompositeOperator.ALL;
+import static io.spine.server.storage.LifecycleFlagField.archived;
+import static io.spine.server.storage.LifecycleFlagField.deleted;
+
+/**
+ * The {@linkplain ColumnIndex indexes} of the records of a single tenant by the entity columns.
+ *
+ * <p>An index for a column is created on the first query filtering by the column. Since then,
+ * the index is updated on each write to the storage.
+ *
+ * <p>Among the indexes, which can answer a query, the most selective one is used, i.e. the one
+ * finding the fewest records. The indexes are compared by the sizes of the found sets of IDs,
+ * and only the IDs found by the chosen index are copied. The copying is done outside of
+ * the lock, so that it does not block the writes to the storage.
+ *
+ * <p>The {@linkplain io.spine.server.storage.LifecycleFlagField lifecycle columns} are not
+ * indexed. The lifecycle filters are added to most of the queries and usually match almost all
+ * the records, so such an index would be rarely chosen, yet kept up to date on each write.
+ *
+ * @param <I> the type of the record IDs
+ * @author Dmytry Dyachenko
+ */
+final class ColumnIndexes<I> {
+
+    private final Map<I, EntityRecordWithColumns> records;
+    private final Map<String, ColumnIndex<I>> indexes = newHashMap();
+
+    /**
+     * Creates the indexes of the given records.
+     *
+     * @param records the live view on the indexed records
+     */
+    ColumnIndexes(Map<I, EntityRecordWithColumns> records) {
+        this.records = records;
+    }
+
+    /**
+     * Updates the indexes upon the record change.
+     *
+     * @param id       the ID of the changed record
+     * @param previous the previous version of the record or {@code null} if the record is new
+     * @param current  the new version of the record or {@code null} if the record is deleted
+     */
+    synchronized void update(I id,
+                             @Nullable EntityRecordWithColumns previous,
+                             @Nullable EntityRecordWithColumns current) {
+        for (ColumnIndex<I> index : indexes.values()) {
+            if (previous != null) {
+                index.remove(id, previous);
+            }
+            if (current != null) {
+                index.add(id, current);
+            }
+        }
+    }
+
+    /**
+     * Finds the IDs of the records, which may match the given query parameters.
+     *
+     * <p>Only the filters, which must match for a record to match the parameters, are considered.
+     * Those are the filters of the {@linkplain CompositeOperator#ALL conjunctive} parameters and
+     * the single filters of the other parameters.
+     *
+     * @return the IDs found by the most selective index, or {@code null} if none of the filters
+     *         can be answered by an index
+     */
+    @Nullable
+    Set<I> find(QueryParameters parameters) {
+        final ColumnIndex.Match<I> match = mostSelectiveMatch(parameters);
+        return match == null
+               ? null
+               : match.ids();
+    }
+
+    @Nullable
+    private synchronized ColumnIndex.Match<I> mostSelectiveMatch(QueryParameters parameters) {
+        ColumnIndex.Match<I> result = null;
+        for (CompositeQueryParameter parameter : parameters) {
+            final Multimap<EntityColumn, ColumnFilter> filters = parameter.getFilters();
+            if (parameter.getOperator() != ALL && filters.size() != 1) {
+                continue;
+            }
+            for (Map.Entry<EntityColumn, ColumnFilter> filter : filters.entries()) {
+                final EntityColumn column = filter.getKey();
+                if (isLifecycleColumn(column)) {
+                    continue;
+                }
+                final ColumnIndex.Match<I> found = indexOf(column).match(filter.getValue());
+                if (found != null && (result == null || found.size() < result.size())) {
+                    result = found;
+                }
+            }
+        }
+        return result;
+    }
+
+    private static boolean isLifecycleColumn(EntityColumn column) {
+        final String name = column.getName();
+        return archived.name().equals(name) || deleted.name().equals(name);
+    }
+
+    private ColumnIndex<I> indexOf(EntityColumn column) {
+        final String storedName = column.getStoredName();
+        ColumnIndex<I> index = indexes.get(storedName);
+        if (index == null) {
+            index = new ColumnIndex<>(column);
+            for (Map.Entry<I, EntityRecordWithColumns> record : records.entrySet()) {
+                index.add(record.getKey(), record.getValue());
+            }
+            indexes.put(storedName, index);
+        }
+        return index;
+    }
+}
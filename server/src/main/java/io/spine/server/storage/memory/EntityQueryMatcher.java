@@ -20,9 +20,8 @@
 
 package io.spine.server.storage.memory;
 
-import com.google.common.base.Optional;
 import com.google.common.base.Predicate;
-import com.google.common.collect.Multimap;
+import com.google.common.collect.ImmutableList;
 import com.google.protobuf.Any;
 import io.spine.Identifier;
 import io.spine.client.ColumnFilter;
@@ -32,7 +31,7 @@ import io.spine.server.entity.storage.EntityColumn;
 import io.spine.server.entity.storage.EntityColumn.MemoizedValue;
 import io.spine.server.entity.storage.EntityQuery;
 import io.spine.server.entity.storage.EntityRecordWithColumns;
-import io.spine.server.entity.storage.QueryParameters;
+import io.spine.server.storage.OperatorEvaluator;
 
 import javax.annotation.Nullable;
 import java.util.Collection;
@@ -40,13 +39,15 @@ import java.util.Map;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static io.spine.protobuf.TypeConverter.toObject;
-import static io.spine.server.storage.OperatorEvaluator.eval;
 import static io.spine.util.Exceptions.newIllegalArgumentException;
 
 /**
  * A {@link Predicate} on the {@link EntityRecordWithColumns} matching it upon the given
  * {@link EntityQuery}.
  *
+ * <p>The query parameters are compiled once for all the matched records. In particular,
+ * the value of each filter is converted to the type of the column only once.
+ *
  * @param <I> the type of the IDs of the matched records
  * @author Dmytro Dashenkov
  * @see EntityQuery for the matching contract
@@ -54,12 +55,16 @@ import static io.spine.util.Exceptions.newIllegalArgumentException;
 final class EntityQueryMatcher<I> implements Predicate<EntityRecordWithColumns> {
 
     private final Collection<I> acceptedIds;
-    private final QueryParameters queryParams;
+    private final ImmutableList<CompiledParameter> parameters;
 
     EntityQueryMatcher(EntityQuery<I> query) {
         checkNotNull(query);
         this.acceptedIds = query.getIds();
-        this.queryParams = query.getParameters();
+        final ImmutableList.Builder<CompiledParameter> parameters = ImmutableList.builder();
+        for (CompositeQueryParameter parameter : query.getParameters()) {
+            parameters.add(new CompiledParameter(parameter));
+        }
+        this.parameters = parameters.build();
     }
 
     @Override
@@ -84,85 +89,98 @@ final class EntityQueryMatcher<I> implements Predicate<EntityRecordWithColumns>
         return true;
     }
 
-    @SuppressWarnings("EnumSwitchStatementWhichMissesCases") // Only valuable cases covered
     private boolean columnValuesMatch(EntityRecordWithColumns record) {
-        boolean match;
-        for (CompositeQueryParameter filter : queryParams) {
-            final CompositeOperator operator = filter.getOperator();
+        for (CompiledParameter parameter : parameters) {
+            if (!parameter.matches(record)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * A {@link CompositeQueryParameter} prepared for matching many records.
+     */
+    private static final class CompiledParameter {
+
+        private final CompositeOperator operator;
+        private final ImmutableList<CompiledFilter> filters;
+
+        private CompiledParameter(CompositeQueryParameter parameter) {
+            this.operator = parameter.getOperator();
+            final ImmutableList.Builder<CompiledFilter> filters = ImmutableList.builder();
+            for (Map.Entry<EntityColumn, ColumnFilter> filter : parameter.getFilters()
+                                                                         .entries()) {
+                filters.add(new CompiledFilter(filter.getKey(), filter.getValue()));
+            }
+            this.filters = filters.build();
+        }
+
+        @SuppressWarnings("EnumSwitchStatementWhichMissesCases") // Only valuable cases covered
+        private boolean matches(EntityRecordWithColumns record) {
             switch (operator) {
                 case ALL:
-                    match = checkAll(filter.getFilters(), record);
-                    break;
+                    return checkAll(record);
                 case EITHER:
-                    match = checkEither(filter.getFilters(), record);
-                    break;
+                    return checkEither(record);
                 default:
                     throw newIllegalArgumentException("Composite operator %s is invalid.",
                                                       operator);
             }
-            if (!match) {
-                return false;
-            }
         }
-        return true;
-    }
 
-    private static boolean checkAll(Multimap<EntityColumn, ColumnFilter> filters,
-                                    EntityRecordWithColumns record) {
-        for (Map.Entry<EntityColumn, ColumnFilter> filter : filters.entries()) {
-            final Optional<MemoizedValue> columnValue = getColumnValue(record, filter.getKey());
-            if (!columnValue.isPresent()) {
-                return false;
-            }
-            final boolean matches = checkSingleParameter(filter.getValue(), columnValue.get());
-            if (!matches) {
-                return false;
+        private boolean checkAll(EntityRecordWithColumns record) {
+            for (CompiledFilter filter : filters) {
+                if (!filter.matches(record)) {
+                    return false;
+                }
             }
+            return true;
         }
-        return true;
-    }
 
-    private static boolean checkEither(Multimap<EntityColumn, ColumnFilter> filters,
-                                       EntityRecordWithColumns record) {
-        for (Map.Entry<EntityColumn, ColumnFilter> filter : filters.entries()) {
-            final Optional<MemoizedValue> columnValue = getColumnValue(record, filter.getKey());
-            if (columnValue.isPresent()) {
-                final boolean matches = checkSingleParameter(filter.getValue(), columnValue.get());
-                if (matches) {
+        private boolean checkEither(EntityRecordWithColumns record) {
+            for (CompiledFilter filter : filters) {
+                if (filter.matches(record)) {
                     return true;
                 }
             }
+            return filters.isEmpty();
         }
-        return filters.isEmpty();
     }
 
-    private static boolean checkSingleParameter(ColumnFilter filter,
-                                                @Nullable MemoizedValue actualValue) {
-        if (actualValue == null) {
-            return false;
-        }
-        final Object value;
-        final Any wrappedValue = filter.getValue();
-        final Class<?> sourceClass = actualValue.getSourceColumn()
-                                                .getType();
-        if (sourceClass != Any.class) {
-            value = toObject(wrappedValue, sourceClass);
-        } else {
-            value = wrappedValue;
+    /**
+     * A {@link ColumnFilter} prepared for matching many records.
+     *
+     * <p>The filter value is converted to the type of the column once, upon the creation.
+     */
+    private static final class CompiledFilter {
+
+        private final String storedName;
+        private final OperatorEvaluator evaluator;
+        private final Object value;
+
+        private CompiledFilter(EntityColumn column, ColumnFilter filter) {
+            this.storedName = column.getStoredName();
+            this.evaluator = OperatorEvaluator.of(filter.getOperator());
+            this.value = valueOf(column, filter);
         }
-        final boolean result = eval(actualValue.getValue(), filter.getOperator(), value);
-        return result;
-    }
 
-    private static Optional<MemoizedValue> getColumnValue(EntityRecordWithColumns record,
-                                                          EntityColumn column) {
-        final String storedName = column.getStoredName();
-        if (!record.getColumnNames()
-                   .contains(storedName)) {
-            return Optional.absent();
+        private static Object valueOf(EntityColumn column, ColumnFilter filter) {
+            final Any wrappedValue = filter.getValue();
+            final Class<?> sourceClass = column.getType();
+            if (sourceClass == Any.class) {
+                return wrappedValue;
+            }
+            return toObject(wrappedValue, sourceClass);
         }
 
-        final MemoizedValue value = record.getColumnValue(storedName);
-        return Optional.of(value);
+        private boolean matches(EntityRecordWithColumns record) {
+            final MemoizedValue actualValue = record.findColumnValue(storedName);
+            if (actualValue == null) {
+                return false;
+            }
+            final boolean result = evaluator.eval(actualValue.getValue(), value);
+            return result;
+        }
     }
 }
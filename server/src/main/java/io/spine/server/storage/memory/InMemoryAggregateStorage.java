@@ -28,8 +28,10 @@ import io.spine.server.entity.LifecycleFlags;
 
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.Maps.newLinkedHashMap;
 
 /**
  * In-memory storage for aggregate events and snapshots.
@@ -104,4 +106,22 @@ class InMemoryAggregateStorage<I> extends AggregateStorage<I> {
         final List<AggregateEventRecord> records = getStorage().getHistoryBackward(request);
         return records.iterator();
     }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Obtains the records of the current tenant once for all the requests.
+     */
+    @Override
+    protected Map<I, Iterator<AggregateEventRecord>> historiesBackward(
+            Iterable<AggregateReadRequest<I>> requests) {
+        checkNotNull(requests);
+        final TenantAggregateRecords<I> storage = getStorage();
+        final Map<I, Iterator<AggregateEventRecord>> result = newLinkedHashMap();
+        for (AggregateReadRequest<I> request : requests) {
+            final List<AggregateEventRecord> records = storage.getHistoryBackward(request);
+            result.put(request.getRecordId(), records.iterator());
+        }
+        return result;
+    }
 }
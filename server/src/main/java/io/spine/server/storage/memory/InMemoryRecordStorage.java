@@ -75,6 +75,12 @@ public class InMemoryRecordStorage<I> extends RecordStorage<I> {
         return getStorage().delete(id);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Each record is looked up by its ID. The resulting iterator contains {@code null}
+     * for each ID, which has no visible record.
+     */
     @Override
     protected Iterator<EntityRecord> readMultipleRecords(final Iterable<I> givenIds,
                                                          FieldMask fieldMask) {
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2018, TeamDev Ltd. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.storage.memory;
+
+import com.google.protobuf.Timestamp;
+import io.spine.Identifier;
+import io.spine.client.OrderBy.Direction;
+import io.spine.core.Version;
+import io.spine.server.entity.storage.EntityColumn;
+import io.spine.server.entity.storage.EntityRecordWithColumns;
+import io.spine.server.entity.storage.QueryParameters;
+import io.spine.time.Timestamps2;
+
+import javax.annotation.Nullable;
+import java.io.Serializable;
+import java.util.Comparator;
+import java.util.Map;
+
+import static io.spine.client.OrderBy.Direction.DESCENDING;
+import static io.spine.util.Exceptions.newIllegalArgumentException;
+
+/**
+ * The order of the {@link EntityRecordWithColumns} entries requested by
+ * the {@link QueryParameters}.
+ *
+ * <p>The records are ordered by the value of the requested {@linkplain EntityColumn column}.
+ * The records with no value of the column go last regardless the direction. The records with
+ * equal values, as well as all the records if no column is requested, are ordered by
+ * the string form of their IDs, so that the order is stable across the queries.
+ *
+ * @param <I> the type of the record IDs
+ * @author Dmytry Dyachenko
+ */
+final class RecordOrdering<I> implements Comparator<Map.Entry<I, EntityRecordWithColumns>> {
+
+    @Nullable
+    private final EntityColumn column;
+    private final boolean descending;
+
+    private RecordOrdering(@Nullable EntityColumn column, Direction direction) {
+        this.column = column;
+        this.descending = direction == DESCENDING;
+    }
+
+    static <I> RecordOrdering<I> of(QueryParameters parameters) {
+        return new RecordOrdering<>(parameters.getOrderColumn(),
+                                    parameters.getOrderDirection());
+    }
+
+    @Override
+    public int compare(Map.Entry<I, EntityRecordWithColumns> first,
+                       Map.Entry<I, EntityRecordWithColumns> second) {
+        if (column != null) {
+            final int result = compareColumns(valueOf(first.getValue()),
+                                              valueOf(second.getValue()));
+            if (result != 0) {
+                return result;
+            }
+        }
+        final String firstId = Identifier.toString(first.getKey());
+        final String secondId = Identifier.toString(second.getKey());
+        return firstId.compareTo(secondId);
+    }
+
+    private int compareColumns(@Nullable Serializable first, @Nullable Serializable second) {
+        if (first == null || second == null) {
+            // The records with no value go last in any direction.
+            return first == null
+                   ? (second == null ? 0 : 1)
+                   : -1;
+        }
+        final int result = compareValues(first, second);
+        return descending ? -result : result;
+    }
+
+    @Nullable
+    private Serializable valueOf(EntityRecordWithColumns record) {
+        @SuppressWarnings("ConstantConditions") // Checked by the caller.
+        final String storedName = column.getStoredName();
+        if (!record.getColumnNames()
+                   .contains(storedName)) {
+            return null;
+        }
+        return record.getColumnValue(storedName)
+                     .getValue();
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"}) // The types are checked at runtime.
+    private int compareValues(Serializable first, Serializable second) {
+        if (first instanceof Timestamp && second instanceof Timestamp) {
+            return Timestamps2.compare((Timestamp) first, (Timestamp) second);
+        }
+        if (first instanceof Version && second instanceof Version) {
+            return Integer.compare(((Version) first).getNumber(),
+                                   ((Version) second).getNumber());
+        }
+        if (first instanceof Comparable && first.getClass() == second.getClass()) {
+            return ((Comparable) first).compareTo(second);
+        }
+        throw newIllegalArgumentException("Cannot order by the column %s of type %s.",
+                                          column, first.getClass()
+                                                       .getName());
+    }
+}
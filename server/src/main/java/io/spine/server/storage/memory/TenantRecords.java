@@ -22,22 +22,30 @@ package io.spine.server.storage.memory;
 
 import com.google.common.base.Function;
 import com.google.common.base.Optional;
+import com.google.common.base.Predicate;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Ordering;
 import com.google.protobuf.Any;
 import com.google.protobuf.FieldMask;
 import com.google.protobuf.Message;
 import io.spine.server.entity.EntityRecord;
 import io.spine.server.entity.storage.EntityQuery;
 import io.spine.server.entity.storage.EntityRecordWithColumns;
+import io.spine.server.entity.storage.QueryParameters;
 import io.spine.type.TypeUrl;
 
 import javax.annotation.Nullable;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.Lists.newArrayList;
 import static com.google.common.collect.Maps.filterValues;
 import static com.google.common.collect.Maps.newConcurrentMap;
+import static com.google.common.collect.Maps.newLinkedHashMap;
 import static com.google.common.collect.Maps.transformValues;
 import static io.spine.protobuf.AnyPacker.pack;
 import static io.spine.protobuf.AnyPacker.unpack;
@@ -53,9 +61,10 @@ import static io.spine.server.entity.FieldMasks.applyMask;
  */
 class TenantRecords<I> implements TenantStorage<I, EntityRecordWithColumns> {
 
+    private final Predicate<EntityRecordWithColumns> visibility = isRecordWithColumnsVisible();
     private final Map<I, EntityRecordWithColumns> records = newConcurrentMap();
-    private final Map<I, EntityRecordWithColumns> filtered =
-            filterValues(records, isRecordWithColumnsVisible());
+    private final Map<I, EntityRecordWithColumns> filtered = filterValues(records, visibility);
+    private final ColumnIndexes<I> indexes = new ColumnIndexes<>(records);
 
     @Override
     public Iterator<I> index() {
@@ -66,7 +75,8 @@ class TenantRecords<I> implements TenantStorage<I, EntityRecordWithColumns> {
 
     @Override
     public void put(I id, EntityRecordWithColumns record) {
-        records.put(id, record);
+        final EntityRecordWithColumns previous = records.put(id, record);
+        indexes.update(id, previous, record);
     }
 
     @Override
@@ -76,7 +86,12 @@ class TenantRecords<I> implements TenantStorage<I, EntityRecordWithColumns> {
     }
 
     boolean delete(I id) {
-        return records.remove(id) != null;
+        final EntityRecordWithColumns previous = records.remove(id);
+        if (previous == null) {
+            return false;
+        }
+        indexes.update(id, previous, null);
+        return true;
     }
 
     private Map<I, EntityRecordWithColumns> filtered() {
@@ -92,8 +107,11 @@ class TenantRecords<I> implements TenantStorage<I, EntityRecordWithColumns> {
     }
 
     Map<I, EntityRecord> readAllRecords(EntityQuery<I> query, FieldMask fieldMask) {
-        final Map<I, EntityRecordWithColumns> filtered =
-                filterValues(records, new EntityQueryMatcher<>(query));
+        final Map<I, EntityRecordWithColumns> candidates = candidatesFor(query);
+        final Map<I, EntityRecordWithColumns> matching =
+                filterValues(candidates, new EntityQueryMatcher<>(query));
+        final Map<I, EntityRecordWithColumns> filtered = orderAndPage(matching,
+                                                                      query.getParameters());
         final Map<I, EntityRecord> records = transformValues(filtered,
                                                              EntityRecordUnpacker.INSTANCE);
         final Function<EntityRecord, EntityRecord> fieldMaskApplier =
@@ -103,28 +121,96 @@ class TenantRecords<I> implements TenantStorage<I, EntityRecordWithColumns> {
         return result;
     }
 
-    EntityRecord findAndApplyFieldMask(I givenId, FieldMask fieldMask) {
-        EntityRecord matchingResult = null;
-        for (I recordId : filtered.keySet()) {
-            if (recordId.equals(givenId)) {
-                final Optional<EntityRecordWithColumns> record = get(recordId);
-                if (!record.isPresent()) {
-                    continue;
-                }
-                EntityRecord.Builder matchingRecord = record.get()
-                                                            .getRecord()
-                                                            .toBuilder();
-                final Any state = matchingRecord.getState();
-                final TypeUrl typeUrl = TypeUrl.parse(state.getTypeUrl());
-                final Message wholeState = unpack(state);
-                final Message maskedState = applyMask(fieldMask, wholeState, typeUrl);
-                final Any processed = pack(maskedState);
-
-                matchingRecord.setState(processed);
-                matchingResult = matchingRecord.build();
+    /**
+     * Selects the records, which may match the given query.
+     *
+     * <p>The records are looked up by the {@linkplain EntityQuery#getIds() IDs} of the query or
+     * by the {@linkplain ColumnIndexes column indexes}, whichever finds fewer records. If neither
+     * applies, all the records are returned.
+     *
+     * <p>The returned records should still be matched against the query.
+     */
+    private Map<I, EntityRecordWithColumns> candidatesFor(EntityQuery<I> query) {
+        Set<I> ids = indexes.find(query.getParameters());
+        final Set<I> queriedIds = query.getIds();
+        if (!queriedIds.isEmpty() && (ids == null || queriedIds.size() < ids.size())) {
+            ids = queriedIds;
+        }
+        if (ids == null) {
+            return records;
+        }
+        final Map<I, EntityRecordWithColumns> result = newLinkedHashMap();
+        for (I id : ids) {
+            final EntityRecordWithColumns record = records.get(id);
+            if (record != null) {
+                result.put(id, record);
             }
         }
-        return matchingResult;
+        return result;
+    }
+
+    /**
+     * Orders the given records and selects the page of them requested by the parameters.
+     *
+     * <p>If the parameters request neither the order, nor a page, the records are
+     * returned as is.
+     *
+     * <p>If the page is limited, only the records up to the end of the page are kept while
+     * the matching records are read.
+     */
+    private Map<I, EntityRecordWithColumns> orderAndPage(
+            Map<I, EntityRecordWithColumns> matching,
+            QueryParameters parameters) {
+        if (!parameters.isOrdered() && !parameters.isPaged()) {
+            return matching;
+        }
+        final Ordering<Map.Entry<I, EntityRecordWithColumns>> ordering =
+                Ordering.from(RecordOrdering.<I>of(parameters));
+        final Iterator<Map.Entry<I, EntityRecordWithColumns>> entries = matching.entrySet()
+                                                                                .iterator();
+        final int offset = parameters.getOffset();
+        final int limit = parameters.getLimit();
+        final long pageEnd = (long) offset + limit;
+        final List<Map.Entry<I, EntityRecordWithColumns>> ordered;
+        if (limit > 0 && pageEnd <= Integer.MAX_VALUE) {
+            ordered = ordering.leastOf(entries, (int) pageEnd);
+        } else {
+            ordered = newArrayList(entries);
+            Collections.sort(ordered, ordering);
+        }
+
+        final int from = Math.min(offset, ordered.size());
+        final ImmutableMap.Builder<I, EntityRecordWithColumns> result = ImmutableMap.builder();
+        for (Map.Entry<I, EntityRecordWithColumns> entry : ordered.subList(from,
+                                                                           ordered.size())) {
+            result.put(entry);
+        }
+        return result.build();
+    }
+
+    /**
+     * Finds a visible record by its ID and applies the given {@link FieldMask} to its state.
+     *
+     * <p>The record is looked up directly by the ID. The visibility is checked and the mask is
+     * applied only to the found record.
+     *
+     * @param givenId   the ID of the record to find
+     * @param fieldMask the mask to apply; if empty, the state is returned as is
+     * @return the found record or {@code null} if there is no visible record with the ID
+     */
+    @Nullable
+    EntityRecord findAndApplyFieldMask(I givenId, FieldMask fieldMask) {
+        final EntityRecordWithColumns found = records.get(givenId);
+        if (found == null || !visibility.apply(found)) {
+            return null;
+        }
+        final EntityRecord record = found.getRecord();
+        if (fieldMask.getPathsList()
+                     .isEmpty()) {
+            return record;
+        }
+        final EntityRecord result = new FieldMaskApplier(fieldMask).apply(record);
+        return result;
     }
 
     Map<I, EntityRecord> readAllRecords(FieldMask fieldMask) {
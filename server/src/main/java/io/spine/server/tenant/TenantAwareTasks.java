@@ -0,0 +1,178 @@
+/*
+ * Copyright 2018, TeamDev Ltd. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.tenant;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListenableFutureTask;
+import io.spine.annotation.Internal;
+import io.spine.core.TenantId;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Throwables.throwIfUnchecked;
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
+import static io.spine.util.Exceptions.illegalStateWithCauseOf;
+
+/**
+ * A utility for running the tasks by an {@link Executor} in a tenant context.
+ *
+ * <p>A task submitted by another running task is executed directly in the thread of
+ * the submitting task. Thus, a task never waits for a nested task to be picked up by
+ * the executor. Otherwise, the tasks waiting for the nested ones could occupy all the threads
+ * of a bounded executor, and the nested tasks would never run.
+ *
+ * @author Dmytry Dyachenko
+ */
+@Internal
+public final class TenantAwareTasks {
+
+    /** Tells if the current thread executes a submitted task. */
+    private static final ThreadLocal<Boolean> runningTask = new ThreadLocal<>();
+
+    /** Prevents instantiation of this utility class. */
+    private TenantAwareTasks() {}
+
+    /**
+     * Submits the task to the executor.
+     *
+     * <p>If the current thread works in a tenant context, the task is executed in the context
+     * of the same tenant.
+     *
+     * @param executor the executor to run the task
+     * @param task     the task to run
+     * @return the future result of the task
+     */
+    public static <T> ListenableFuture<T> submit(Executor executor, Callable<T> task) {
+        checkNotNull(executor);
+        checkNotNull(task);
+        final Callable<T> command = TenantAware.isTenantSet()
+                                    ? inTenant(CurrentTenant.ensure(), task)
+                                    : task;
+        return execute(executor, command);
+    }
+
+    /**
+     * Submits the task to be executed in the context of the given tenant.
+     *
+     * @param executor the executor to run the task
+     * @param tenantId the ID of the tenant or the default value in a single-tenant context
+     * @param task     the task to run
+     * @return the future result of the task
+     */
+    public static <T> ListenableFuture<T> submit(Executor executor,
+                                                 TenantId tenantId,
+                                                 Callable<T> task) {
+        checkNotNull(executor);
+        checkNotNull(tenantId);
+        checkNotNull(task);
+        return execute(executor, inTenant(tenantId, task));
+    }
+
+    /**
+     * Waits for the result of a submitted task.
+     *
+     * <p>If the task fails with an unchecked exception, the exception is rethrown. Other
+     * failures, as well as the interruption of the waiting, are rethrown as
+     * {@link IllegalStateException}.
+     *
+     * @param result the future result of the task
+     * @return the result of the task
+     */
+    public static <T> T await(Future<T> result) {
+        checkNotNull(result);
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+            throw illegalStateWithCauseOf(e);
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            throwIfUnchecked(cause);
+            throw illegalStateWithCauseOf(cause);
+        }
+    }
+
+    /**
+     * Tells if the current thread executes a task submitted through this utility.
+     */
+    static boolean isRunningTask() {
+        return runningTask.get() != null;
+    }
+
+    private static <T> ListenableFuture<T> execute(Executor executor, Callable<T> task) {
+        final ListenableFutureTask<T> result = ListenableFutureTask.create(marked(task));
+        final Executor target = isRunningTask()
+                                ? directExecutor()
+                                : executor;
+        target.execute(result);
+        return result;
+    }
+
+    /**
+     * Creates a task, which marks the executing thread as {@linkplain #isRunningTask() running}
+     * the given task.
+     */
+    private static <T> Callable<T> marked(final Callable<T> task) {
+        return new Callable<T>() {
+            @Override
+            public T call() throws Exception {
+                final boolean nested = isRunningTask();
+                runningTask.set(Boolean.TRUE);
+                try {
+                    return task.call();
+                } finally {
+                    if (!nested) {
+                        runningTask.remove();
+                    }
+                }
+            }
+        };
+    }
+
+    private static <T> Callable<T> inTenant(TenantId tenantId, final Callable<T> task) {
+        final TenantAwareFunction0<T> operation = new TenantAwareFunction0<T>(tenantId) {
+            @Override
+            public T apply() {
+                return call(task);
+            }
+        };
+        return new Callable<T>() {
+            @Override
+            public T call() {
+                return operation.execute();
+            }
+        };
+    }
+
+    private static <T> T call(Callable<T> task) {
+        try {
+            return task.call();
+        } catch (Exception e) {
+            throwIfUnchecked(e);
+            throw illegalStateWithCauseOf(e);
+        }
+    }
+}
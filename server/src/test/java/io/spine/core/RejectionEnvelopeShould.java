@@ -0,0 +1,57 @@
+/*
+ * Copyright 2018, TeamDev Ltd. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.core;
+
+import com.google.protobuf.Message;
+import org.junit.Test;
+
+import static io.spine.server.rejection.given.Given.invalidProjectNameRejection;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Tests for {@link RejectionEnvelope}.
+ *
+ * <p>The test suite is located under the "server" module since actor request generation
+ * is required.
+ *
+ * @author Dmytry Dyachenko
+ */
+public class RejectionEnvelopeShould {
+
+    @Test
+    public void obtain_command_message() {
+        final Rejection rejection = invalidProjectNameRejection();
+        final RejectionEnvelope envelope = RejectionEnvelope.of(rejection);
+
+        final Message expected = Commands.getMessage(rejection.getContext()
+                                                              .getCommand());
+        assertEquals(expected, envelope.getCommandMessage());
+    }
+
+    @Test
+    public void unpack_command_message_once() {
+        final RejectionEnvelope envelope = RejectionEnvelope.of(invalidProjectNameRejection());
+
+        final Message commandMessage = envelope.getCommandMessage();
+        assertSame(commandMessage, envelope.getCommandMessage());
+    }
+}
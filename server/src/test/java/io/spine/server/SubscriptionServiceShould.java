@@ -42,6 +42,7 @@ import java.util.List;
 import static io.spine.core.Versions.newVersion;
 import static io.spine.test.Verify.assertInstanceOf;
 import static io.spine.test.Verify.assertSize;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
@@ -140,6 +141,14 @@ public class SubscriptionServiceShould {
                            .build();
     }
 
+    @Test(expected = IllegalStateException.class)
+    public void require_update_scheduler_along_with_update_window() {
+        SubscriptionService.newBuilder()
+                           .add(setupBoundedContextWithProjectAggregateRepo())
+                           .setUpdateWindow(100, MILLISECONDS)
+                           .build();
+    }
+
     /*
     * Subscription tests
     * ------------------
@@ -21,25 +21,46 @@
 package io.spine.server.aggregate;
 
 import com.google.common.base.Optional;
+import com.google.common.collect.ImmutableList;
+import com.google.protobuf.Message;
 import io.spine.Identifier;
+import io.spine.core.Ack;
 import io.spine.core.Command;
 import io.spine.core.CommandEnvelope;
+import io.spine.core.CommandId;
 import io.spine.core.Subscribe;
+import io.spine.core.given.GivenUserId;
+import io.spine.grpc.MemoizingObserver;
 import io.spine.server.BoundedContext;
+import io.spine.server.aggregate.given.Given;
+import io.spine.server.aggregate.given.AggregateCommandEndpointTestEnv.PauseProjectHandler;
 import io.spine.server.aggregate.given.AggregateCommandEndpointTestEnv.ProjectAggregate;
 import io.spine.server.aggregate.given.AggregateCommandEndpointTestEnv.ProjectAggregateRepository;
 import io.spine.server.event.EventSubscriber;
 import io.spine.server.model.ModelTests;
+import io.spine.server.rejection.RejectionSubscriber;
 import io.spine.test.aggregate.ProjectId;
 import io.spine.test.aggregate.command.AggCreateProject;
+import io.spine.test.aggregate.command.AggStartProject;
 import io.spine.test.aggregate.event.AggProjectCreated;
+import io.spine.test.aggregate.event.AggProjectPaused;
+import io.spine.test.aggregate.rejection.Rejections.AggCannotStartArchivedProject;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.List;
+import java.util.Map;
+
+import static io.spine.core.Status.StatusCase.OK;
+import static io.spine.grpc.StreamObservers.memoizingObserver;
+import static io.spine.protobuf.AnyPacker.unpack;
 import static io.spine.server.aggregate.given.Given.ACommand.addTask;
 import static io.spine.server.aggregate.given.Given.ACommand.createProject;
 import static io.spine.server.aggregate.given.Given.ACommand.startProject;
+import static io.spine.server.aggregate.given.Given.CommandMessage.cancelProject;
+import static io.spine.server.aggregate.given.Given.CommandMessage.pauseProject;
+import static io.spine.time.Time.getCurrentTime;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
@@ -115,10 +136,133 @@ public class AggregateCommandEndpointShould {
         assertDispatches(startProject(projectId));
     }
 
+    @Test
+    public void dispatch_batch_of_commands_to_one_aggregate() {
+        final Command create = createProject(projectId);
+        final Command addTask = addTask(projectId);
+        final Command start = startProject(projectId);
+        final List<CommandEnvelope> batch = ImmutableList.of(CommandEnvelope.of(create),
+                                                             CommandEnvelope.of(addTask),
+                                                             CommandEnvelope.of(start));
+
+        final Map<CommandId, RuntimeException> errors = repository.dispatchAll(batch);
+
+        assertTrue(errors.isEmpty());
+        ProjectAggregate.assertHandled(create);
+        ProjectAggregate.assertHandled(addTask);
+        ProjectAggregate.assertHandled(start);
+
+        final ProjectAggregate aggregate = repository.find(projectId)
+                                                     .get();
+        assertEquals(batch.size(), aggregate.getVersion()
+                                            .getNumber());
+        assertEquals(projectId, subscriber.remembered.getProjectId());
+    }
+
+    @Test
+    public void discard_events_of_failed_command_in_batch() {
+        final Command create = createProject(projectId);
+        final AggCreateProject invalidMessage =
+                AggCreateProject.newBuilder()
+                                .setProjectId(projectId)
+                                .setName(ProjectAggregate.INVALID_NAME)
+                                .build();
+        final Command invalidRename = command(invalidMessage);
+        final Command addTask = addTask(projectId);
+        final List<CommandEnvelope> batch = ImmutableList.of(CommandEnvelope.of(create),
+                                                             CommandEnvelope.of(invalidRename),
+                                                             CommandEnvelope.of(addTask));
+
+        final Map<CommandId, RuntimeException> errors = repository.dispatchAll(batch);
+
+        assertEquals(1, errors.size());
+        assertTrue(errors.containsKey(invalidRename.getId()));
+        ProjectAggregate.assertHandled(create);
+        ProjectAggregate.assertHandled(addTask);
+
+        final ProjectAggregate aggregate = repository.find(projectId)
+                                                     .get();
+        assertEquals(2, aggregate.getVersion()
+                                 .getNumber());
+        final String validName = ((AggCreateProject) CommandEnvelope.of(create)
+                                                                   .getMessage()).getName();
+        assertEquals(validName, aggregate.getState()
+                                         .getName());
+        assertEquals(validName, subscriber.remembered.getName());
+    }
+
+    @Test
+    public void post_rejections_of_batched_commands_once() {
+        final RejectionCounter rejections = new RejectionCounter();
+        boundedContext.getRejectionBus()
+                      .register(rejections);
+        final Command create = createProject(projectId);
+        final Command cancel = command(cancelProject(projectId));
+        final Command start = startProject(projectId);
+        final List<Command> batch = ImmutableList.of(create, cancel, start);
+        final MemoizingObserver<Ack> observer = memoizingObserver();
+
+        boundedContext.getCommandBus()
+                      .post(batch, observer);
+
+        assertEquals(1, rejections.count);
+        final ProjectAggregate aggregate = repository.find(projectId)
+                                                     .get();
+        assertEquals(2, aggregate.getVersion()
+                                 .getNumber());
+    }
+
+    @Test
+    public void acknowledge_interleaved_commands_in_posting_order() {
+        final PauseProjectHandler handler =
+                new PauseProjectHandler(boundedContext.getEventBus());
+        boundedContext.getCommandBus()
+                      .register(handler);
+        final PausedSubscriber paused = new PausedSubscriber();
+        boundedContext.getEventBus()
+                      .register(paused);
+        final ProjectId anotherProject = ProjectId.newBuilder()
+                                                  .setId(Identifier.newUuid())
+                                                  .build();
+        final List<Command> commands = ImmutableList.of(createProject(projectId),
+                                                        command(pauseProject(projectId)),
+                                                        createProject(anotherProject),
+                                                        addTask(projectId),
+                                                        command(pauseProject(anotherProject)),
+                                                        addTask(anotherProject));
+        final MemoizingObserver<Ack> observer = memoizingObserver();
+
+        boundedContext.getCommandBus()
+                      .post(commands, observer);
+
+        final List<Ack> acks = observer.responses();
+        assertEquals(commands.size(), acks.size());
+        for (int i = 0; i < commands.size(); i++) {
+            final Ack ack = acks.get(i);
+            assertEquals(commands.get(i)
+                                 .getId(), unpack(ack.getMessageId()));
+            assertEquals(OK, ack.getStatus()
+                                .getStatusCase());
+        }
+        assertEquals(2, paused.count);
+        assertEquals(2, repository.find(projectId)
+                                  .get()
+                                  .getVersion()
+                                  .getNumber());
+        assertEquals(2, repository.find(anotherProject)
+                                  .get()
+                                  .getVersion()
+                                  .getNumber());
+    }
+
     /*
      * Utility methods.
      ****************************/
 
+    private static Command command(Message commandMessage) {
+        return Given.ACommand.create(commandMessage, GivenUserId.newUuid(), getCurrentTime());
+    }
+
     private void assertDispatches(Command cmd) {
         final CommandEnvelope envelope = CommandEnvelope.of(cmd);
         repository.dispatch(envelope);
@@ -134,4 +278,24 @@ public class AggregateCommandEndpointShould {
             remembered = msg;
         }
     }
+
+    private static class PausedSubscriber extends EventSubscriber {
+
+        private int count;
+
+        @Subscribe
+        void on(AggProjectPaused msg) {
+            count++;
+        }
+    }
+
+    private static class RejectionCounter extends RejectionSubscriber {
+
+        private int count;
+
+        @Subscribe
+        void on(AggCannotStartArchivedProject rejection, AggStartProject command) {
+            count++;
+        }
+    }
 }
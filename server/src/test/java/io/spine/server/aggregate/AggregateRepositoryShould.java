@@ -22,6 +22,7 @@ package io.spine.server.aggregate;
 
 import com.google.common.base.Optional;
 import com.google.common.base.Predicates;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
 import com.google.protobuf.FloatValue;
@@ -42,6 +43,8 @@ import io.spine.server.BoundedContext;
 import io.spine.server.aggregate.given.AggregateRepositoryTestEnv.AnemicAggregateRepository;
 import io.spine.server.aggregate.given.AggregateRepositoryTestEnv.FailingAggregateRepository;
 import io.spine.server.aggregate.given.AggregateRepositoryTestEnv.GivenAggregate;
+import io.spine.server.aggregate.given.AggregateRepositoryTestEnv.ParallelFailingAggregateRepository;
+import io.spine.server.aggregate.given.AggregateRepositoryTestEnv.ParallelProjectAggregateRepository;
 import io.spine.server.aggregate.given.AggregateRepositoryTestEnv.ProjectAggregate;
 import io.spine.server.aggregate.given.AggregateRepositoryTestEnv.ProjectAggregateRepository;
 import io.spine.server.aggregate.given.AggregateRepositoryTestEnv.ReactingAggregate;
@@ -67,6 +70,7 @@ import org.junit.Test;
 import org.mockito.ArgumentCaptor;
 
 import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
 
 import static io.spine.core.given.GivenTenantId.newUuid;
@@ -75,6 +79,7 @@ import static io.spine.validate.Validate.isNotDefault;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.spy;
@@ -127,6 +132,40 @@ public class AggregateRepositoryShould {
         assertEquals(expected.getState(), actual.getState());
     }
 
+    @Test
+    public void load_stored_aggregates_in_bulk() {
+        final ProjectAggregate first = givenStoredAggregate();
+        final ProjectAggregate second = givenStoredAggregate();
+        final ProjectId missingId = Sample.messageOfType(ProjectId.class);
+
+        final Iterator<ProjectAggregate> loaded =
+                repository.loadAll(ImmutableList.of(second.getId(), missingId, first.getId()));
+
+        final ProjectAggregate loadedSecond = loaded.next();
+        final ProjectAggregate loadedFirst = loaded.next();
+        assertFalse(loaded.hasNext());
+        assertEquals(second.getId(), loadedSecond.getId());
+        assertEquals(second.getState(), loadedSecond.getState());
+        assertEquals(first.getId(), loadedFirst.getId());
+        assertEquals(first.getState(), loadedFirst.getState());
+    }
+
+    @Test
+    public void fetch_history_of_each_aggregate_loaded_in_bulk() {
+        final ProjectAggregate stored = givenStoredAggregate();
+        final ProjectId missingId = Sample.messageOfType(ProjectId.class);
+        final AggregateRepository<ProjectId, ProjectAggregate> repositorySpy = spy(repository);
+
+        final Iterator<ProjectAggregate> loaded =
+                repositorySpy.loadAll(ImmutableList.of(stored.getId(), missingId));
+
+        assertEquals(stored.getId(), loaded.next()
+                                           .getId());
+        assertFalse(loaded.hasNext());
+        verify(repositorySpy).fetchHistory(stored.getId());
+        verify(repositorySpy).fetchHistory(missingId);
+    }
+
     @Test
     public void restore_aggregate_using_snapshot() {
         final ProjectId id = Sample.messageOfType(ProjectId.class);
@@ -299,6 +338,89 @@ public class AggregateRepositoryShould {
         assertTrue(eventClasses.contains(EventClass.of(AggProjectDeleted.class)));
     }
 
+    @Test
+    public void route_events_to_aggregates_in_parallel() throws Exception {
+        tearDown();
+        boundedContext = BoundedContext.newBuilder()
+                                       .build();
+        repository = new ParallelProjectAggregateRepository();
+        boundedContext.register(repository);
+        final ProjectAggregate parent = givenStoredAggregate();
+        final ProjectAggregate firstChild = givenStoredAggregate();
+        final ProjectAggregate secondChild = givenStoredAggregate();
+
+        final TestEventFactory factory = TestEventFactory.newInstance(getClass());
+        final AggProjectArchived msg = AggProjectArchived.newBuilder()
+                                                         .setProjectId(parent.getId())
+                                                         .addChildProjectId(firstChild.getId())
+                                                         .addChildProjectId(secondChild.getId())
+                                                         .build();
+        boundedContext.getEventBus()
+                      .post(factory.createEvent(msg));
+
+        assertTrue(repository.find(firstChild.getId())
+                             .get()
+                             .isArchived());
+        assertTrue(repository.find(secondChild.getId())
+                             .get()
+                             .isArchived());
+        assertFalse(repository.find(parent.getId())
+                              .get()
+                              .isArchived());
+    }
+
+    @Test
+    public void route_events_to_partitions_of_aggregates_in_parallel() throws Exception {
+        tearDown();
+        boundedContext = BoundedContext.newBuilder()
+                                       .build();
+        repository = new ParallelProjectAggregateRepository();
+        boundedContext.register(repository);
+        final ProjectAggregate parent = givenStoredAggregate();
+        final AggProjectArchived.Builder msg = AggProjectArchived.newBuilder()
+                                                                 .setProjectId(parent.getId());
+        // More partitions than the threads replaying the aggregates and dispatching to them.
+        final int childCount = ParallelProjectAggregateRepository.PARTITION_SIZE * 3;
+        final List<ProjectId> children = Lists.newArrayList();
+        for (int i = 0; i < childCount; i++) {
+            final ProjectId childId = givenStoredAggregate().getId();
+            children.add(childId);
+            msg.addChildProjectId(childId);
+        }
+
+        final TestEventFactory factory = TestEventFactory.newInstance(getClass());
+        boundedContext.getEventBus()
+                      .post(factory.createEvent(msg.build()));
+
+        for (ProjectId childId : children) {
+            assertTrue(repository.find(childId)
+                                 .get()
+                                 .isArchived());
+        }
+    }
+
+    @Test
+    public void merge_results_of_partitions_dispatched_in_parallel() {
+        final ParallelFailingAggregateRepository repository =
+                new ParallelFailingAggregateRepository();
+        boundedContext.register(repository);
+        final TestEventFactory factory = TestEventFactory.newInstance(getClass());
+
+        // Is routed to the aggregates 412, 512 and 612. The first of them fails.
+        final EventEnvelope envelope =
+                EventEnvelope.of(factory.createEvent(FloatValue.newBuilder()
+                                                               .setValue(-412.0f)
+                                                               .build()));
+        final Set<Long> dispatched = repository.dispatchEvent(envelope);
+
+        assertEquals(ImmutableSet.of(512L, 612L), dispatched);
+        assertTrue(repository.isErrorLogged());
+        assertEquals(envelope.getMessage(), repository.getLastErrorEnvelope()
+                                                      .getMessage());
+        // The first partition is dispatched by the executor rather than the calling thread.
+        assertNotSame(Thread.currentThread(), repository.getLastErrorThread());
+    }
+
     @Test
     public void route_events_to_aggregates() {
         final ProjectAggregate parent = givenStoredAggregate();
@@ -20,6 +20,8 @@
 
 package io.spine.server.aggregate;
 
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.testing.NullPointerTester;
 import com.google.protobuf.Message;
 import io.spine.server.BoundedContext;
@@ -35,8 +37,11 @@ import org.junit.Before;
 import org.junit.Test;
 
 import java.lang.reflect.Constructor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static io.spine.Identifier.newUuid;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 
 public class AggregateRootShould {
@@ -75,4 +80,25 @@ public class AggregateRootShould {
         final Message lifeCyclePart = aggregateRoot.getPartState(ProjectLifecycle.class);
         assertNotNull(lifeCyclePart);
     }
+
+    @Test
+    public void return_part_states_loaded_concurrently() {
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final ImmutableList<Class<? extends Message>> partClasses =
+                    ImmutableList.<Class<? extends Message>>of(ProjectDefinition.class,
+                                                               ProjectLifecycle.class);
+            final ImmutableMap<Class<? extends Message>, Message> partStates =
+                    aggregateRoot.getPartStates(partClasses, executor);
+
+            assertEquals(partClasses, partStates.keySet()
+                                                .asList());
+            assertEquals(aggregateRoot.getPartState(ProjectDefinition.class),
+                         partStates.get(ProjectDefinition.class));
+            assertEquals(aggregateRoot.getPartState(ProjectLifecycle.class),
+                         partStates.get(ProjectLifecycle.class));
+        } finally {
+            executor.shutdown();
+        }
+    }
 }
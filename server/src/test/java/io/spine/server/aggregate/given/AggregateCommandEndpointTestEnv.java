@@ -20,22 +20,35 @@
 
 package io.spine.server.aggregate.given;
 
+import com.google.common.collect.ImmutableList;
 import io.spine.core.Command;
 import io.spine.core.CommandContext;
 import io.spine.server.aggregate.Aggregate;
 import io.spine.server.aggregate.AggregateRepository;
 import io.spine.server.aggregate.Apply;
 import io.spine.server.command.Assign;
+import io.spine.server.command.CommandHandler;
 import io.spine.server.command.CommandHistory;
+import io.spine.server.event.EventBus;
 import io.spine.test.aggregate.Project;
 import io.spine.test.aggregate.ProjectId;
 import io.spine.test.aggregate.ProjectVBuilder;
 import io.spine.test.aggregate.command.AggAddTask;
+import io.spine.test.aggregate.command.AggCancelProject;
 import io.spine.test.aggregate.command.AggCreateProject;
+import io.spine.test.aggregate.command.AggPauseProject;
 import io.spine.test.aggregate.command.AggStartProject;
+import io.spine.test.aggregate.event.AggProjectCancelled;
 import io.spine.test.aggregate.event.AggProjectCreated;
+import io.spine.test.aggregate.event.AggProjectPaused;
 import io.spine.test.aggregate.event.AggProjectStarted;
 import io.spine.test.aggregate.event.AggTaskAdded;
+import io.spine.test.aggregate.rejection.AggCannotStartArchivedProject;
+import io.spine.validate.ConstraintViolation;
+
+import java.util.List;
+
+import static java.util.Collections.emptyList;
 
 /**
  * @author Alexander Yevsyukov
@@ -49,6 +62,9 @@ public class AggregateCommandEndpointTestEnv {
     public static class ProjectAggregate
             extends Aggregate<ProjectId, Project, ProjectVBuilder> {
 
+        /** The project name which makes the aggregate state invalid. */
+        public static final String INVALID_NAME = "Invalid project name";
+
         // Needs to be `static` to share the state updates in scope of the test.
         private static final CommandHistory commandsHandled = new CommandHistory();
 
@@ -92,16 +108,63 @@ public class AggregateCommandEndpointTestEnv {
             getBuilder().setId(event.getProjectId());
         }
 
+        @Apply
+        private void apply(AggProjectStarted event) {
+        }
+
         @Assign
-        AggProjectStarted handle(AggStartProject msg, CommandContext context) {
+        AggProjectStarted handle(AggStartProject msg, CommandContext context)
+                throws AggCannotStartArchivedProject {
+            if (isArchived()) {
+                throw new AggCannotStartArchivedProject(msg.getProjectId(),
+                                                        msg.getChildProjectIdList());
+            }
             commandsHandled.add(msg, context);
             return AggProjectStarted.newBuilder()
                                  .setProjectId(msg.getProjectId())
                                  .build();
         }
 
+        @Assign
+        AggProjectCancelled handle(AggCancelProject msg, CommandContext context) {
+            commandsHandled.add(msg, context);
+            return AggProjectCancelled.newBuilder()
+                                      .setProjectId(msg.getProjectId())
+                                      .build();
+        }
+
         @Apply
-        private void apply(AggProjectStarted event) {
+        private void apply(AggProjectCancelled event) {
+            setArchived(true);
+        }
+
+        @Override
+        protected List<ConstraintViolation> checkEntityState(Project newState) {
+            if (INVALID_NAME.equals(newState.getName())) {
+                final ConstraintViolation violation =
+                        ConstraintViolation.newBuilder()
+                                           .setMsgFormat("The project name is invalid.")
+                                           .build();
+                return ImmutableList.of(violation);
+            }
+            return emptyList();
+        }
+    }
+
+    /**
+     * A command handler which is not a batch dispatcher.
+     */
+    public static class PauseProjectHandler extends CommandHandler {
+
+        public PauseProjectHandler(EventBus eventBus) {
+            super(eventBus);
+        }
+
+        @Assign
+        AggProjectPaused handle(AggPauseProject msg) {
+            return AggProjectPaused.newBuilder()
+                                   .setProjectId(msg.getProjectId())
+                                   .build();
         }
     }
 
@@ -77,6 +77,9 @@ import io.spine.validate.StringValueVBuilder;
 import javax.annotation.Nullable;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static io.spine.core.Events.nothing;
 import static io.spine.server.aggregate.AggregateMessageDispatcher.dispatchCommand;
@@ -296,6 +299,42 @@ public class AggregateRepositoryTestEnv {
         }
     }
 
+    /**
+     * The repository of {@linkplain ProjectAggregate aggregates}, which are restored and receive
+     * multicast messages in a thread pool.
+     *
+     * <p>The pool has fewer threads than there are partitions of a message routed to
+     * {@link #PARTITION_SIZE more than two} aggregates.
+     */
+    @SuppressWarnings("SerializableInnerClassWithNonSerializableOuterClass")
+    public static class ParallelProjectAggregateRepository extends ProjectAggregateRepository {
+
+        public static final int PARTITION_SIZE = 2;
+
+        private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        @Override
+        protected Executor getReplayExecutor() {
+            return executor;
+        }
+
+        @Override
+        protected Executor getMulticastExecutor() {
+            return executor;
+        }
+
+        @Override
+        protected int getMulticastPartitionSize() {
+            return PARTITION_SIZE;
+        }
+
+        @Override
+        public void close() {
+            super.close();
+            executor.shutdown();
+        }
+    }
+
     /**
      * The aggregate which throws {@link IllegalArgumentException} in response to negative numbers.
      *
@@ -439,6 +478,52 @@ public class AggregateRepositoryTestEnv {
         }
     }
 
+    /**
+     * The repository of {@link FailingAggregate}s, which receive multicast messages in a thread
+     * pool, one aggregate per task.
+     */
+    public static class ParallelFailingAggregateRepository extends FailingAggregateRepository {
+
+        private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        @Nullable
+        private volatile Thread lastErrorThread;
+
+        @Override
+        protected Executor getReplayExecutor() {
+            return executor;
+        }
+
+        @Override
+        protected Executor getMulticastExecutor() {
+            return executor;
+        }
+
+        @Override
+        protected int getMulticastPartitionSize() {
+            return 1;
+        }
+
+        @Override
+        protected void logError(String msgFormat,
+                                MessageEnvelope envelope,
+                                RuntimeException exception) {
+            super.logError(msgFormat, envelope, exception);
+            lastErrorThread = Thread.currentThread();
+        }
+
+        @Nullable
+        public Thread getLastErrorThread() {
+            return lastErrorThread;
+        }
+
+        @Override
+        public void close() {
+            super.close();
+            executor.shutdown();
+        }
+    }
+
     /**
      * An aggregate class which neither handles commands nor reacts on events or rejections.
      */
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2018, TeamDev Ltd. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.bus;
+
+import com.google.common.testing.NullPointerTester;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Empty;
+import com.google.protobuf.Message;
+import com.google.protobuf.StringValue;
+import com.google.protobuf.Timestamp;
+import io.spine.core.Command;
+import io.spine.core.Event;
+import io.spine.test.command.CmdCreateProject;
+import io.spine.test.event.ProjectCreated;
+import org.junit.Test;
+
+import static io.spine.test.Tests.assertHasPrivateParameterlessCtor;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Dmytry Dyachenko
+ */
+public class MessageConstraintsShould {
+
+    @Test
+    public void have_private_util_ctor() {
+        assertHasPrivateParameterlessCtor(MessageConstraints.class);
+    }
+
+    @Test
+    public void not_accept_nulls() {
+        new NullPointerTester()
+                .setDefault(Message.class, StringValue.getDefaultInstance())
+                .setDefault(Descriptor.class, StringValue.getDescriptor())
+                .testAllPublicStaticMethods(MessageConstraints.class);
+    }
+
+    @Test
+    public void detect_types_without_constraints() {
+        assertFalse(MessageConstraints.declaredFor(StringValue.getDefaultInstance()));
+        assertFalse(MessageConstraints.declaredFor(Timestamp.getDescriptor()));
+    }
+
+    @Test
+    public void detect_types_with_constraints() {
+        assertTrue(MessageConstraints.declaredFor(Event.getDefaultInstance()));
+        assertTrue(MessageConstraints.declaredFor(Command.getDescriptor()));
+    }
+
+    @Test
+    public void consider_command_types_with_fields_constrained() {
+        // The types declare no options, though the first field of a command is implicitly
+        // required whatever its name.
+        assertTrue(MessageConstraints.declaredForCommand(CmdCreateProject.getDefaultInstance()));
+        assertTrue(MessageConstraints.declaredForCommand(StringValue.getDefaultInstance()));
+    }
+
+    @Test
+    public void not_consider_first_field_of_other_types_constrained() {
+        assertFalse(MessageConstraints.declaredFor(CmdCreateProject.getDefaultInstance()));
+        assertFalse(MessageConstraints.declaredFor(ProjectCreated.getDefaultInstance()));
+    }
+
+    @Test
+    public void consider_command_types_without_fields_unconstrained() {
+        assertFalse(MessageConstraints.declaredForCommand(Empty.getDefaultInstance()));
+    }
+}
@@ -39,11 +39,13 @@ import io.spine.server.command.given.CommandHandlerMethodTestEnv.InvalidHandlerT
 import io.spine.server.command.given.CommandHandlerMethodTestEnv.InvalidHandlerTwoParamsSecondInvalid;
 import io.spine.server.command.given.CommandHandlerMethodTestEnv.RejectingAggregate;
 import io.spine.server.command.given.CommandHandlerMethodTestEnv.RejectingHandler;
+import io.spine.server.command.given.CommandHandlerMethodTestEnv.RejectionReturningHandler;
 import io.spine.server.command.given.CommandHandlerMethodTestEnv.ValidHandlerButPrivate;
 import io.spine.server.command.given.CommandHandlerMethodTestEnv.ValidHandlerOneParam;
 import io.spine.server.command.given.CommandHandlerMethodTestEnv.ValidHandlerOneParamReturnsList;
 import io.spine.server.command.given.CommandHandlerMethodTestEnv.ValidHandlerTwoParams;
 import io.spine.server.command.given.CommandHandlerMethodTestEnv.ValidHandlerTwoParamsReturnsList;
+import io.spine.server.entity.rejection.StandardRejections.EntityAlreadyArchived;
 import io.spine.server.model.HandlerMethodFailedException;
 import io.spine.server.model.ModelTests;
 import io.spine.test.reflect.ProjectId;
@@ -62,6 +64,7 @@ import static io.spine.server.model.given.Given.CommandMessage.createProject;
 import static io.spine.server.model.given.Given.CommandMessage.startProject;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -252,4 +255,20 @@ public class CommandHandlerMethodShould {
             assertCauseAndId(e, entity.getId());
         }
     }
+
+    @Test
+    public void throw_stackless_rejection_if_rejection_message_returned() {
+        final CommandHandler handler = new RejectionReturningHandler();
+        final CommandEnvelope envelope = requestFactory.createEnvelope(createProject());
+        try {
+            handler.dispatch(envelope);
+            fail("The returned rejection was not thrown.");
+        } catch (HandlerMethodFailedException e) {
+            assertCauseAndId(e, handler.getId());
+            final ThrowableMessage rejection = (ThrowableMessage) getRootCause(e);
+            assertTrue(rejection.getMessageThrown() instanceof EntityAlreadyArchived);
+            assertEquals(0, rejection.getStackTrace().length);
+            assertEquals(0, e.getStackTrace().length);
+        }
+    }
 }
@@ -31,6 +31,7 @@ import io.spine.server.aggregate.Apply;
 import io.spine.server.command.Assign;
 import io.spine.server.command.CommandHandler;
 import io.spine.server.entity.rejection.EntityAlreadyArchived;
+import io.spine.server.entity.rejection.StandardRejections;
 import io.spine.test.reflect.ProjectId;
 import io.spine.test.reflect.command.RefCreateProject;
 import io.spine.test.reflect.event.RefProjectCreated;
@@ -155,6 +156,19 @@ public class CommandHandlerMethodTestEnv {
         }
     }
 
+    /**
+     * A command handler which always rejects the passed command by returning a rejection message.
+     */
+    public static class RejectionReturningHandler extends TestCommandHandler {
+        @Assign
+        Message handleTest(RefCreateProject cmd) {
+            return StandardRejections.EntityAlreadyArchived
+                    .newBuilder()
+                    .setEntityId(Identifier.pack(cmd.getProjectId()))
+                    .build();
+        }
+    }
+
     /**
      * An aggregate which always rejects the passed command.
      */
@@ -0,0 +1,201 @@
+/*
+ * Copyright 2018, TeamDev Ltd. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.commandbus;
+
+import com.google.common.base.Optional;
+import com.google.common.testing.FakeTicker;
+import io.spine.base.Error;
+import io.spine.client.TestActorRequestFactory;
+import io.spine.core.Ack;
+import io.spine.core.CommandEnvelope;
+import io.spine.core.CommandValidationError;
+import io.spine.core.TenantId;
+import org.junit.Before;
+import org.junit.Test;
+
+import static io.spine.Identifier.newUuid;
+import static io.spine.server.commandbus.CommandRateLimitException.ATTR_RETRY_AFTER_MILLIS;
+import static io.spine.server.commandbus.Given.CommandMessage.addTask;
+import static io.spine.server.commandbus.Given.CommandMessage.createProjectMessage;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Dmytry Dyachenko
+ */
+public class CommandAdmissionFilterShould {
+
+    private FakeTicker ticker;
+    private TestActorRequestFactory requestFactory;
+
+    @Before
+    public void setUp() {
+        ticker = new FakeTicker();
+        requestFactory = newRequestFactory();
+    }
+
+    @Test
+    public void admit_commands_within_tenant_limit() {
+        final CommandAdmissionFilter filter = CommandAdmissionFilter.newBuilder()
+                                                                    .setTenantLimit(1, 2)
+                                                                    .setTicker(ticker)
+                                                                    .build();
+        assertAdmitted(filter, createProject());
+        assertAdmitted(filter, createProject());
+
+        assertEquals(2, filter.getAdmittedCount());
+        assertEquals(0, filter.getRejectedCount());
+    }
+
+    @Test
+    public void reject_commands_exceeding_tenant_limit() {
+        final CommandAdmissionFilter filter = CommandAdmissionFilter.newBuilder()
+                                                                    .setTenantLimit(1, 1)
+                                                                    .setTicker(ticker)
+                                                                    .build();
+        assertAdmitted(filter, createProject());
+        assertRejected(filter, createProject());
+
+        assertEquals(1, filter.getAdmittedCount());
+        assertEquals(1, filter.getRejectedCount());
+    }
+
+    @Test
+    public void limit_commands_of_each_tenant_separately() {
+        final CommandAdmissionFilter filter = CommandAdmissionFilter.newBuilder()
+                                                                    .setTenantLimit(1, 1)
+                                                                    .setTicker(ticker)
+                                                                    .build();
+        final TestActorRequestFactory otherTenant = newRequestFactory();
+        assertAdmitted(filter, createProject());
+        assertAdmitted(filter, otherTenant.createEnvelope(createProjectMessage()));
+        assertRejected(filter, createProject());
+    }
+
+    @Test
+    public void refill_tokens_with_time() {
+        final CommandAdmissionFilter filter = CommandAdmissionFilter.newBuilder()
+                                                                    .setTenantLimit(1, 1)
+                                                                    .setTicker(ticker)
+                                                                    .build();
+        assertAdmitted(filter, createProject());
+        ticker.advance(SECONDS.toNanos(1));
+        assertAdmitted(filter, createProject());
+    }
+
+    @Test
+    public void report_when_rejected_command_may_be_retried() {
+        final CommandAdmissionFilter filter = CommandAdmissionFilter.newBuilder()
+                                                                    .setTenantLimit(1, 1)
+                                                                    .setTicker(ticker)
+                                                                    .build();
+        assertAdmitted(filter, createProject());
+        ticker.advance(400, MILLISECONDS);
+
+        final Error error = assertRejected(filter, createProject());
+        final double retryAfterMillis = error.getAttributesOrThrow(ATTR_RETRY_AFTER_MILLIS)
+                                             .getNumberValue();
+        assertEquals(600, retryAfterMillis, 0);
+    }
+
+    @Test
+    public void limit_commands_by_class() {
+        final CommandEnvelope command = createProject();
+        final CommandAdmissionFilter filter =
+                CommandAdmissionFilter.newBuilder()
+                                      .setCommandLimit(command.getMessageClass(), 1, 1)
+                                      .setTicker(ticker)
+                                      .build();
+        assertAdmitted(filter, command);
+        assertRejected(filter, createProject());
+        assertAdmitted(filter, requestFactory.createEnvelope(addTask(newUuid())));
+    }
+
+    @Test
+    public void not_consume_tenant_token_of_command_rejected_by_class_limit() {
+        final CommandEnvelope command = createProject();
+        final CommandAdmissionFilter filter =
+                CommandAdmissionFilter.newBuilder()
+                                      .setTenantLimit(1, 2)
+                                      .setCommandLimit(command.getMessageClass(), 1, 1)
+                                      .setTicker(ticker)
+                                      .build();
+        assertAdmitted(filter, command);
+        assertRejected(filter, createProject());
+        assertAdmitted(filter, requestFactory.createEnvelope(addTask(newUuid())));
+    }
+
+    @Test
+    public void drop_buckets_of_idle_tenants() {
+        final CommandAdmissionFilter filter = CommandAdmissionFilter.newBuilder()
+                                                                    .setTenantLimit(1, 1)
+                                                                    .setTicker(ticker)
+                                                                    .build();
+        assertAdmitted(filter, createProject());
+        assertEquals(1, filter.getTenantBucketCount());
+
+        ticker.advance(2, SECONDS);
+        assertAdmitted(filter, newRequestFactory().createEnvelope(createProjectMessage()));
+        assertEquals(1, filter.getTenantBucketCount());
+    }
+
+    @Test
+    public void keep_buckets_of_tenants_which_are_not_refilled() {
+        final CommandAdmissionFilter filter = CommandAdmissionFilter.newBuilder()
+                                                                    .setTenantLimit(1, 1)
+                                                                    .setTicker(ticker)
+                                                                    .build();
+        assertAdmitted(filter, createProject());
+        ticker.advance(500, MILLISECONDS);
+
+        assertRejected(filter, createProject());
+        assertEquals(1, filter.getTenantBucketCount());
+    }
+
+    private TestActorRequestFactory newRequestFactory() {
+        final TenantId tenantId = TenantId.newBuilder()
+                                          .setValue(newUuid())
+                                          .build();
+        return TestActorRequestFactory.newInstance(getClass(), tenantId);
+    }
+
+    private CommandEnvelope createProject() {
+        return requestFactory.createEnvelope(createProjectMessage());
+    }
+
+    private static void assertAdmitted(CommandAdmissionFilter filter, CommandEnvelope envelope) {
+        final Optional<Ack> result = filter.accept(envelope);
+        assertFalse(result.isPresent());
+    }
+
+    private static Error assertRejected(CommandAdmissionFilter filter, CommandEnvelope envelope) {
+        final Optional<Ack> result = filter.accept(envelope);
+        assertTrue(result.isPresent());
+        final Error error = result.get()
+                                  .getStatus()
+                                  .getError();
+        assertEquals(CommandValidationError.RATE_LIMIT_EXCEEDED.getNumber(), error.getCode());
+        return error;
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2018, TeamDev Ltd. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.delivery;
+
+import io.spine.testdata.ManualExecutor;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.Semaphore;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static java.util.Arrays.asList;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * @author Dmytry Dyachenko
+ */
+public class SerialLaneShould {
+
+    private ManualExecutor executor;
+
+    @Before
+    public void setUp() {
+        executor = new ManualExecutor();
+    }
+
+    @Test
+    public void deliver_items_in_order_with_single_task() {
+        final RecordingLane lane = new RecordingLane(executor, 16);
+
+        lane.enqueue("first");
+        lane.enqueue("second");
+
+        assertEquals(1, executor.pending());
+        assertTrue(lane.delivered.isEmpty());
+        executor.runAll();
+
+        assertEquals(asList("first", "second"), lane.delivered);
+        assertEquals(0, lane.size());
+    }
+
+    @Test
+    public void reject_item_if_no_capacity() {
+        final RecordingLane lane = new RecordingLane(executor, 1);
+
+        lane.enqueue("queued");
+        try {
+            lane.enqueue("rejected");
+            fail("Expected IllegalStateException for the full lane, but got nothing.");
+        } catch (IllegalStateException e) {
+            assertTrue(lane.delivered.isEmpty());
+        }
+        assertEquals(1, lane.size());
+        executor.runAll();
+
+        assertEquals(asList("queued"), lane.delivered);
+    }
+
+    @Test
+    public void accept_items_once_capacity_is_released() {
+        final RecordingLane lane = new RecordingLane(executor, 1);
+
+        lane.enqueue("first");
+        executor.runAll();
+        lane.enqueue("second");
+        executor.runAll();
+
+        assertEquals(asList("first", "second"), lane.delivered);
+    }
+
+    @Test
+    public void pass_errors_to_onError_once_and_continue() {
+        final RecordingLane lane = new RecordingLane(executor, 16);
+        lane.failing = "failing";
+
+        lane.enqueue("failing");
+        lane.enqueue("next");
+        executor.runAll();
+
+        assertEquals(asList("failing"), lane.errors);
+        assertEquals(asList("failing", "next"), lane.delivered);
+    }
+
+    @Test
+    public void reschedule_after_onError_failure() {
+        final RecordingLane lane = new RecordingLane(executor, 16);
+        lane.failing = "failing";
+        lane.failOnError = true;
+
+        lane.enqueue("failing");
+        executor.runAll();
+        lane.enqueue("next");
+
+        assertEquals(1, executor.pending());
+        executor.runAll();
+        assertEquals(asList("failing", "next"), lane.delivered);
+    }
+
+    /**
+     * Remembers the delivered items and the items which failed.
+     */
+    private static class RecordingLane extends SerialLane<String> {
+
+        private final List<String> delivered = newArrayList();
+        private final List<String> errors = newArrayList();
+        private String failing;
+        private boolean failOnError;
+
+        private RecordingLane(ManualExecutor executor, int capacity) {
+            super(executor, new Semaphore(capacity), 0, NANOSECONDS);
+        }
+
+        @Override
+        protected void deliver(String item) {
+            delivered.add(item);
+            if (item.equals(failing)) {
+                throw new IllegalStateException("Delivery failed.");
+            }
+        }
+
+        @Override
+        protected void onError(String item, RuntimeException exception) {
+            errors.add(item);
+            if (failOnError) {
+                throw new IllegalStateException("Error handling failed.", exception);
+            }
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2018, TeamDev Ltd. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.entity;
+
+import com.google.protobuf.Any;
+import io.spine.core.given.GivenTenantId;
+import io.spine.protobuf.AnyPacker;
+import io.spine.test.aggregate.Project;
+import io.spine.test.aggregate.ProjectId;
+import org.junit.Test;
+
+import static io.spine.Identifier.newUuid;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * @author Dmytry Dyachenko
+ */
+public class EntityStateEnvelopeShould {
+
+    @Test
+    public void obtain_packed_entity_state() {
+        final Project state = project();
+        final EntityStateEnvelope<?, ?> envelope = envelope(state);
+
+        assertEquals(AnyPacker.pack(state), envelope.getPackedMessage());
+    }
+
+    @Test
+    public void pack_entity_state_once() {
+        final EntityStateEnvelope<?, ?> envelope = envelope(project());
+
+        final Any packedState = envelope.getPackedMessage();
+        assertSame(packedState, envelope.getPackedMessage());
+    }
+
+    private static Project project() {
+        final ProjectId projectId = ProjectId.newBuilder()
+                                             .setId(newUuid())
+                                             .build();
+        return Project.newBuilder()
+                      .setId(projectId)
+                      .setName("Packed project")
+                      .build();
+    }
+
+    private static EntityStateEnvelope<?, ?> envelope(Project state) {
+        return EntityStateEnvelope.of(state.getId(), state, null, GivenTenantId.newUuid());
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2018, TeamDev Ltd. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package io.spine.server.entity;
+
+import com.google.protobuf.FieldMask;
+import io.spine.test.aggregate.Project;
+import io.spine.test.aggregate.ProjectId;
+import io.spine.type.TypeUrl;
+import org.junit.Test;
+
+import static io.spine.server.entity.FieldMasks.maskOf;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Dmytry Dyachenko
+ */
+public class FieldMaskProjectorShould {
+
+    private static final TypeUrl TYPE = TypeUrl.of(Project.class);
+
+    @Test
+    public void be_reused_for_same_mask_and_type() {
+        final FieldMask mask = maskOf(Project.getDescriptor(), Project.ID_FIELD_NUMBER);
+        final FieldMask equalMask = maskOf(Project.getDescriptor(), Project.ID_FIELD_NUMBER);
+
+        assertSame(FieldMaskProjector.of(mask, TYPE), FieldMaskProjector.of(equalMask, TYPE));
+    }
+
+    @Test
+    public void keep_only_masked_fields() {
+        final FieldMask mask = maskOf(Project.getDescriptor(), Project.ID_FIELD_NUMBER);
+        final ProjectId id = ProjectId.newBuilder()
+                                      .setId("projected")
+                                      .build();
+        final Project project = Project.newBuilder()
+                                       .setId(id)
+                                       .setName("The name to drop")
+                                       .build();
+
+        final Project projected = FieldMaskProjector.of(mask, TYPE)
+                                                    .apply(project);
+
+        assertEquals(id, projected.getId());
+        assertTrue(projected.getName()
+                            .isEmpty());
+    }
+}
@@ -205,6 +205,25 @@ public abstract class TransactionShould<I,
         verify(listener).onAfterPhase(argThat(matchesSuccessfulPhaseFor(event)));
     }
 
+    @Test
+    @SuppressWarnings("unchecked")  // OK for a test method.
+    public void not_record_phases_on_replay() {
+        final TransactionListener<I, E, S ,B> listener = mock(TransactionListener.class);
+        final E entity = createEntity();
+        final Transaction<I, E, S ,B> tx = createTxWithListener(entity, listener);
+        tx.startReplay();
+        final Event event = createEvent(createEventMessage());
+        final Version versionBeforeReplay = tx.getVersion();
+
+        applyEvent(tx, event);
+
+        checkEventReceived(entity, event);
+        assertTrue(tx.getPhases()
+                     .isEmpty());
+        assertNotEquals(versionBeforeReplay, tx.getVersion());
+        verifyZeroInteractions(listener);
+    }
+
     @Test
     public void init_state_and_version_if_specified_in_ctor(){
         final E entity = createEntity();
@@ -36,6 +36,7 @@ import org.junit.Test;
 
 import java.lang.reflect.Method;
 
+import static com.google.common.testing.SerializableTester.reserialize;
 import static com.google.common.testing.SerializableTester.reserializeAndAssert;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
@@ -77,6 +78,16 @@ public class ColumnShould {
         assertEquals(version, actualVersion.getNumber());
     }
 
+    @Test
+    public void invoke_getter_after_deserialization() {
+        final EntityColumn column = reserialize(forMethod("getMutableState", TestEntity.class));
+        final TestEntity entity = new TestEntity("");
+        final int state = 42;
+        entity.setMutableState(state);
+
+        assertEquals(state, column.getFor(entity));
+    }
+
     @Test
     public void have_equals_and_hashCode() {
         final EntityColumn col1 = forMethod("getVersion", VersionableEntity.class);
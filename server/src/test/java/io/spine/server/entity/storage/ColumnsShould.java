@@ -35,9 +35,16 @@ import io.spine.test.entity.ProjectId;
 import io.spine.testdata.Sample;
 import org.junit.Test;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
+import static com.google.common.collect.Lists.newArrayList;
 import static io.spine.server.entity.storage.given.ColumnsTestEnv.CUSTOM_COLUMN_NAME;
 import static io.spine.server.storage.EntityField.version;
 import static io.spine.server.storage.LifecycleFlagField.archived;
@@ -47,9 +54,12 @@ import static io.spine.test.Verify.assertContains;
 import static io.spine.test.Verify.assertEmpty;
 import static io.spine.test.Verify.assertNotEmpty;
 import static io.spine.test.Verify.assertSize;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
 
 /**
  * @author Dmytro Dashenkov
@@ -164,6 +174,72 @@ public class ColumnsShould {
         Columns.getColumns(EntityWithRepeatedColumnNames.class);
     }
 
+    @Test
+    public void fail_on_each_access_to_columns_with_same_name() {
+        for (int i = 0; i < 2; i++) {
+            try {
+                Columns.getColumns(EntityWithRepeatedColumnNames.class);
+                fail("Expected IllegalStateException for the repeated column names.");
+            } catch (IllegalStateException ignored) {
+                // Expected on every access.
+            }
+        }
+    }
+
+    @Test
+    public void find_column_by_name_rather_than_by_name_for_storing() {
+        final Class<? extends Entity<?, ?>> entityClass = EntityWithManyGetters.class;
+        final EntityColumn column = Columns.findColumn(entityClass, "integerFieldValue");
+
+        assertEquals(CUSTOM_COLUMN_NAME, column.getStoredName());
+        try {
+            Columns.findColumn(entityClass, CUSTOM_COLUMN_NAME);
+            fail("A column should not be found by its name for storing.");
+        } catch (IllegalArgumentException ignored) {
+            // Expected.
+        }
+    }
+
+    @Test
+    public void return_same_columns_on_each_access() {
+        final Class<? extends Entity<?, ?>> entityClass = RealLifeEntity.class;
+        final List<EntityColumn> columns = newArrayList(Columns.getColumns(entityClass));
+
+        assertEquals(columns, newArrayList(Columns.getColumns(entityClass)));
+        for (EntityColumn column : columns) {
+            assertSame(column, Columns.findColumn(entityClass, column.getName()));
+        }
+    }
+
+    @Test
+    public void discover_columns_once_for_concurrent_access() throws Exception {
+        final int threadCount = 8;
+        final ExecutorService threadPool = Executors.newFixedThreadPool(threadCount);
+        try {
+            final CountDownLatch start = new CountDownLatch(1);
+            final List<Future<EntityColumn>> lookups = newArrayList();
+            for (int i = 0; i < threadCount; i++) {
+                lookups.add(threadPool.submit(new Callable<EntityColumn>() {
+                    @Override
+                    public EntityColumn call() throws Exception {
+                        start.await();
+                        return Columns.findColumn(EntityWithColumnFromInterface.class,
+                                                  "integerFieldValue");
+                    }
+                }));
+            }
+            start.countDown();
+
+            final EntityColumn expected = lookups.get(0)
+                                                 .get(10, SECONDS);
+            for (Future<EntityColumn> lookup : lookups) {
+                assertSame(expected, lookup.get(10, SECONDS));
+            }
+        } finally {
+            threadPool.shutdownNow();
+        }
+    }
+
     @SuppressWarnings("unused") // Reflective access
     private static class PrivateEntity extends AbstractEntity<String, Any> {
         protected PrivateEntity(String id) {
@@ -27,6 +27,7 @@ import io.spine.core.Event;
 import io.spine.core.EventEnvelope;
 import io.spine.core.EventValidationError;
 import io.spine.server.command.TestEventFactory;
+import io.spine.test.command.event.MandatoryFieldEvent;
 import io.spine.test.event.ProjectCreated;
 import io.spine.testdata.Sample;
 import io.spine.validate.ConstraintViolation;
@@ -36,9 +37,12 @@ import org.junit.Test;
 
 import static com.google.common.collect.Lists.newArrayList;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -55,7 +59,8 @@ public class EventValidatorShould {
         when(messageValidator.validate(any(Message.class)))
                 .thenReturn(newArrayList(ConstraintViolation.getDefaultInstance(),
                                          ConstraintViolation.getDefaultInstance()));
-        final Event event = eventFactory.createEvent(Sample.messageOfType(ProjectCreated.class));
+        final Event event =
+                eventFactory.createEvent(Sample.messageOfType(MandatoryFieldEvent.class));
 
         final EventValidator eventValidator = new EventValidator(messageValidator);
 
@@ -65,4 +70,16 @@ public class EventValidatorShould {
         assertEquals(EventValidationError.getDescriptor().getFullName(),
                      actualError.getType());
     }
+
+    @Test
+    public void skip_validation_of_event_messages_without_constraints() {
+        final MessageValidator messageValidator = mock(MessageValidator.class);
+        final Event event = eventFactory.createEvent(Sample.messageOfType(ProjectCreated.class));
+
+        final EventValidator eventValidator = new EventValidator(messageValidator);
+
+        final Optional<MessageInvalid> error = eventValidator.validate(EventEnvelope.of(event));
+        assertFalse(error.isPresent());
+        verify(messageValidator, never()).validate(any(Message.class));
+    }
 }
@@ -22,6 +22,7 @@ package io.spine.server.model;
 
 import com.google.protobuf.BoolValue;
 import com.google.protobuf.Empty;
+import com.google.protobuf.Int32Value;
 import com.google.protobuf.StringValue;
 import io.spine.core.EventClass;
 import io.spine.core.EventContext;
@@ -32,10 +33,12 @@ import org.junit.Test;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 
+import static com.google.common.base.Throwables.getRootCause;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 /**
  * @author Alexander Litus
@@ -102,6 +105,28 @@ public class HandlerMethodShould {
         assertTrue(((StubHandler) target).wasHandleInvoked());
     }
 
+    @Test
+    public void wrap_exception_thrown_by_method() {
+        final HandlerMethod<Empty> failingMethod =
+                new OneParamMethod(StubHandler.getFailingMethod());
+        try {
+            failingMethod.invoke(target,
+                                 Int32Value.getDefaultInstance(),
+                                 Empty.getDefaultInstance());
+            fail("The exception thrown by the method was not propagated.");
+        } catch (HandlerMethodFailedException e) {
+            assertTrue(e.getCause() instanceof InvocationTargetException);
+            assertTrue(getRootCause(e) instanceof UnsupportedOperationException);
+        }
+    }
+
+    @Test(expected = HandlerMethodFailedException.class)
+    public void fail_to_invoke_on_target_of_another_class() {
+        oneParamMethod.invoke(new Object(),
+                              BoolValue.getDefaultInstance(),
+                              Empty.getDefaultInstance());
+    }
+
     @Test
     public void return_full_name_in_toString() {
         assertEquals(twoParamMethod.getFullName(), twoParamMethod.toString());
@@ -168,6 +193,22 @@ public class HandlerMethodShould {
             return method;
         }
 
+        @SuppressWarnings("unused") // The method is used via reflection.
+        private void fail(Int32Value message) {
+            throw new UnsupportedOperationException("Failing on purpose.");
+        }
+
+        private static Method getFailingMethod() {
+            final Method method;
+            final Class<?> clazz = StubHandler.class;
+            try {
+                method = clazz.getDeclaredMethod("fail", Int32Value.class);
+            } catch (NoSuchMethodException e) {
+                throw new IllegalStateException(e);
+            }
+            return method;
+        }
+
         private static Method getOneParameterMethod() {
             final Method method;
             final Class<?> clazz = StubHandler.class;
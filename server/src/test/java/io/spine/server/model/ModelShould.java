@@ -21,6 +21,7 @@
 package io.spine.server.model;
 
 import com.google.protobuf.Message;
+import io.spine.server.aggregate.AggregateClass;
 import io.spine.server.model.given.ModelTestEnv.MAggregate;
 import io.spine.server.model.given.ModelTestEnv.MCommandHandler;
 import io.spine.server.model.given.ModelTestEnv.MProcessManager;
@@ -29,7 +30,9 @@ import io.spine.test.reflect.command.RefStartProject;
 import org.junit.Before;
 import org.junit.Test;
 
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -76,6 +79,53 @@ public class ModelShould {
         }
     }
 
+    @Test
+    public void report_only_commands_already_handled_by_other_class() {
+        model.asCommandHandlerClass(MCommandHandler.class);
+        try {
+            model.asAggregateClass(MAggregate.class);
+            failErrorNotThrown();
+        } catch (DuplicateCommandHandlerError error) {
+            assertContainsClassName(error, RefCreateProject.class);
+            assertContainsClassName(error, MCommandHandler.class);
+            assertNotContainsClassName(error, RefStartProject.class);
+        }
+    }
+
+    @Test
+    public void not_remember_commands_of_rejected_class() {
+        model.asCommandHandlerClass(MCommandHandler.class);
+        try {
+            model.asAggregateClass(MAggregate.class);
+            failErrorNotThrown();
+        } catch (DuplicateCommandHandlerError ignored) {
+            // The aggregate class should not become a handler of its commands.
+        }
+        try {
+            model.asProcessManagerClass(MProcessManager.class);
+            failErrorNotThrown();
+        } catch (DuplicateCommandHandlerError error) {
+            assertContainsClassName(error, MCommandHandler.class);
+            assertNotContainsClassName(error, MAggregate.class);
+            assertNotContainsClassName(error, RefStartProject.class);
+        }
+    }
+
+    @Test
+    public void return_known_class_without_reporting_it_as_duplicate() {
+        final AggregateClass<?> aggregateClass = model.asAggregateClass(MAggregate.class);
+
+        assertSame(aggregateClass, model.asAggregateClass(MAggregate.class));
+    }
+
+    @Test
+    public void forget_command_handlers_on_clear() {
+        model.asAggregateClass(MAggregate.class);
+        model.clear();
+
+        assertNotNull(model.asCommandHandlerClass(MCommandHandler.class));
+    }
+
     @Test
     public void return_default_state_for_entity_class() {
         final Message defaultState = model.getDefaultState(MAggregate.class);
@@ -87,6 +137,12 @@ public class ModelShould {
         assertTrue(errorMessage.contains(cls.getName()));
     }
 
+    private static void assertNotContainsClassName(DuplicateCommandHandlerError error,
+                                                   Class<?> cls) {
+        final String errorMessage = error.getMessage();
+        assertFalse(errorMessage.contains(cls.getName()));
+    }
+
     private static void failErrorNotThrown() {
         fail(DuplicateCommandHandlerError.class.getName() + " should be thrown");
     }
@@ -0,0 +1,303 @@
+/*
+ * Copyright 2018, TeamDev Ltd. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.rejection;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import io.spine.core.Rejection;
+import io.spine.core.RejectionClass;
+import io.spine.core.RejectionEnvelope;
+import io.spine.core.RejectionId;
+import io.spine.server.rejection.given.BareDispatcher;
+import io.spine.server.rejection.given.InvalidProjectNameSubscriber;
+import io.spine.test.rejection.ProjectRejections.InvalidProjectName;
+import io.spine.testdata.ManualExecutor;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static com.google.common.util.concurrent.Uninterruptibles.sleepUninterruptibly;
+import static io.spine.server.rejection.given.Given.invalidProjectNameRejection;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * @author Dmytry Dyachenko
+ */
+public class AsyncRejectionDeliveryShould {
+
+    private ManualExecutor executor;
+    private AsyncRejectionDelivery delivery;
+    private RejectionBus rejectionBus;
+
+    @Before
+    public void setUp() {
+        executor = new ManualExecutor();
+        delivery = (AsyncRejectionDelivery) DispatcherRejectionDelivery.asyncDelivery(executor,
+                                                                                      16);
+        rejectionBus = RejectionBus.newBuilder()
+                                   .setDispatcherRejectionDelivery(delivery)
+                                   .build();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void not_accept_non_positive_queue_capacity() {
+        DispatcherRejectionDelivery.asyncDelivery(executor, 0);
+    }
+
+    @Test
+    public void not_dispatch_rejection_in_posting_thread() {
+        final InvalidProjectNameSubscriber subscriber = new InvalidProjectNameSubscriber();
+        rejectionBus.register(subscriber);
+
+        final Rejection rejection = invalidProjectNameRejection();
+        rejectionBus.post(rejection);
+
+        assertNull(subscriber.getRejectionHandled());
+        assertEquals(1, delivery.queuedFor(subscriber));
+
+        executor.runAll();
+
+        assertNotNull(subscriber.getRejectionHandled());
+        assertEquals(rejection.getMessage(), subscriber.getRejectionHandled()
+                                                       .getMessage());
+        assertEquals(0, delivery.queuedFor(subscriber));
+    }
+
+    @Test
+    public void drain_queue_of_dispatcher_with_single_task() {
+        final BareDispatcher dispatcher = new BareDispatcher();
+        rejectionBus.register(dispatcher);
+
+        rejectionBus.post(invalidProjectNameRejection());
+        rejectionBus.post(invalidProjectNameRejection());
+        rejectionBus.post(invalidProjectNameRejection());
+
+        assertEquals(3, delivery.queuedFor(dispatcher));
+        assertEquals(1, executor.pending());
+
+        executor.runAll();
+
+        assertTrue(dispatcher.isDispatchCalled());
+        assertEquals(0, delivery.queuedFor(dispatcher));
+    }
+
+    @Test
+    public void use_separate_tasks_for_different_dispatchers() {
+        final BareDispatcher first = new BareDispatcher();
+        final BareDispatcher second = new BareDispatcher();
+        rejectionBus.register(first);
+        rejectionBus.register(second);
+
+        rejectionBus.post(invalidProjectNameRejection());
+
+        assertEquals(2, executor.pending());
+        assertFalse(first.isDispatchCalled());
+        assertFalse(second.isDispatchCalled());
+
+        executor.runAll();
+
+        assertTrue(first.isDispatchCalled());
+        assertTrue(second.isDispatchCalled());
+    }
+
+    @Test
+    public void dispatch_rejections_in_posting_order() {
+        final RecordingDispatcher dispatcher = new RecordingDispatcher(false);
+        rejectionBus.register(dispatcher);
+        final Rejection first = invalidProjectNameRejection();
+        final Rejection second = invalidProjectNameRejection();
+        final Rejection third = invalidProjectNameRejection();
+
+        rejectionBus.post(first);
+        rejectionBus.post(second);
+        rejectionBus.post(third);
+        executor.runAll();
+
+        assertEquals(ImmutableList.of(first.getId(), second.getId(), third.getId()),
+                     dispatcher.dispatched);
+    }
+
+    @Test
+    public void pass_dispatching_errors_to_dispatcher_and_continue() {
+        final RecordingDispatcher dispatcher = new RecordingDispatcher(true);
+        rejectionBus.register(dispatcher);
+
+        rejectionBus.post(invalidProjectNameRejection());
+        rejectionBus.post(invalidProjectNameRejection());
+        executor.runAll();
+
+        assertEquals(2, dispatcher.dispatched.size());
+        assertEquals(2, dispatcher.errors);
+        assertEquals(0, delivery.queuedFor(dispatcher));
+    }
+
+    @Test
+    public void keep_serving_dispatcher_after_onError_failure() {
+        final RecordingDispatcher dispatcher = new RecordingDispatcher(true);
+        dispatcher.failOnError = true;
+        rejectionBus.register(dispatcher);
+
+        rejectionBus.post(invalidProjectNameRejection());
+        executor.runAll();
+        rejectionBus.post(invalidProjectNameRejection());
+
+        assertEquals(1, executor.pending());
+        executor.runAll();
+
+        assertEquals(2, dispatcher.dispatched.size());
+        assertEquals(0, delivery.queuedFor(dispatcher));
+    }
+
+    @Test
+    public void keep_order_when_slow_dispatcher_fills_lane() throws InterruptedException {
+        final int count = 8;
+        final ExecutorService threadPool = Executors.newSingleThreadExecutor();
+        try {
+            final DispatcherRejectionDelivery slowDelivery =
+                    DispatcherRejectionDelivery.asyncDelivery(threadPool, 2);
+            final RejectionBus bus = RejectionBus.newBuilder()
+                                                 .setDispatcherRejectionDelivery(slowDelivery)
+                                                 .build();
+            final SlowDispatcher dispatcher = new SlowDispatcher(count);
+            bus.register(dispatcher);
+            final List<RejectionId> posted = newArrayList();
+
+            for (int i = 0; i < count; i++) {
+                final Rejection rejection = invalidProjectNameRejection();
+                posted.add(rejection.getId());
+                bus.post(rejection);
+            }
+
+            assertTrue(dispatcher.allDispatched.await(10, SECONDS));
+            assertEquals(posted, dispatcher.dispatched);
+        } finally {
+            threadPool.shutdownNow();
+        }
+    }
+
+    @Test
+    public void fail_posting_if_dispatcher_does_not_catch_up() {
+        final AsyncRejectionDelivery delivery =
+                (AsyncRejectionDelivery) DispatcherRejectionDelivery.asyncDelivery(executor, 1);
+        final RejectionBus bus = RejectionBus.newBuilder()
+                                             .setDispatcherRejectionDelivery(delivery)
+                                             .build();
+        final RecordingDispatcher dispatcher = new RecordingDispatcher(false);
+        bus.register(dispatcher);
+        final Rejection queued = invalidProjectNameRejection();
+
+        bus.post(queued);
+        try {
+            bus.post(invalidProjectNameRejection());
+            fail("Expected IllegalStateException for the full lane, but got nothing.");
+        } catch (IllegalStateException e) {
+            assertTrue(dispatcher.dispatched.isEmpty());
+        }
+        executor.runAll();
+
+        assertEquals(ImmutableList.of(queued.getId()), dispatcher.dispatched);
+        assertEquals(0, delivery.queuedFor(dispatcher));
+    }
+
+    /**
+     * Remembers the IDs of the dispatched rejections and optionally fails to dispatch them.
+     */
+    private static class RecordingDispatcher implements RejectionDispatcher<String> {
+
+        private final boolean failDispatch;
+        private final List<RejectionId> dispatched = newArrayList();
+        private boolean failOnError;
+        private int errors;
+
+        private RecordingDispatcher(boolean failDispatch) {
+            this.failDispatch = failDispatch;
+        }
+
+        @Override
+        public Set<RejectionClass> getMessageClasses() {
+            return RejectionClass.setOf(InvalidProjectName.class);
+        }
+
+        @Override
+        public Set<String> dispatch(RejectionEnvelope envelope) {
+            dispatched.add(envelope.getId());
+            if (failDispatch) {
+                throw new IllegalStateException("Dispatching failed.");
+            }
+            return ImmutableSet.of(toString());
+        }
+
+        @Override
+        public void onError(RejectionEnvelope envelope, RuntimeException exception) {
+            errors++;
+            if (failOnError) {
+                throw new IllegalStateException("Error handling failed.", exception);
+            }
+        }
+    }
+
+    /**
+     * Remembers the IDs of the dispatched rejections spending some time on each of them.
+     */
+    private static class SlowDispatcher implements RejectionDispatcher<String> {
+
+        private static final long DISPATCH_MILLIS = 20;
+
+        private final List<RejectionId> dispatched = new CopyOnWriteArrayList<>();
+        private final CountDownLatch allDispatched;
+
+        private SlowDispatcher(int expectedCount) {
+            this.allDispatched = new CountDownLatch(expectedCount);
+        }
+
+        @Override
+        public Set<RejectionClass> getMessageClasses() {
+            return RejectionClass.setOf(InvalidProjectName.class);
+        }
+
+        @Override
+        public Set<String> dispatch(RejectionEnvelope envelope) {
+            sleepUninterruptibly(DISPATCH_MILLIS, MILLISECONDS);
+            dispatched.add(envelope.getId());
+            allDispatched.countDown();
+            return ImmutableSet.of(toString());
+        }
+
+        @Override
+        public void onError(RejectionEnvelope envelope, RuntimeException exception) {
+            throw new AssertionError("Unexpected dispatching error.", exception);
+        }
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright 2018, TeamDev Ltd. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.stand;
+
+import com.google.common.testing.FakeTicker;
+import io.spine.core.TenantId;
+import io.spine.server.entity.EntityStateEnvelope;
+import io.spine.test.aggregate.Project;
+import io.spine.test.aggregate.ProjectId;
+import io.spine.testdata.ManualExecutor;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+
+import static io.spine.core.given.GivenTenantId.newUuid;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * @author Dmytry Dyachenko
+ */
+public class AsyncStandUpdateDeliveryShould {
+
+    private final TenantId tenantId = newUuid();
+
+    private ManualExecutor executor;
+    private FakeTicker ticker;
+    private Stand stand;
+    private AsyncStandUpdateDelivery delivery;
+
+    @Before
+    public void setUp() {
+        executor = new ManualExecutor();
+        ticker = new FakeTicker();
+        stand = mock(Stand.class);
+        delivery = AsyncStandUpdateDelivery.newInstance(executor, 4, 16, ticker);
+        delivery.setStand(stand);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void not_accept_non_positive_lane_count() {
+        StandUpdateDelivery.asyncDelivery(executor, 0, 16);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void not_accept_non_positive_max_pending() {
+        StandUpdateDelivery.asyncDelivery(executor, 4, 0);
+    }
+
+    @Test
+    public void not_update_stand_in_posting_thread() {
+        delivery.deliver(envelope("project", "name"));
+
+        verify(stand, never()).update(any(EntityStateEnvelope.class));
+        assertEquals(1, delivery.getPendingCount());
+
+        executor.runAll();
+
+        verify(stand).update(any(EntityStateEnvelope.class));
+        assertEquals(0, delivery.getPendingCount());
+    }
+
+    @Test
+    public void keep_order_of_updates_of_same_entity() {
+        final EntityStateEnvelope<?, ?> first = envelope("project", "first");
+        final EntityStateEnvelope<?, ?> second = envelope("project", "second");
+        delivery.deliver(first);
+        delivery.deliver(second);
+
+        assertEquals(1, executor.pending());
+        executor.runAll();
+
+        final InOrder inOrder = inOrder(stand);
+        inOrder.verify(stand)
+               .update(first);
+        inOrder.verify(stand)
+               .update(second);
+    }
+
+    @Test
+    public void report_lag_of_oldest_pending_update() {
+        assertEquals(0, delivery.getLag(MILLISECONDS));
+
+        delivery.deliver(envelope("project", "name"));
+        ticker.advance(MILLISECONDS.toNanos(5));
+        delivery.deliver(envelope("other-project", "name"));
+        ticker.advance(MILLISECONDS.toNanos(5));
+
+        assertEquals(10, delivery.getLag(MILLISECONDS));
+
+        executor.runAll();
+
+        assertEquals(0, delivery.getLag(NANOSECONDS));
+    }
+
+    @Test
+    public void continue_after_failed_update() {
+        final EntityStateEnvelope<?, ?> failing = envelope("project", "failing");
+        final EntityStateEnvelope<?, ?> next = envelope("project", "next");
+        doThrow(new IllegalStateException("Stand update failed.")).when(stand)
+                                                                   .update(failing);
+        delivery.deliver(failing);
+        delivery.deliver(next);
+
+        executor.runAll();
+
+        verify(stand).update(next);
+        assertEquals(0, delivery.getPendingCount());
+    }
+
+    @Test
+    public void release_capacity_if_update_throws_error() {
+        delivery = AsyncStandUpdateDelivery.newInstance(executor, 1, 1, ticker);
+        delivery.setStand(stand);
+        final EntityStateEnvelope<?, ?> failing = envelope("project", "failing");
+        final EntityStateEnvelope<?, ?> next = envelope("project", "next");
+        doThrow(new UpdateError()).when(stand)
+                                  .update(failing);
+        delivery.deliver(failing);
+        try {
+            executor.runAll();
+            fail("The error should be propagated to the executor.");
+        } catch (UpdateError ignored) {
+            // Expected.
+        }
+
+        delivery.deliver(next);
+
+        // The update is queued rather than passed to the Stand in this thread.
+        verify(stand, never()).update(next);
+        assertEquals(1, delivery.getPendingCount());
+        executor.runAll();
+        verify(stand).update(next);
+    }
+
+    @Test
+    public void not_overwrite_newer_state_when_lane_is_full() {
+        delivery = AsyncStandUpdateDelivery.newInstance(executor, 1, 1, ticker);
+        delivery.setStand(stand);
+        final EntityStateEnvelope<?, ?> older = envelope("project", "older");
+        final EntityStateEnvelope<?, ?> rejected = envelope("project", "rejected");
+        final EntityStateEnvelope<?, ?> newer = envelope("project", "newer");
+
+        delivery.deliver(older);
+        try {
+            delivery.deliver(rejected);
+            fail("Expected IllegalStateException for the full lane, but got nothing.");
+        } catch (IllegalStateException e) {
+            verify(stand, never()).update(any(EntityStateEnvelope.class));
+        }
+        executor.runAll();
+        delivery.deliver(newer);
+        executor.runAll();
+
+        final ArgumentCaptor<EntityStateEnvelope<?, ?>> captor =
+                ArgumentCaptor.forClass(EntityStateEnvelope.class);
+        verify(stand, times(2)).update(captor.capture());
+        assertEquals(newer.getMessage(), captor.getValue()
+                                               .getMessage());
+        verify(stand, never()).update(rejected);
+    }
+
+    private EntityStateEnvelope<?, ?> envelope(String id, String name) {
+        final ProjectId projectId = ProjectId.newBuilder()
+                                             .setId(id)
+                                             .build();
+        final Project state = Project.newBuilder()
+                                     .setId(projectId)
+                                     .setName(name)
+                                     .build();
+        return EntityStateEnvelope.of(projectId, state, null, tenantId);
+    }
+
+    /**
+     * An {@link Error} thrown by the {@code Stand} in tests.
+     */
+    private static class UpdateError extends Error {
+        private static final long serialVersionUID = 0L;
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright 2018, TeamDev Ltd. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.stand;
+
+import com.google.common.collect.ImmutableList;
+import io.spine.Identifier;
+import io.spine.client.EntityStateUpdate;
+import io.spine.protobuf.AnyPacker;
+import io.spine.test.aggregate.Project;
+import io.spine.test.aggregate.ProjectId;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * @author Dmytry Dyachenko
+ */
+public class CoalescingUpdateCallbackShould {
+
+    private ScheduledExecutorService scheduler;
+    private MemoizingBatchCallback batches;
+    private CoalescingUpdateCallback callback;
+
+    @Before
+    public void setUp() {
+        scheduler = mock(ScheduledExecutorService.class);
+        batches = new MemoizingBatchCallback();
+        callback = CoalescingUpdateCallback.newInstance(batches, scheduler, 100, MILLISECONDS);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void not_accept_non_positive_window() {
+        CoalescingUpdateCallback.newInstance(batches, scheduler, 0, MILLISECONDS);
+    }
+
+    @Test
+    public void schedule_single_flush_per_window() {
+        callback.onStateChanged(update("first", "name"));
+        callback.onStateChanged(update("second", "name"));
+
+        verify(scheduler).schedule(any(Runnable.class),
+                                   eq(MILLISECONDS.toNanos(100)),
+                                   eq(NANOSECONDS));
+        assertTrue(batches.received.isEmpty());
+    }
+
+    @Test
+    public void flush_updates_in_single_batch() {
+        final EntityStateUpdate first = update("first", "name");
+        final EntityStateUpdate second = update("second", "name");
+        callback.onStateChanged(first);
+        callback.onStateChanged(second);
+
+        runScheduledFlush(1);
+
+        assertEquals(1, batches.received.size());
+        assertEquals(ImmutableList.of(first, second), batches.received.get(0));
+    }
+
+    @Test
+    public void keep_only_latest_update_of_entity() {
+        final EntityStateUpdate outdated = update("first", "old name");
+        final EntityStateUpdate other = update("second", "name");
+        final EntityStateUpdate latest = update("first", "new name");
+        callback.onStateChanged(outdated);
+        callback.onStateChanged(other);
+        callback.onStateChanged(latest);
+
+        runScheduledFlush(1);
+
+        assertEquals(ImmutableList.of(other, latest), batches.received.get(0));
+    }
+
+    @Test
+    public void start_new_window_after_flush() {
+        callback.onStateChanged(update("first", "name"));
+        runScheduledFlush(1);
+
+        final EntityStateUpdate next = update("first", "next name");
+        callback.onStateChanged(next);
+        runScheduledFlush(2);
+
+        assertEquals(2, batches.received.size());
+        assertEquals(ImmutableList.of(next), batches.received.get(1));
+    }
+
+    @Test
+    public void cancel_scheduled_flush() {
+        final ScheduledFuture<?> future = mock(ScheduledFuture.class);
+        doReturn(future).when(scheduler)
+                        .schedule(any(Runnable.class), anyLong(), eq(NANOSECONDS));
+        callback.onStateChanged(update("first", "name"));
+
+        callback.cancel();
+
+        verify(future).cancel(false);
+    }
+
+    @Test
+    public void not_pass_updates_after_cancel() {
+        callback.onStateChanged(update("first", "name"));
+        callback.cancel();
+        callback.onStateChanged(update("second", "name"));
+
+        // The flush might have started before the cancellation.
+        runScheduledFlush(1);
+
+        assertTrue(batches.received.isEmpty());
+    }
+
+    @Test
+    public void continue_flushing_after_delegate_failure() {
+        final FailingBatchCallback failing = new FailingBatchCallback();
+        callback = CoalescingUpdateCallback.newInstance(failing, scheduler, 100, MILLISECONDS);
+        callback.onStateChanged(update("first", "name"));
+        runScheduledFlush(1);
+
+        callback.onStateChanged(update("first", "next name"));
+        runScheduledFlush(2);
+
+        assertEquals(2, failing.calls);
+    }
+
+    @Test
+    public void schedule_flush_again_if_scheduler_rejected_it() {
+        doThrow(new RejectedExecutionException()).doReturn(null)
+                                                 .when(scheduler)
+                                                 .schedule(any(Runnable.class),
+                                                           anyLong(),
+                                                           eq(NANOSECONDS));
+        final EntityStateUpdate first = update("first", "name");
+        try {
+            callback.onStateChanged(first);
+            fail("The rejection of the flush must be propagated.");
+        } catch (RejectedExecutionException ignored) {
+            // as expected.
+        }
+        final EntityStateUpdate second = update("second", "name");
+        callback.onStateChanged(second);
+
+        runScheduledFlush(2);
+
+        assertEquals(ImmutableList.of(first, second), batches.received.get(0));
+    }
+
+    private void runScheduledFlush(int expectedScheduleCount) {
+        final ArgumentCaptor<Runnable> flush = ArgumentCaptor.forClass(Runnable.class);
+        verify(scheduler, times(expectedScheduleCount)).schedule(flush.capture(),
+                                                                 anyLong(),
+                                                                 eq(NANOSECONDS));
+        flush.getValue()
+             .run();
+    }
+
+    private static EntityStateUpdate update(String id, String name) {
+        final ProjectId projectId = ProjectId.newBuilder()
+                                             .setId(id)
+                                             .build();
+        final Project state = Project.newBuilder()
+                                     .setId(projectId)
+                                     .setName(name)
+                                     .build();
+        return EntityStateUpdate.newBuilder()
+                                .setId(Identifier.pack(projectId))
+                                .setState(AnyPacker.pack(state))
+                                .build();
+    }
+
+    private static class MemoizingBatchCallback implements CoalescingUpdateCallback.BatchCallback {
+
+        private final List<List<EntityStateUpdate>> received = newArrayList();
+
+        @Override
+        public void onStatesChanged(List<EntityStateUpdate> updates) {
+            received.add(updates);
+        }
+    }
+
+    private static class FailingBatchCallback implements CoalescingUpdateCallback.BatchCallback {
+
+        private int calls;
+
+        @Override
+        public void onStatesChanged(List<EntityStateUpdate> updates) {
+            calls++;
+            throw new IllegalStateException("The observer is closed.");
+        }
+    }
+}
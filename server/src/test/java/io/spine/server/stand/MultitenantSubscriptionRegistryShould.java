@@ -0,0 +1,196 @@
+/*
+ * Copyright 2018, TeamDev Ltd. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.stand;
+
+import com.google.protobuf.Any;
+import io.spine.Identifier;
+import io.spine.client.Subscription;
+import io.spine.client.TestActorRequestFactory;
+import io.spine.client.Topic;
+import io.spine.test.aggregate.Project;
+import io.spine.test.aggregate.ProjectId;
+import io.spine.type.TypeUrl;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Dmytry Dyachenko
+ */
+public class MultitenantSubscriptionRegistryShould {
+
+    private static final TypeUrl TYPE = TypeUrl.of(Project.class);
+    private static final TestActorRequestFactory requestFactory =
+            TestActorRequestFactory.newInstance(MultitenantSubscriptionRegistryShould.class);
+
+    private MultitenantSubscriptionRegistry registry;
+
+    @Before
+    public void setUp() {
+        registry = MultitenantSubscriptionRegistry.newInstance(false);
+    }
+
+    @Test
+    public void expose_added_subscription_to_next_lookup() {
+        final Subscription subscription = registry.add(allProjects());
+
+        assertTrue(registry.containsId(subscription.getId()));
+        assertTrue(registry.hasType(TYPE));
+        assertEquals(1, registry.byType(TYPE)
+                                .size());
+        assertEquals(1, matchingCount(registry.indexOf(TYPE)));
+    }
+
+    @Test
+    public void expose_removal_to_next_lookup() {
+        final Subscription removed = registry.add(allProjects());
+        final Subscription kept = registry.add(allProjects());
+
+        registry.remove(removed);
+
+        assertFalse(registry.containsId(removed.getId()));
+        assertTrue(registry.containsId(kept.getId()));
+        assertEquals(1, registry.byType(TYPE)
+                                .size());
+        assertEquals(1, matchingCount(registry.indexOf(TYPE)));
+
+        registry.remove(kept);
+
+        assertTrue(registry.byType(TYPE)
+                           .isEmpty());
+        assertTrue(registry.indexOf(TYPE)
+                           .isEmpty());
+    }
+
+    @Test
+    public void not_change_index_obtained_before_modification() {
+        final Subscription first = registry.add(allProjects());
+        final SubscriptionIndex index = registry.indexOf(TYPE);
+
+        registry.add(allProjects());
+        registry.remove(first);
+
+        assertEquals(1, matchingCount(index));
+        assertEquals(1, matchingCount(registry.indexOf(TYPE)));
+    }
+
+    @Test
+    public void ignore_removal_of_unknown_subscription() {
+        final Subscription subscription = registry.add(allProjects());
+        final Subscription unknown = Subscription.getDefaultInstance();
+
+        registry.remove(unknown);
+
+        assertTrue(registry.containsId(subscription.getId()));
+        assertEquals(1, matchingCount(registry.indexOf(TYPE)));
+    }
+
+    @Test
+    public void keep_all_modifications_made_during_lookups() throws Exception {
+        final int writerCount = 4;
+        final int subscriptionsPerWriter = 50;
+        final ExecutorService threadPool = Executors.newFixedThreadPool(writerCount + 1);
+        try {
+            final CountDownLatch start = new CountDownLatch(1);
+            final AtomicBoolean writing = new AtomicBoolean(true);
+            final Future<Integer> lookups = threadPool.submit(new Callable<Integer>() {
+                @Override
+                public Integer call() throws Exception {
+                    start.await();
+                    int count = 0;
+                    while (writing.get()) {
+                        matchingCount(registry.indexOf(TYPE));
+                        registry.byType(TYPE);
+                        count++;
+                    }
+                    return count;
+                }
+            });
+            final List<Future<Subscription>> writers = newArrayList();
+            for (int i = 0; i < writerCount; i++) {
+                writers.add(threadPool.submit(new Callable<Subscription>() {
+                    @Override
+                    public Subscription call() throws Exception {
+                        start.await();
+                        Subscription kept = null;
+                        for (int j = 0; j < subscriptionsPerWriter; j++) {
+                            final Subscription added = registry.add(allProjects());
+                            if (kept == null) {
+                                kept = added;
+                            } else {
+                                registry.remove(added);
+                            }
+                        }
+                        return kept;
+                    }
+                }));
+            }
+
+            start.countDown();
+            final List<Subscription> kept = newArrayList();
+            for (Future<Subscription> writer : writers) {
+                kept.add(writer.get(10, SECONDS));
+            }
+            writing.set(false);
+            // Fails if a lookup has thrown an exception.
+            lookups.get(10, SECONDS);
+
+            assertEquals(writerCount, matchingCount(registry.indexOf(TYPE)));
+            assertEquals(writerCount, registry.byType(TYPE)
+                                              .size());
+            for (Subscription subscription : kept) {
+                assertTrue(registry.containsId(subscription.getId()));
+            }
+        } finally {
+            threadPool.shutdownNow();
+        }
+    }
+
+    private static Topic allProjects() {
+        return requestFactory.topic()
+                             .allOf(Project.class);
+    }
+
+    private static int matchingCount(SubscriptionIndex index) {
+        final ProjectId id = ProjectId.newBuilder()
+                                      .setId("any")
+                                      .build();
+        final Any packedId = Identifier.pack(id);
+        final Project state = Project.newBuilder()
+                                     .setId(id)
+                                     .build();
+        return index.matching(packedId, state)
+                    .size();
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2018, TeamDev Ltd. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.stand;
+
+import com.google.common.collect.ImmutableList;
+import com.google.protobuf.Any;
+import com.google.protobuf.StringValue;
+import io.spine.client.OrderBy;
+import io.spine.client.Query;
+import io.spine.client.QueryResponse;
+import org.junit.Test;
+
+import java.util.List;
+
+import static io.spine.protobuf.AnyPacker.pack;
+import static io.spine.protobuf.TypeConverter.toMessage;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * @author Dmytry Dyachenko
+ */
+public class QueryPageShould {
+
+    @Test
+    public void accept_empty_and_numeric_tokens() {
+        assertTrue(QueryPage.isValidToken(""));
+        assertTrue(QueryPage.isValidToken("15"));
+    }
+
+    @Test
+    public void reject_malformed_tokens() {
+        assertFalse(QueryPage.isValidToken("next"));
+        assertFalse(QueryPage.isValidToken("-1"));
+    }
+
+    @Test
+    public void reject_limits_exceeding_int_range() {
+        assertTrue(QueryPage.isValidLimit(Integer.MAX_VALUE - 1));
+        assertFalse(QueryPage.isValidLimit(Integer.MAX_VALUE));
+        // The `uint32` value of 2^31 is passed as a negative `int`.
+        assertFalse(QueryPage.isValidLimit(Integer.MIN_VALUE));
+    }
+
+    @Test
+    public void not_require_paging_for_plain_query() {
+        final QueryPage page = QueryPage.of(Query.getDefaultInstance());
+
+        assertFalse(page.isOrderedOrPaged());
+        assertEquals(0, page.getOffset());
+        assertEquals(0, page.getFetchLimit());
+    }
+
+    @Test
+    public void require_ordering_if_column_set() {
+        final OrderBy orderBy = OrderBy.newBuilder()
+                                       .setColumn("name")
+                                       .build();
+        final Query query = Query.newBuilder()
+                                 .setOrderBy(orderBy)
+                                 .build();
+        final QueryPage page = QueryPage.of(query);
+
+        assertTrue(page.isOrdered());
+        assertTrue(page.isOrderedOrPaged());
+    }
+
+    @Test
+    public void fetch_one_result_more_than_limit() {
+        final QueryPage page = QueryPage.of(query(3, "6"));
+
+        assertEquals(6, page.getOffset());
+        assertEquals(4, page.getFetchLimit());
+    }
+
+    @Test
+    public void set_continuation_token_if_more_results() {
+        final QueryPage page = QueryPage.of(query(2, "4"));
+        final QueryResponse.Builder response = QueryResponse.newBuilder();
+
+        page.fill(results(3).iterator(), response);
+
+        assertEquals(2, response.getMessagesCount());
+        assertEquals("6", response.getContinuationToken());
+    }
+
+    @Test
+    public void not_set_continuation_token_on_last_page() {
+        final QueryPage page = QueryPage.of(query(2, "4"));
+        final QueryResponse.Builder response = QueryResponse.newBuilder();
+
+        page.fill(results(2).iterator(), response);
+
+        assertEquals(2, response.getMessagesCount());
+        assertTrue(response.getContinuationToken()
+                           .isEmpty());
+    }
+
+    @Test
+    public void issue_token_for_last_offset_in_int_range() {
+        final int limit = 10;
+        final String offset = String.valueOf(Integer.MAX_VALUE - limit);
+        final QueryPage page = QueryPage.of(query(limit, offset));
+
+        assertEquals(String.valueOf(Integer.MAX_VALUE), page.nextToken());
+    }
+
+    @Test
+    public void fail_to_issue_token_for_offset_beyond_int_range() {
+        final int limit = 10;
+        final String offset = String.valueOf(Integer.MAX_VALUE - limit + 1);
+        final QueryPage page = QueryPage.of(query(limit, offset));
+
+        try {
+            page.nextToken();
+            fail("The token must not be issued for the offset beyond the int range.");
+        } catch (IllegalStateException ignored) {
+            // as expected.
+        }
+    }
+
+    private static Query query(int limit, String token) {
+        return Query.newBuilder()
+                    .setLimit(limit)
+                    .setContinuationToken(token)
+                    .build();
+    }
+
+    private static List<Any> results(int count) {
+        final ImmutableList.Builder<Any> result = ImmutableList.builder();
+        for (int i = 0; i < count; i++) {
+            final StringValue value = toMessage(String.valueOf(i));
+            result.add(pack(value));
+        }
+        return result.build();
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2018, TeamDev Ltd. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.stand;
+
+import com.google.common.collect.ImmutableList;
+import com.google.protobuf.Any;
+import com.google.protobuf.StringValue;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import io.spine.client.Query;
+import io.spine.client.QueryResponse;
+import io.spine.grpc.MemoizingObserver;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Iterator;
+import java.util.List;
+
+import static io.spine.grpc.StreamObservers.memoizingObserver;
+import static io.spine.protobuf.AnyPacker.pack;
+import static io.spine.protobuf.TypeConverter.toMessage;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author Dmytry Dyachenko
+ */
+public class QueryResultStreamShould {
+
+    @Test
+    public void send_results_in_chunks() {
+        final MemoizingObserver<QueryResponse> observer = memoizingObserver();
+        stream(Query.getDefaultInstance(), results(5), 2, observer).start();
+
+        final List<QueryResponse> responses = observer.responses();
+        assertEquals(3, responses.size());
+        assertEquals(2, responses.get(0)
+                                 .getMessagesCount());
+        assertEquals(1, responses.get(2)
+                                 .getMessagesCount());
+        assertTrue(observer.isCompleted());
+    }
+
+    @Test
+    public void send_single_empty_response_if_no_results() {
+        final MemoizingObserver<QueryResponse> observer = memoizingObserver();
+        stream(Query.getDefaultInstance(), results(0), 2, observer).start();
+
+        assertEquals(1, observer.responses()
+                                .size());
+        assertTrue(observer.isCompleted());
+    }
+
+    @Test
+    public void set_continuation_token_in_last_chunk_if_more_results() {
+        final Query query = Query.newBuilder()
+                                 .setLimit(3)
+                                 .build();
+        final MemoizingObserver<QueryResponse> observer = memoizingObserver();
+        stream(query, results(4), 2, observer).start();
+
+        final List<QueryResponse> responses = observer.responses();
+        assertEquals(2, responses.size());
+        assertEquals(1, responses.get(1)
+                                 .getMessagesCount());
+        assertEquals("3", responses.get(1)
+                                   .getContinuationToken());
+    }
+
+    @SuppressWarnings("unchecked") // OK for a mock.
+    @Test
+    public void wait_until_call_is_ready() {
+        final ServerCallStreamObserver<QueryResponse> call = mock(ServerCallStreamObserver.class);
+        when(call.isReady()).thenReturn(false);
+        stream(Query.getDefaultInstance(), results(3), 2, call).start();
+
+        verify(call, never()).onNext(any(QueryResponse.class));
+
+        final ArgumentCaptor<Runnable> onReady = ArgumentCaptor.forClass(Runnable.class);
+        verify(call).setOnReadyHandler(onReady.capture());
+        when(call.isReady()).thenReturn(true);
+        onReady.getValue()
+               .run();
+
+        verify(call, times(2)).onNext(any(QueryResponse.class));
+        verify(call).onCompleted();
+    }
+
+    @SuppressWarnings("unchecked") // OK for a mock.
+    @Test
+    public void stop_streaming_if_cancelled() {
+        final ServerCallStreamObserver<QueryResponse> call = mock(ServerCallStreamObserver.class);
+        when(call.isReady()).thenReturn(false);
+        stream(Query.getDefaultInstance(), results(3), 2, call).start();
+
+        final ArgumentCaptor<Runnable> onCancel = ArgumentCaptor.forClass(Runnable.class);
+        verify(call).setOnCancelHandler(onCancel.capture());
+        onCancel.getValue()
+                .run();
+        final ArgumentCaptor<Runnable> onReady = ArgumentCaptor.forClass(Runnable.class);
+        verify(call).setOnReadyHandler(onReady.capture());
+        when(call.isReady()).thenReturn(true);
+        onReady.getValue()
+               .run();
+
+        verify(call, never()).onNext(any(QueryResponse.class));
+        verify(call, never()).onCompleted();
+    }
+
+    private static QueryResultStream stream(Query query,
+                                            Iterator<Any> results,
+                                            int chunkSize,
+                                            StreamObserver<QueryResponse> observer) {
+        return new QueryResultStream(query, QueryPage.of(query), results, chunkSize, observer);
+    }
+
+    private static Iterator<Any> results(int count) {
+        final ImmutableList.Builder<Any> result = ImmutableList.builder();
+        for (int i = 0; i < count; i++) {
+            final StringValue value = toMessage(String.valueOf(i));
+            result.add(pack(value));
+        }
+        return result.build()
+                     .iterator();
+    }
+}
@@ -94,6 +94,7 @@ import static com.google.common.collect.Maps.newHashMap;
 import static com.google.common.collect.Sets.newHashSet;
 import static io.spine.Identifier.newUuid;
 import static io.spine.client.QueryValidationError.INVALID_QUERY;
+import static io.spine.client.QueryValidationError.INVALID_QUERY_LIMIT;
 import static io.spine.client.QueryValidationError.UNSUPPORTED_QUERY_TARGET;
 import static io.spine.client.TopicValidationError.INVALID_TOPIC;
 import static io.spine.client.TopicValidationError.UNSUPPORTED_TOPIC_TARGET;
@@ -792,6 +793,31 @@ public class StandShould extends TenantAwareTest {
         }
     }
 
+    @Test
+    public void throw_invalid_query_exception_packed_as_IAE_if_query_limit_is_too_large() {
+        final Stand stand = Stand.newBuilder()
+                                 .build();
+        stand.registerTypeSupplier(new StandTestProjectionRepository());
+        final Query query = requestFactory.query()
+                                          .all(Project.class)
+                                          .toBuilder()
+                                          .setLimit(Integer.MIN_VALUE)
+                                          .build();
+        try {
+            stand.execute(query, StreamObservers.<QueryResponse>noOpObserver());
+            fail("Expected IllegalArgumentException due to the query limit, but got nothing");
+        } catch (IllegalArgumentException e) {
+            final Throwable cause = e.getCause();
+            assertTrue(cause instanceof InvalidQueryException);
+
+            final InvalidQueryException queryException = (InvalidQueryException) cause;
+            assertEquals(query, queryException.getRequest());
+            assertEquals(INVALID_QUERY_LIMIT.getNumber(),
+                         queryException.asError()
+                                       .getCode());
+        }
+    }
+
     @Test
     public void throw_invalid_topic_ex_packed_as_IAE_if_subscribing_to_unknown_type_changes() {
 
@@ -1249,12 +1275,27 @@ public class StandShould extends TenantAwareTest {
 
         when(projectionRepository.loadAll(matchingIds, any(FieldMask.class)))
                 .thenReturn(allResults.iterator());
-        when(projectionRepository.loadAll())
-                .thenReturn(allResults.iterator());
+
+        final ImmutableList<EntityRecord> allRecords = toRecords(allResults);
+        when(projectionRepository.loadAllRecords())
+                .thenReturn(allRecords.iterator());
 
         final EntityFilters matchingFilter = argThat(entityFilterMatcher(projectIds));
-        when(projectionRepository.find(matchingFilter, any(FieldMask.class)))
-                .thenReturn(allResults.iterator());
+        when(projectionRepository.findRecords(matchingFilter, any(FieldMask.class)))
+                .thenReturn(allRecords.iterator());
+    }
+
+    private static ImmutableList<EntityRecord> toRecords(
+            Collection<Given.StandTestProjection> projections) {
+        final ImmutableList.Builder<EntityRecord> result = ImmutableList.builder();
+        for (StandTestProjection projection : projections) {
+            final Any state = AnyPacker.pack(projection.getState());
+            final EntityRecord record = EntityRecord.newBuilder()
+                                                    .setState(state)
+                                                    .build();
+            result.add(record);
+        }
+        return result.build();
     }
 
     @SuppressWarnings("OverlyComplexAnonymousInnerClass")
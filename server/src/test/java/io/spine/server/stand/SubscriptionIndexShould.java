@@ -0,0 +1,219 @@
+/*
+ * Copyright 2018, TeamDev Ltd. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.stand;
+
+import com.google.common.collect.ImmutableList;
+import com.google.protobuf.Any;
+import io.spine.Identifier;
+import io.spine.client.CompositeColumnFilter;
+import io.spine.client.EntityFilters;
+import io.spine.client.EntityIdFilter;
+import io.spine.client.Subscription;
+import io.spine.client.Subscriptions;
+import io.spine.client.Target;
+import io.spine.client.Targets;
+import io.spine.test.aggregate.Project;
+import io.spine.test.aggregate.ProjectId;
+import io.spine.type.TypeUrl;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static io.spine.client.ColumnFilters.all;
+import static io.spine.client.ColumnFilters.eq;
+import static io.spine.client.ColumnFilters.either;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Dmytry Dyachenko
+ */
+public class SubscriptionIndexShould {
+
+    private static final TypeUrl TYPE = TypeUrl.of(Project.class);
+
+    @Test
+    public void be_empty_if_no_records() {
+        final ImmutableList<SubscriptionRecord> noRecords = ImmutableList.of();
+        final SubscriptionIndex index = SubscriptionIndex.of(TYPE, noRecords);
+        assertTrue(index.isEmpty());
+        assertTrue(SubscriptionIndex.empty()
+                                    .isEmpty());
+    }
+
+    @Test
+    public void match_include_all_records_to_any_entity() {
+        final SubscriptionRecord record = record("all", Targets.allOf(Project.class));
+        final SubscriptionIndex index = SubscriptionIndex.of(TYPE, ImmutableList.of(record));
+
+        final ProjectId id = projectId("any");
+        final List<SubscriptionRecord> matching = index.matching(pack(id), project(id, "name"));
+
+        assertEquals(ImmutableList.of(record), matching);
+    }
+
+    @Test
+    public void match_records_by_entity_id() {
+        final ProjectId firstId = projectId("first");
+        final ProjectId secondId = projectId("second");
+        final SubscriptionRecord first = record("first", idTarget(firstId));
+        final SubscriptionRecord second = record("second", idTarget(secondId));
+        final SubscriptionIndex index = SubscriptionIndex.of(TYPE,
+                                                             ImmutableList.of(first, second));
+
+        final List<SubscriptionRecord> matching = index.matching(pack(firstId),
+                                                                 project(firstId, "name"));
+        assertEquals(ImmutableList.of(first), matching);
+
+        final ProjectId otherId = projectId("other");
+        assertTrue(index.matching(pack(otherId), project(otherId, "name"))
+                        .isEmpty());
+    }
+
+    @Test
+    public void match_record_once_if_entity_id_is_listed_several_times() {
+        final ProjectId id = projectId("duplicated");
+        final Target singleId = idTarget(id);
+        final EntityIdFilter idFilter = singleId.getFilters()
+                                                .getIdFilter();
+        final EntityIdFilter duplicatedIds = idFilter.toBuilder()
+                                                     .addAllIds(idFilter.getIdsList())
+                                                     .build();
+        final Target target = singleId.toBuilder()
+                                      .setFilters(singleId.getFilters()
+                                                          .toBuilder()
+                                                          .setIdFilter(duplicatedIds))
+                                      .build();
+        final SubscriptionRecord record = record("duplicated", target);
+        final SubscriptionIndex index = SubscriptionIndex.of(TYPE,
+                                                             ImmutableList.of(record, record));
+
+        assertEquals(ImmutableList.of(record), index.matching(pack(id), project(id, "name")));
+    }
+
+    @Test
+    public void match_records_by_state_field() {
+        final SubscriptionRecord record = record("by-name",
+                                                 columnTarget(all(eq("name", "matching"))));
+        final SubscriptionIndex index = SubscriptionIndex.of(TYPE, ImmutableList.of(record));
+
+        final ProjectId id = projectId("some");
+        assertEquals(ImmutableList.of(record),
+                     index.matching(pack(id), project(id, "matching")));
+        assertTrue(index.matching(pack(id), project(id, "other"))
+                        .isEmpty());
+    }
+
+    @Test
+    public void match_records_by_id_and_state_field() {
+        final ProjectId id = projectId("filtered");
+        final Target target = idTarget(id).toBuilder()
+                                          .setFilters(idTarget(id).getFilters()
+                                                                  .toBuilder()
+                                                                  .addFilter(all(eq("name",
+                                                                                    "matching"))))
+                                          .build();
+        final SubscriptionRecord record = record("by-id-and-name", target);
+        final SubscriptionIndex index = SubscriptionIndex.of(TYPE, ImmutableList.of(record));
+
+        assertEquals(1, index.matching(pack(id), project(id, "matching"))
+                             .size());
+        assertTrue(index.matching(pack(id), project(id, "other"))
+                        .isEmpty());
+    }
+
+    @Test
+    public void match_filters_by_columns_absent_in_state() {
+        final SubscriptionRecord record = record("by-column",
+                                                 columnTarget(either(eq("absentColumn", 42))));
+        final SubscriptionIndex index = SubscriptionIndex.of(TYPE, ImmutableList.of(record));
+
+        final ProjectId id = projectId("some");
+        assertEquals(ImmutableList.of(record),
+                     index.matching(pack(id), project(id, "name")));
+    }
+
+    @Test
+    public void check_only_state_fields_of_filters_mixed_with_column_only_ones() {
+        final CompositeColumnFilter filter = all(eq("name", "matching"), eq("archived", false));
+        final SubscriptionRecord record = record("by-name-and-lifecycle", columnTarget(filter));
+        final SubscriptionIndex index = SubscriptionIndex.of(TYPE, ImmutableList.of(record));
+
+        final ProjectId id = projectId("some");
+        assertEquals(ImmutableList.of(record),
+                     index.matching(pack(id), project(id, "matching")));
+        assertTrue(index.matching(pack(id), project(id, "other"))
+                        .isEmpty());
+    }
+
+    @Test
+    public void not_match_records_without_filters() {
+        final Target target = Target.newBuilder()
+                                    .setType(TYPE.value())
+                                    .build();
+        final SubscriptionRecord record = record("none", target);
+        final SubscriptionIndex index = SubscriptionIndex.of(TYPE, ImmutableList.of(record));
+
+        final ProjectId id = projectId("some");
+        assertFalse(index.matching(pack(id), project(id, "name"))
+                         .contains(record));
+    }
+
+    private static SubscriptionRecord record(String subscriptionId, Target target) {
+        final Subscription subscription = Subscription.newBuilder()
+                                                      .setId(Subscriptions.newId(subscriptionId))
+                                                      .build();
+        return new SubscriptionRecord(subscription, target, TYPE);
+    }
+
+    private static Target idTarget(ProjectId id) {
+        return Targets.someOf(Project.class, Collections.singleton(id));
+    }
+
+    private static Target columnTarget(CompositeColumnFilter filter) {
+        final EntityFilters filters = EntityFilters.newBuilder()
+                                                   .addFilter(filter)
+                                                   .build();
+        return Target.newBuilder()
+                     .setType(TYPE.value())
+                     .setFilters(filters)
+                     .build();
+    }
+
+    private static ProjectId projectId(String value) {
+        return ProjectId.newBuilder()
+                        .setId(value)
+                        .build();
+    }
+
+    private static Project project(ProjectId id, String name) {
+        return Project.newBuilder()
+                      .setId(id)
+                      .setName(name)
+                      .build();
+    }
+
+    private static Any pack(ProjectId id) {
+        return Identifier.pack(id);
+    }
+}
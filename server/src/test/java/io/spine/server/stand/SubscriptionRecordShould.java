@@ -20,14 +20,17 @@
 
 package io.spine.server.stand;
 
+import com.google.common.collect.ImmutableList;
 import com.google.protobuf.Any;
 import com.google.protobuf.Message;
+import io.spine.Identifier;
 import io.spine.client.Subscription;
 import io.spine.client.SubscriptionId;
 import io.spine.client.Subscriptions;
 import io.spine.client.Target;
 import io.spine.client.Targets;
-import io.spine.protobuf.AnyPacker;
+import io.spine.client.TestActorRequestFactory;
+import io.spine.client.Topic;
 import io.spine.test.aggregate.Project;
 import io.spine.test.aggregate.ProjectId;
 import io.spine.test.commandservice.customer.Customer;
@@ -50,24 +53,26 @@ public class SubscriptionRecordShould {
                                                                          Given.target(),
                                                                          Given.TYPE);
         final Project entityState = Project.getDefaultInstance();
-        final Any wrappedState = AnyPacker.pack(entityState);
-        final ProjectId redundantId = ProjectId.getDefaultInstance();
+        final Any redundantId = Identifier.pack(ProjectId.getDefaultInstance());
 
-        final boolean matchResult = matchingRecord.matches(Given.TYPE, redundantId, wrappedState);
+        final boolean matchResult = Given.index(matchingRecord)
+                                         .matching(redundantId, entityState)
+                                         .contains(matchingRecord);
         assertTrue(matchResult);
     }
 
     @Test
     public void fail_to_match_improper_type() {
-        final SubscriptionRecord notMatchingRecord = new SubscriptionRecord(Given.subscription(),
-                                                                            Given.target(),
-                                                                            Given.TYPE);
-        final Project entityState = Project.getDefaultInstance();
-        final Any wrappedState = AnyPacker.pack(entityState);
-        final ProjectId redundantId = ProjectId.getDefaultInstance();
-
-        final boolean matchResult = notMatchingRecord.matches(Given.OTHER_TYPE, redundantId, wrappedState);
-        assertFalse(matchResult);
+        final MultitenantSubscriptionRegistry registry =
+                MultitenantSubscriptionRegistry.newInstance(false);
+        final Topic topic = Given.requestFactory.topic()
+                                                .forTarget(Given.target());
+        registry.add(topic);
+
+        assertFalse(registry.indexOf(Given.TYPE)
+                            .isEmpty());
+        assertTrue(registry.indexOf(Given.OTHER_TYPE)
+                           .isEmpty());
     }
 
     @Test
@@ -75,14 +80,16 @@ public class SubscriptionRecordShould {
         final ProjectId nonExistingId = ProjectId.newBuilder()
                                                  .setId("never-existed")
                                                  .build();
-        final SubscriptionRecord notMatchingRecord = new SubscriptionRecord(Given.subscription(),
-                                                                            Given.target(nonExistingId),
-                                                                            Given.TYPE);
+        final SubscriptionRecord notMatchingRecord =
+                new SubscriptionRecord(Given.subscription(),
+                                       Given.target(nonExistingId),
+                                       Given.TYPE);
         final Project entityState = Project.getDefaultInstance();
-        final Any wrappedState = AnyPacker.pack(entityState);
-        final ProjectId redundantId = ProjectId.getDefaultInstance();
+        final Any redundantId = Identifier.pack(ProjectId.getDefaultInstance());
 
-        final boolean matchResult = notMatchingRecord.matches(Given.TYPE, redundantId, wrappedState);
+        final boolean matchResult = Given.index(notMatchingRecord)
+                                         .matching(redundantId, entityState)
+                                         .contains(notMatchingRecord);
         assertFalse(matchResult);
     }
 
@@ -112,6 +119,8 @@ public class SubscriptionRecordShould {
 
         private static final TypeUrl TYPE = TypeUrl.of(Project.class);
         private static final TypeUrl OTHER_TYPE = TypeUrl.of(Customer.class);
+        private static final TestActorRequestFactory requestFactory =
+                TestActorRequestFactory.newInstance(SubscriptionRecordShould.class);
 
         private static Target target() {
             final Target target = Targets.allOf(Project.class);
@@ -123,6 +132,10 @@ public class SubscriptionRecordShould {
             return target;
         }
 
+        private static SubscriptionIndex index(SubscriptionRecord record) {
+            return SubscriptionIndex.of(TYPE, ImmutableList.of(record));
+        }
+
         private static Subscription subscription() {
             final Subscription subscription = Subscription.getDefaultInstance();
             return subscription;
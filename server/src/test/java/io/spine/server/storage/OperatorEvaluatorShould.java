@@ -39,6 +39,7 @@ import static io.spine.test.Tests.nullRef;
 import static io.spine.time.Durations2.seconds;
 import static io.spine.time.Time.getCurrentTime;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -55,6 +56,15 @@ public class OperatorEvaluatorShould {
                 .testStaticMethods(OperatorEvaluator.class, PACKAGE);
     }
 
+    @Test
+    public void provide_evaluator_of_operator() {
+        final OperatorEvaluator evaluator = OperatorEvaluator.of(GREATER_THAN);
+
+        assertSame(OperatorEvaluator.GREATER_THAN, evaluator);
+        assertTrue(evaluator.eval(42, 9));
+        assertFalse(evaluator.eval(9, 42));
+    }
+
     @SuppressWarnings("RedundantStringConstructorCall") // We need an equal but not the same object
     @Test
     public void compare_equal_instances() {
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2018, TeamDev Ltd. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+
+package io.spine.server.storage.memory;
+
+import com.google.common.collect.ImmutableSet;
+import io.spine.server.entity.EntityRecord;
+import io.spine.server.entity.storage.EntityColumn;
+import io.spine.server.entity.storage.EntityRecordWithColumns;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.Serializable;
+
+import static io.spine.client.ColumnFilters.eq;
+import static io.spine.client.ColumnFilters.ge;
+import static io.spine.client.ColumnFilters.gt;
+import static io.spine.client.ColumnFilters.lt;
+import static io.spine.server.entity.storage.EntityRecordWithColumns.of;
+import static io.spine.server.entity.storage.TestEntityRecordWithColumnsFactory.createRecord;
+import static java.util.Collections.singletonMap;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author Dmytry Dyachenko
+ */
+public class ColumnIndexShould {
+
+    private static final String COLUMN_NAME = "count";
+
+    private EntityColumn column;
+    private ColumnIndex<String> index;
+
+    @Before
+    public void setUp() {
+        column = column(Integer.class);
+        index = new ColumnIndex<>(column);
+        index.add("one", record(column, 1));
+        index.add("two", record(column, 2));
+        index.add("other-two", record(column, 2));
+        index.add("three", record(column, 3));
+        index.add("none", of(EntityRecord.getDefaultInstance()));
+    }
+
+    @Test
+    public void find_records_by_equal_value() {
+        assertEquals(ImmutableSet.of("two", "other-two"), index.find(eq(COLUMN_NAME, 2)));
+        assertTrue(index.find(eq(COLUMN_NAME, 4))
+                        .isEmpty());
+    }
+
+    @Test
+    public void find_records_by_range() {
+        assertEquals(ImmutableSet.of("three"), index.find(gt(COLUMN_NAME, 2)));
+        assertEquals(ImmutableSet.of("two", "other-two", "three"),
+                     index.find(ge(COLUMN_NAME, 2)));
+        assertEquals(ImmutableSet.of("one"), index.find(lt(COLUMN_NAME, 2)));
+    }
+
+    @Test
+    public void count_matching_records_without_copying_them() {
+        assertEquals(2, index.match(eq(COLUMN_NAME, 2))
+                             .size());
+        assertEquals(3, index.match(ge(COLUMN_NAME, 2))
+                             .size());
+        assertEquals(0, index.match(eq(COLUMN_NAME, 4))
+                             .size());
+    }
+
+    @Test
+    public void copy_ids_of_match_on_demand() {
+        final ColumnIndex.Match<String> match = index.match(eq(COLUMN_NAME, 2));
+        index.remove("two", record(column, 2));
+
+        assertEquals(2, match.size());
+        assertEquals(ImmutableSet.of("other-two"), match.ids());
+    }
+
+    @Test
+    public void not_find_removed_records() {
+        index.remove("two", record(column, 2));
+
+        assertEquals(ImmutableSet.of("other-two"), index.find(eq(COLUMN_NAME, 2)));
+        assertEquals(ImmutableSet.of("other-two", "three"), index.find(ge(COLUMN_NAME, 2)));
+    }
+
+    @Test
+    public void not_answer_range_filter_on_unordered_column() {
+        final EntityColumn unordered = column(Serializable.class);
+        final ColumnIndex<String> unorderedIndex = new ColumnIndex<>(unordered);
+
+        assertNull(unorderedIndex.find(gt(COLUMN_NAME, 2)));
+    }
+
+    @SuppressWarnings("unchecked") // OK for a mock.
+    private static EntityColumn column(Class<?> type) {
+        final EntityColumn column = mock(EntityColumn.class);
+        when(column.getStoredName()).thenReturn(COLUMN_NAME);
+        when(column.getType()).thenReturn((Class) type);
+        return column;
+    }
+
+    private static EntityRecordWithColumns record(EntityColumn column, Serializable value) {
+        final EntityColumn.MemoizedValue memoizedValue = mock(EntityColumn.MemoizedValue.class);
+        when(memoizedValue.getSourceColumn()).thenReturn(column);
+        when(memoizedValue.getValue()).thenReturn(value);
+        return createRecord(EntityRecord.getDefaultInstance(),
+                            singletonMap(COLUMN_NAME, memoizedValue));
+    }
+}
@@ -173,6 +173,7 @@ public class EntityQueryMatcherShould {
     public void not_match_by_wrong_field_name() {
         final String wrongName = "wrong";
         final EntityColumn target = mock(EntityColumn.class);
+        when(target.getType()).thenReturn(String.class);
 
         final Multimap<EntityColumn, ColumnFilter> filters = of(target,
                                                                 eq(wrongName, "any"));
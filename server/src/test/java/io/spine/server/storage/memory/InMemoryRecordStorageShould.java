@@ -20,8 +20,18 @@
 
 package io.spine.server.storage.memory;
 
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.google.protobuf.FieldMask;
 import com.google.protobuf.Message;
 import io.spine.server.entity.Entity;
+import io.spine.server.entity.EntityRecord;
+import io.spine.server.entity.FieldMasks;
+import io.spine.server.entity.LifecycleFlags;
+import io.spine.server.entity.storage.EntityQuery;
+import io.spine.server.entity.storage.EntityRecordWithColumns;
+import io.spine.server.entity.storage.QueryParameters;
+import io.spine.server.entity.storage.TestEntityQueryFactory;
 import io.spine.server.storage.RecordStorageShould;
 import io.spine.test.storage.Project;
 import io.spine.test.storage.ProjectId;
@@ -29,11 +39,19 @@ import io.spine.test.storage.Task;
 import io.spine.type.TypeUrl;
 import org.junit.Test;
 
+import java.util.Iterator;
+import java.util.List;
+
+import static com.google.common.collect.Lists.newArrayList;
 import static io.spine.Identifier.newUuid;
+import static io.spine.protobuf.AnyPacker.pack;
+import static io.spine.protobuf.AnyPacker.unpack;
 import static io.spine.server.BoundedContext.newName;
 import static java.lang.String.format;
 import static java.lang.System.nanoTime;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 
 /**
  * @author Dmytro Dashenkov
@@ -74,4 +92,96 @@ public class InMemoryRecordStorageShould
         final StorageSpec spec = getStorage().getSpec();
         assertEquals(ProjectId.class, spec.getIdClass());
     }
+
+    @Test
+    public void read_only_visible_records_by_ids_with_mask() {
+        final InMemoryRecordStorage<ProjectId> storage = getStorage();
+        final ProjectId activeId = newId();
+        final ProjectId archivedId = newId();
+        final LifecycleFlags archived = LifecycleFlags.newBuilder()
+                                                      .setArchived(true)
+                                                      .build();
+        final EntityRecord archivedRecord = newRecord(archivedId).toBuilder()
+                                                                 .setLifecycleFlags(archived)
+                                                                 .build();
+        storage.write(activeId, EntityRecordWithColumns.of(newRecord(activeId)));
+        storage.write(archivedId, EntityRecordWithColumns.of(archivedRecord));
+        final FieldMask mask = FieldMasks.maskOf(Project.getDescriptor(), 2);
+
+        final List<EntityRecord> result = newArrayList(
+                storage.readMultiple(ImmutableList.of(activeId, archivedId), mask));
+
+        assertEquals(2, result.size());
+        final Project activeState = unpack(result.get(0)
+                                                 .getState());
+        assertFalse(activeState.getName()
+                               .isEmpty());
+        assertFalse(activeState.hasId());
+        assertNull(result.get(1));
+    }
+
+    @Test
+    public void read_requested_page_of_records() {
+        final List<ProjectId> ids = writeProjects(5);
+        final QueryParameters parameters = QueryParameters.newBuilder()
+                                                          .setOffset(1)
+                                                          .setLimit(2)
+                                                          .build();
+
+        final List<ProjectId> page = readIds(parameters);
+
+        assertEquals(ids.subList(1, 3), page);
+    }
+
+    @Test
+    public void read_records_after_offset_if_page_end_exceeds_int_range() {
+        final List<ProjectId> ids = writeProjects(3);
+        final QueryParameters parameters = QueryParameters.newBuilder()
+                                                          .setOffset(1)
+                                                          .setLimit(Integer.MAX_VALUE)
+                                                          .build();
+
+        final List<ProjectId> page = readIds(parameters);
+
+        assertEquals(ids.subList(1, 3), page);
+    }
+
+    /**
+     * Writes the given number of projects with the IDs in the order of their string form.
+     */
+    private List<ProjectId> writeProjects(int count) {
+        final InMemoryRecordStorage<ProjectId> storage = getStorage();
+        final List<ProjectId> ids = newArrayList();
+        for (int i = 0; i < count; i++) {
+            final ProjectId id = ProjectId.newBuilder()
+                                          .setId("paged-project-" + i)
+                                          .build();
+            ids.add(id);
+        }
+        // Write in the reverse order, so that the storage order differs from the ID order.
+        for (ProjectId id : Lists.reverse(ids)) {
+            storage.write(id, EntityRecordWithColumns.of(newRecord(id)));
+        }
+        return ids;
+    }
+
+    private List<ProjectId> readIds(QueryParameters parameters) {
+        final EntityQuery<ProjectId> query =
+                TestEntityQueryFactory.createQuery(ImmutableList.<ProjectId>of(), parameters);
+        final Iterator<EntityRecord> records = getStorage().readAll(query,
+                                                                    FieldMask.getDefaultInstance());
+        final List<ProjectId> result = newArrayList();
+        while (records.hasNext()) {
+            final Project state = unpack(records.next()
+                                                .getState());
+            result.add(state.getId());
+        }
+        return result;
+    }
+
+    private EntityRecord newRecord(ProjectId id) {
+        return EntityRecord.newBuilder()
+                           .setState(pack(newState(id)))
+                           .build();
+    }
 }
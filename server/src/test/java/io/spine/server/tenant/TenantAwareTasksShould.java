@@ -0,0 +1,139 @@
+/*
+ * Copyright 2018, TeamDev Ltd. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.tenant;
+
+import com.google.common.util.concurrent.MoreExecutors;
+import io.spine.core.TenantId;
+import org.junit.Test;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static io.spine.core.given.GivenTenantId.newUuid;
+import static io.spine.server.tenant.TenantAwareTasks.await;
+import static io.spine.server.tenant.TenantAwareTasks.submit;
+import static io.spine.test.Tests.assertHasPrivateParameterlessCtor;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Dmytry Dyachenko
+ */
+public class TenantAwareTasksShould {
+
+    private final Executor executor = MoreExecutors.directExecutor();
+
+    @Test
+    public void have_utility_ctor() {
+        assertHasPrivateParameterlessCtor(TenantAwareTasks.class);
+    }
+
+    @Test
+    public void run_task_in_tenant_of_calling_thread() {
+        final TenantId tenantId = newUuid();
+        new TenantAwareOperation(tenantId) {
+            @Override
+            public void run() {
+                assertEquals(tenantId, await(submit(executor, new CurrentTenantTask())));
+            }
+        }.execute();
+    }
+
+    @Test
+    public void run_task_without_tenant_if_none_is_set() {
+        assertFalse(await(submit(executor, new TenantSetTask())));
+    }
+
+    @Test
+    public void run_task_in_given_tenant() {
+        final TenantId tenantId = newUuid();
+
+        assertEquals(tenantId, await(submit(executor, tenantId, new CurrentTenantTask())));
+        assertFalse(TenantAware.isTenantSet());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rethrow_unchecked_failure_of_task() {
+        await(submit(executor, new Callable<Object>() {
+            @Override
+            public Object call() {
+                throw new IllegalArgumentException("Failing task");
+            }
+        }));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void rethrow_checked_failure_of_task_as_illegal_state() {
+        await(submit(executor, new Callable<Object>() {
+            @Override
+            public Object call() throws Exception {
+                throw new Exception("Failing task");
+            }
+        }));
+    }
+
+    @Test
+    public void run_nested_task_in_thread_of_submitting_task() {
+        final ExecutorService singleThread = Executors.newSingleThreadExecutor();
+        try {
+            final Callable<Thread> nested = new CurrentThreadTask();
+            final Callable<Boolean> outer = new Callable<Boolean>() {
+                @Override
+                public Boolean call() {
+                    // Would wait forever for the only thread, if submitted to the executor.
+                    final Thread nestedThread = await(submit(singleThread, nested));
+                    return nestedThread == Thread.currentThread();
+                }
+            };
+            assertTrue(await(submit(singleThread, outer)));
+            assertFalse(TenantAwareTasks.isRunningTask());
+        } finally {
+            singleThread.shutdown();
+        }
+    }
+
+    private static class CurrentThreadTask implements Callable<Thread> {
+
+        @Override
+        public Thread call() {
+            return Thread.currentThread();
+        }
+    }
+
+    private static class CurrentTenantTask implements Callable<TenantId> {
+
+        @Override
+        public TenantId call() {
+            return CurrentTenant.ensure();
+        }
+    }
+
+    private static class TenantSetTask implements Callable<Boolean> {
+
+        @Override
+        public Boolean call() {
+            return TenantAware.isTenantSet();
+        }
+    }
+}
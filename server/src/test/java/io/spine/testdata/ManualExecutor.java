@@ -0,0 +1,59 @@
+/*
+ * Copyright 2018, TeamDev Ltd. All rights reserved.
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testdata;
+
+import java.util.Queue;
+import java.util.concurrent.Executor;
+
+import static com.google.common.collect.Queues.newArrayDeque;
+
+/**
+ * An {@code Executor} which runs the submitted tasks only upon request.
+ *
+ * @author Dmytry Dyachenko
+ */
+public class ManualExecutor implements Executor {
+
+    private final Queue<Runnable> tasks = newArrayDeque();
+
+    @Override
+    public void execute(Runnable command) {
+        tasks.add(command);
+    }
+
+    /**
+     * Obtains the number of the submitted tasks which have not been run yet.
+     */
+    public int pending() {
+        return tasks.size();
+    }
+
+    /**
+     * Runs the submitted tasks including the ones submitted while running.
+     */
+    public void runAll() {
+        Runnable task = tasks.poll();
+        while (task != null) {
+            task.run();
+            task = tasks.poll();
+        }
+    }
+}